@@ -49,6 +49,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Whether each book of the model was read from its data file, rather than made up as sample or empty data
+    private boolean isAddressBookLoaded;
+    private boolean isPropertyBookLoaded;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -66,7 +70,7 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, isAddressBookLoaded, isPropertyBookLoaded);
 
         ui = new UiManager(logic);
     }
@@ -92,6 +96,7 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isAddressBookLoaded = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -105,6 +110,7 @@ public class MainApp extends Application {
                         + " populated with a sample PropertyBook.");
             }
             initialPropertyData = propertyBookOptional.orElseGet(SampleDataUtil::getSamplePropertyBook);
+            isPropertyBookLoaded = propertyBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getPropertyBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty PropertyBook.");
@@ -198,6 +204,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.saveNow();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
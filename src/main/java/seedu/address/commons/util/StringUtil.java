@@ -60,6 +60,17 @@ public class StringUtil {
         return text.toLowerCase().contains(preppedSubstring.toLowerCase());
     }
 
+    /**
+     * Returns {@code keyword} in the form that case-insensitive searches compare against: trimmed and in lower
+     * case. Normalizing a keyword that is already normalized returns the same string without copying it.
+     *
+     * @param keyword cannot be null
+     */
+    public static String normalizeKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
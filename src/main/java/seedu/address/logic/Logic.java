@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given a message for the user whenever the data of a command could not be saved.
+     * Data is saved in the background, so the handler may be called on a background thread after the command has
+     * returned.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Waits until the data of every command executed so far has been saved, or has failed to save.
+     */
+    void flush();
+
+    /**
+     * Waits until the data of every command executed so far has been saved, or has failed to save, and then saves
+     * any data that is still not saved, such as data whose save failed, before returning.
+     * @throws IOException if the data cannot be saved.
+     */
+    void saveNow() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
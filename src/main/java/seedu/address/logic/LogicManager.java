@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -21,6 +24,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.property.Property;
+import seedu.address.storage.AsyncBookWriter;
 import seedu.address.storage.Storage;
 
 
@@ -37,16 +41,26 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncBookWriter bookWriter;
     private final CommandSetParser commandParser;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
      * {@code Storage}.
+     * {@code isAddressBookLoaded} and {@code isPropertyBookLoaded} tell whether each book of the model was read
+     * from {@code storage} as it is, so that it is not saved until it changes. A book that was not, such as sample
+     * data, is saved after the first command.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, boolean isAddressBookLoaded, boolean isPropertyBookLoaded) {
         this.model = model;
-        this.storage = storage;
+        this.bookWriter = new AsyncBookWriter(storage, this::reportSaveFailure);
+        if (isAddressBookLoaded) {
+            bookWriter.markSaved(model.getAddressBook());
+        }
+        if (isPropertyBookLoaded) {
+            bookWriter.markSaved(model.getPropertyBook());
+        }
         commandParser = new UnifiedCommandParser(List.of(
                 new AddressBookParser(),
                 new PropertyBookParser()
@@ -61,18 +75,34 @@ public class LogicManager implements Logic {
         Command command = commandParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.savePropertyBook(model.getPropertyBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+        bookWriter.save(model.getAddressBook(), model.getPropertyBook());
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flush() {
+        bookWriter.flush();
+    }
+
+    @Override
+    public void saveNow() throws IOException {
+        bookWriter.saveNow(model.getAddressBook(), model.getPropertyBook());
+    }
+
+    private void reportSaveFailure(IOException e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
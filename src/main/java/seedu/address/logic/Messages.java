@@ -18,6 +18,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX = "A contact index provided is invalid";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_ID = "A contact id provided is invalid";
     public static final String MESSAGE_CONTACTS_LISTED_OVERVIEW = "%d contacts listed!";
+    public static final String MESSAGE_NEXT_PAGE = "More results: repeat the command with after/%1$s for the next page";
+    public static final String MESSAGE_STALE_CURSOR =
+            "The cursor provided is out of date, as the list has changed: repeat the command without after/";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX = "A property index provided is invalid";
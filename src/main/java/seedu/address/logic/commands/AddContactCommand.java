@@ -68,7 +68,12 @@ public class AddContactCommand extends Command {
         assert toAdd != null : "Contact to add should not be null";
 
         // Updating UUID of contact
-        Uuid uuid = model.getAddressBook().generateNextUuid();
+        Uuid uuid;
+        try {
+            uuid = model.getAddressBook().generateNextUuid();
+        } catch (IllegalStateException e) {
+            throw new CommandException(e.getMessage());
+        }
         assert uuid != null : "Generated UUID should not be null";
         Contact contactWithUuid = toAdd.duplicateWithNewUuid(uuid);
 
@@ -71,7 +71,12 @@ public class AddPropertyCommand extends Command {
         requireNonNull(model);
 
         // Updating UUID of property
-        Uuid uuid = model.getPropertyBook().generateNextUuid();
+        Uuid uuid;
+        try {
+            uuid = model.getPropertyBook().generateNextUuid();
+        } catch (IllegalStateException e) {
+            throw new CommandException(e.getMessage());
+        }
         Property propertyWithUuid = toAdd.duplicateWithNewUuid(uuid);
 
         ensureOwnerExists(model, propertyWithUuid);
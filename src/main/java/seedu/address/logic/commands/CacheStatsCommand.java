@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.util.QueryCache;
+
+/**
+ * Shows how often filter results were served from the cache of filter results.
+ */
+public class CacheStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "cachestats";
+
+    public static final String MESSAGE_SUCCESS =
+            "Filter result cache: %1$d hits, %2$d misses, %3$d of %4$d results cached";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryCache.Stats stats = model.getQueryCacheStats();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, stats.getHitCount(), stats.getMissCount(),
+                stats.getSize(), stats.getCapacity()));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_ID;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Contains utility methods used for looking up the targets of the various *Command classes.
+ */
+public class CommandUtil {
+
+    /**
+     * Returns the contacts with the given {@code contactIds}, looked up by ID in the filtered contact list
+     * of {@code model}.
+     *
+     * @throws CommandException if any contact is not in the filtered contact list.
+     */
+    public static List<Contact> getDisplayedContacts(Model model, Collection<Uuid> contactIds)
+            throws CommandException {
+        assert (model != null);
+        List<Contact> contacts = new ArrayList<>();
+        for (Uuid contactId : contactIds) {
+            Contact contact = model.getFilteredContactById(contactId);
+            if (contact == null) {
+                throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
+            }
+            contacts.add(contact);
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns the properties with the given {@code propertyIds}, looked up by ID in the filtered property list
+     * of {@code model}.
+     *
+     * @throws CommandException if any property is not in the filtered property list.
+     */
+    public static List<Property> getDisplayedProperties(Model model, Collection<Uuid> propertyIds)
+            throws CommandException {
+        assert (model != null);
+        List<Property> properties = new ArrayList<>();
+        for (Uuid propertyId : propertyIds) {
+            Property property = model.getFilteredPropertyById(propertyId);
+            if (property == null) {
+                throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+            }
+            properties.add(property);
+        }
+        return properties;
+    }
+}
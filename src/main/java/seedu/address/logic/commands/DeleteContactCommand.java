@@ -2,10 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
@@ -18,23 +19,25 @@ import seedu.address.model.uuid.Uuid;
 
 
 /**
- * Deletes a contact identified by their unique ID from the address book.
+ * Deletes one or more contacts identified by their unique IDs from the address book,
+ * together with every reference to them held by properties.
  */
 public class DeleteContactCommand extends Command {
 
     public static final String COMMAND_WORD = "deletecontact";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the contact identified by their unique UUID.\n"
-            + "Parameters: UUID\n"
-            + "Example: " + COMMAND_WORD + " 12";
+            + ": Deletes the contacts identified by their unique UUIDs.\n"
+            + "Parameters: UUID [MORE_UUIDS]...\n"
+            + "Example: " + COMMAND_WORD + " 12 13";
 
     public static final String MESSAGE_DELETE_CONTACT_SUCCESS = "Deleted Contact: %1$s";
+    public static final String MESSAGE_DELETE_CONTACTS_SUCCESS = "Deleted %1$d Contacts:\n%2$s";
     public static final String MESSAGE_CONTACT_NOT_FOUND = "No contact found with ID: %s";
 
     private static final Logger logger = LogsCenter.getLogger(DeleteContactCommand.class);
 
-    private final Uuid targetUuid;
+    private final List<Uuid> targetUuids;
 
     /**
      * Constructs a {@code DeleteContactCommand} with the specified UUID.
@@ -42,34 +45,48 @@ public class DeleteContactCommand extends Command {
      * @param targetUuid The UUID of the contact to delete.
      */
     public DeleteContactCommand(Uuid targetUuid) {
-        requireNonNull(targetUuid);
-        this.targetUuid = targetUuid;
+        this(List.of(requireNonNull(targetUuid)));
+    }
+
+    /**
+     * Constructs a {@code DeleteContactCommand} that deletes all the contacts with the specified UUIDs.
+     *
+     * @param targetUuids The UUIDs of the contacts to delete.
+     */
+    public DeleteContactCommand(List<Uuid> targetUuids) {
+        requireNonNull(targetUuids);
+        this.targetUuids = List.copyOf(targetUuids);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        assert targetUuid != null : "targetUuid should not be null";
-
-        List<Contact> lastShownList = model.getFilteredContactList();
-        assert lastShownList != null : "Filtered contact list should not be null";
-
-        Optional<Contact> contactToDelete = lastShownList.stream()
-                .filter(p -> p.getUuid().equals(targetUuid))
-                .findFirst();
-
-        if (contactToDelete.isEmpty()) {
-            logger.log(Level.WARNING, "Failed to delete contact. UUID not found: {0}", targetUuid.getValue());
-            throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, targetUuid.getValue()));
+        assert !targetUuids.isEmpty() : "targetUuids should not be empty";
+
+        List<Contact> contactsToDelete = new ArrayList<>();
+        for (Uuid targetUuid : targetUuids) {
+            Contact contact = model.getFilteredContactById(targetUuid);
+            if (contact == null) {
+                logger.log(Level.WARNING, "Failed to delete contact. UUID not found: {0}", targetUuid.getValue());
+                throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, targetUuid.getValue()));
+            }
+            contactsToDelete.add(contact);
         }
 
-        model.deleteContact(contactToDelete.get());
-        logger.log(Level.INFO, "Successfully deleted contact: {0}", contactToDelete.get().getName());
+        model.deleteContactsCascading(contactsToDelete);
+        logger.log(Level.INFO, "Successfully deleted {0} contact(s)", contactsToDelete.size());
 
         showContactsView();
 
+        if (contactsToDelete.size() == 1) {
+            return new CommandResult(String.format(
+                    MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(contactsToDelete.get(0))));
+        }
+        String deletedContacts = contactsToDelete.stream()
+                .map(Messages::format)
+                .collect(Collectors.joining("\n"));
         return new CommandResult(String.format(
-                MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(contactToDelete.get())));
+                MESSAGE_DELETE_CONTACTS_SUCCESS, contactsToDelete.size(), deletedContacts));
     }
 
     @Override
@@ -84,13 +101,13 @@ public class DeleteContactCommand extends Command {
         }
 
         DeleteContactCommand otherDeleteContactCommand = (DeleteContactCommand) other;
-        return targetUuid.equals(otherDeleteContactCommand.targetUuid);
+        return targetUuids.equals(otherDeleteContactCommand.targetUuids);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetUuid", targetUuid)
+                .add("targetUuids", targetUuids)
                 .toString();
     }
 }
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,7 +12,8 @@ import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
 /**
- * Deletes a property identified using its unique ID from the property list.
+ * Deletes a property identified using its unique ID from the property list,
+ * together with every reference to it held by contacts.
  */
 public class DeletePropertyCommand extends Command {
 
@@ -35,14 +35,12 @@ public class DeletePropertyCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Property> lastShownList = model.getFilteredPropertyList();
-
-        Property propertyToDelete = lastShownList.stream()
-                .filter(property -> property.getUuid().equals(targetPropertyId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID));
+        Property propertyToDelete = model.getFilteredPropertyById(targetPropertyId);
+        if (propertyToDelete == null) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
+        }
 
-        model.deleteProperty(propertyToDelete);
+        model.deletePropertyCascading(propertyToDelete);
 
         showPropertiesView();
 
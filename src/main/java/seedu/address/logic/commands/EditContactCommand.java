@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -82,12 +81,10 @@ public class EditContactCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> allContacts = model.getAddressBook().getContactList();
-
-        Contact contactToEdit = allContacts.stream()
-                .filter(p -> p.getUuid().equals(targetUuid))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(MESSAGE_CONTACT_NOT_FOUND));
+        Contact contactToEdit = model.getContactById(targetUuid);
+        if (contactToEdit == null) {
+            throw new CommandException(MESSAGE_CONTACT_NOT_FOUND);
+        }
 
         Contact editedContact = createEditedContact(contactToEdit, editContactDescriptor);
 
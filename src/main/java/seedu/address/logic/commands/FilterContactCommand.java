@@ -2,7 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_NEXT_PAGE;
+import static seedu.address.logic.Messages.MESSAGE_STALE_CURSOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET_MAX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET_MIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -14,12 +17,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.exceptions.StaleCursorException;
 
 /**
  * Filters and lists all contacts in the address book that match the given {@link FilterContactPredicate}.
@@ -43,12 +50,14 @@ public class FilterContactCommand extends Command {
             + "[" + PREFIX_NOTES + "NOTES] "
             + "[" + PREFIX_STATUS + "STATUS] "
             + "[" + PREFIX_LIMIT + "LIMIT] "
-            + "[" + PREFIX_OFFSET + "OFFSET]\n"
+            + "[" + PREFIX_OFFSET + "OFFSET] "
+            + "[" + PREFIX_AFTER + "CURSOR]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PHONE + "91234567 "
             + PREFIX_EMAIL + "johndoe@example.com";
 
     private final FilterContactPredicate predicate;
+    private final Optional<PageCursor> after;
 
     /**
      * Creates a {@code FilterContactCommand} with the specified filtering predicate.
@@ -57,7 +66,20 @@ public class FilterContactCommand extends Command {
      *                  in the filtered results.
      */
     public FilterContactCommand(FilterContactPredicate predicate) {
+        this(predicate, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code FilterContactCommand} with the specified filtering predicate, showing the matches after
+     * {@code after} if present instead of skipping the predicate's offset.
+     *
+     * @param predicate The predicate used to test whether a {@code Contact} should be included
+     *                  in the filtered results.
+     * @param after The cursor handed out with the previous page, if continuing from it.
+     */
+    public FilterContactCommand(FilterContactPredicate predicate, Optional<PageCursor> after) {
         this.predicate = predicate;
+        this.after = after;
     }
 
     /**
@@ -66,27 +88,28 @@ public class FilterContactCommand extends Command {
      *
      * @param model The {@link Model} in which the filtering is applied.
      * @return A {@link CommandResult} containing a summary message of the number of contacts listed.
+     * @throws CommandException If the cursor provided is out of date.
      */
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        // filter all matches normally
-        List<Contact> allMatches = model.getFilteredContactList().stream()
-                .filter(predicate)
-                .toList();
-        // Set offset and limit
-        int total = allMatches.size();
-        int offset = predicate.getOffset().orElse(0);
-        int limit = predicate.getLimit().orElse(total);
-        int start = Math.min(offset, total);
-        int endExclusive = Math.min(offset + limit, total);
+        // Fetch only the requested page of matches
+        int limit = predicate.getLimit().orElse(Integer.MAX_VALUE);
+        Page<Contact> page;
+        try {
+            page = after.isPresent()
+                    ? model.getMatchingContactsAfter(predicate, after.get(), limit)
+                    : model.getMatchingContacts(predicate, predicate.getOffset().orElse(0), limit);
+        } catch (StaleCursorException e) {
+            throw new CommandException(MESSAGE_STALE_CURSOR);
+        }
 
         // Update filtered list to display only this page
-        List<Contact> page = allMatches.subList(start, endExclusive);
-        model.updateFilteredContactList(page::contains);
+        model.updateFilteredContactList(predicate, page.getItems());
 
-        // Build output message (e.g., “12 properties matched”)
-        String msg = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, page.size());
+        // Build output message (e.g., “12 contacts listed!”), with the cursor to the next page if there is one
+        String msg = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, page.getItems().size())
+                + page.getNextCursor().map(cursor -> "\n" + String.format(MESSAGE_NEXT_PAGE, cursor)).orElse("");
 
         showContactsView();
 
@@ -95,10 +118,10 @@ public class FilterContactCommand extends Command {
 
     /**
      * Checks whether another object is equal to this {@code FilterContactCommand}.
-     * Equality is defined based on the equality of their {@link FilterContactPredicate}.
+     * Equality is defined based on the equality of their {@link FilterContactPredicate} and page cursor.
      *
      * @param other The object to compare with.
-     * @return True if both objects are the same or have equivalent predicates; false otherwise.
+     * @return True if both objects are the same or have equivalent predicates and cursors; false otherwise.
      */
     @Override
     public boolean equals(Object other) {
@@ -112,7 +135,8 @@ public class FilterContactCommand extends Command {
         }
 
         FilterContactCommand otherFilterContactCommand = (FilterContactCommand) other;
-        return predicate.equals(otherFilterContactCommand.predicate);
+        return predicate.equals(otherFilterContactCommand.predicate)
+                && after.equals(otherFilterContactCommand.after);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_NEXT_PAGE;
+import static seedu.address.logic.Messages.MESSAGE_STALE_CURSOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
@@ -14,12 +17,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 
-import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.exceptions.StaleCursorException;
 
 /**
  * Filters properties using various optional attributes with pagination.
@@ -42,7 +48,8 @@ public class FilterPropertyCommand extends Command {
             + "[" + PREFIX_PROPERTY_LISTING + "LISTING] "
             + "[" + PREFIX_PROPERTY_OWNER + "CONTACT_ID] "
             + "[" + PREFIX_LIMIT + "LIMIT] "
-            + "[" + PREFIX_OFFSET + "OFFSET]\n"
+            + "[" + PREFIX_OFFSET + "OFFSET] "
+            + "[" + PREFIX_AFTER + "CURSOR]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PROPERTY_POSTAL + "123000 "
             + PREFIX_PROPERTY_BEDROOM + "2 "
@@ -52,18 +59,31 @@ public class FilterPropertyCommand extends Command {
 
     public static final String MESSAGE_INVALID_LIMIT = "Error: Invalid limit";
     public static final String MESSAGE_INVALID_OFFSET = "Error: Invalid offset";
+    public static final String MESSAGE_OFFSET_WITH_CURSOR = "Error: Use either an offset or a cursor, not both";
+    public static final String MESSAGE_CURSOR_PAGE = "Showing %d matching properties after %s";
 
     private final PropertyMatchesFilterPredicate predicate;
     private final int limit;
     private final int offset;
+    private final Optional<PageCursor> after;
 
     /**
      * Creates an FilterPropertyCommand to filter {@code Property} with given predicate.
      */
     public FilterPropertyCommand(PropertyMatchesFilterPredicate predicate, int limit, int offset) {
+        this(predicate, limit, offset, Optional.empty());
+    }
+
+    /**
+     * Creates an FilterPropertyCommand to filter {@code Property} with given predicate, showing the matches after
+     * {@code after} if present instead of skipping {@code offset} matches.
+     */
+    public FilterPropertyCommand(PropertyMatchesFilterPredicate predicate, int limit, int offset,
+            Optional<PageCursor> after) {
         this.predicate = predicate;
         this.limit = limit;
         this.offset = offset;
+        this.after = after;
     }
 
     @Override
@@ -77,21 +97,30 @@ public class FilterPropertyCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_OFFSET);
         }
 
-        List<Property> allMatches = model.getFilteredPropertyList().stream()
-                .filter(predicate)
-                .toList();
-
-        int total = allMatches.size();
-        int start = Math.min(offset, total);
-        int endExclusive = Math.min(offset + limit, total);
-        List<Property> page = allMatches.subList(start, endExclusive);
-
-        model.updateFilteredPropertyList(page::contains);
+        String msg;
+        Page<Property> page;
+        if (after.isPresent()) {
+            // Continuing from a cursor does not count the matches, so that the page costs only what it shows
+            try {
+                page = model.getMatchingPropertiesAfter(predicate, after.get(), limit);
+            } catch (StaleCursorException e) {
+                throw new CommandException(MESSAGE_STALE_CURSOR);
+            }
+            msg = String.format(MESSAGE_CURSOR_PAGE, page.getItems().size(), after.get());
+        } else {
+            int total = model.countMatchingProperties(predicate);
+            page = model.getMatchingProperties(predicate, offset, limit);
+            int start = Math.min(offset, total);
+            int endExclusive = start + page.getItems().size();
+
+            // Build “X properties matched (showing i–j)”
+            int from = total == 0 ? 0 : start + 1;
+            int to = total == 0 ? 0 : endExclusive;
+            msg = String.format("%d properties matched (showing %d–%d)", total, from, to);
+        }
+        msg += page.getNextCursor().map(cursor -> "\n" + String.format(MESSAGE_NEXT_PAGE, cursor)).orElse("");
 
-        // Build “X properties matched (showing i–j)”
-        int from = total == 0 ? 0 : start + 1;
-        int to = total == 0 ? 0 : endExclusive;
-        String msg = String.format("%d properties matched (showing %d–%d)", total, from, to);
+        model.updateFilteredPropertyList(predicate, page.getItems());
 
         showPropertiesView();
 
@@ -104,6 +133,7 @@ public class FilterPropertyCommand extends Command {
                 || (other instanceof FilterPropertyCommand
                 && predicate.equals(((FilterPropertyCommand) other).predicate)
                 && limit == ((FilterPropertyCommand) other).limit
-                && offset == ((FilterPropertyCommand) other).offset);
+                && offset == ((FilterPropertyCommand) other).offset
+                && after.equals(((FilterPropertyCommand) other).after));
     }
 }
@@ -1,13 +1,14 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_ID;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedContacts;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedProperties;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK_RELATIONSHIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ID;
+import static seedu.address.model.link.LinkType.BUYER;
+import static seedu.address.model.link.LinkType.SELLER;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -20,7 +21,9 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Transaction;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
@@ -62,21 +65,17 @@ public class LinkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> lastShownContactList = model.getFilteredContactList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
+        List<Contact> targetContacts = getDisplayedContacts(model, linkDescriptor.getContactIds());
+        List<Property> targetProperties = getDisplayedProperties(model, linkDescriptor.getPropertyIds());
 
-        linkDescriptor.throwExceptionIfLinked(lastShownContactList, lastShownPropertyList);
+        linkDescriptor.throwExceptionIfLinked(model.getLinkGraph());
 
-        List<Contact> targetContacts = linkDescriptor.getContactsInList(lastShownContactList);
-        List<Property> targetProperties = linkDescriptor.getPropertiesInList(lastShownPropertyList);
+        List<Contact> updatedContacts = linkDescriptor.getUpdatedContacts(targetContacts);
+        List<Property> updatedProperties = linkDescriptor.getUpdatedProperties(targetProperties);
 
-        List<Contact> updatedContacts = linkDescriptor.getUpdatedContacts(lastShownContactList);
-        List<Property> updatedProperties = linkDescriptor.getUpdatedProperties(lastShownPropertyList);
-
-        Stream.iterate(0, x -> x < targetContacts.size(), x -> x + 1)
-                .forEach(i -> model.setContact(targetContacts.get(i), updatedContacts.get(i)));
-        Stream.iterate(0, x -> x < targetProperties.size(), x -> x + 1)
-                .forEach(i -> model.setProperty(targetProperties.get(i), updatedProperties.get(i)));
+        model.commit(new Transaction()
+                .setContacts(targetContacts, updatedContacts)
+                .setProperties(targetProperties, updatedProperties));
 
         logger.log(Level.FINER, "Successfully linked contacts to properties as {0}",
                 linkDescriptor.getRelationship());
@@ -158,46 +157,13 @@ public class LinkCommand extends Command {
             return relationship;
         }
 
-        /**
-         * Returns the {@code List<Contact>} in the list with all matching contactIds.
-         *
-         * @throws CommandException if any contact is not found in the list.
-         */
-        public List<Contact> getContactsInList(List<Contact> contactList) throws CommandException {
-            assert (contactList != null);
-            List<Contact> contactsList = new ArrayList<>(contactList).stream()
-                    .filter(contact -> contactIds.contains(contact.getUuid()))
-                    .collect(Collectors.toList());
-            if (contactsList.size() != contactIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
-            }
-            return contactsList;
-        }
-
-        /**
-         * Returns the {@code List<Property>} in the list with the matching propertyId.
-         *
-         * @throws CommandException if any property is not found in the list.
-         */
-        public List<Property> getPropertiesInList(List<Property> propertyList) throws CommandException {
-            assert (propertyList != null);
-            List<Property> propertiesList = new ArrayList<>(propertyList).stream()
-                    .filter(property -> propertyIds.contains(property.getUuid()))
-                    .collect(Collectors.toList());
-            if (propertiesList.size() != propertyIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
-            }
-            return propertiesList;
-        }
-
         /**
          * Returns an edited {@code List<Contact>} with the properties linked.
          *
          * @throws CommandException if the relationship is invalid.
          */
-        public List<Contact> getUpdatedContacts(List<Contact> contactList) throws CommandException {
+        public List<Contact> getUpdatedContacts(List<Contact> contactsToEdit) throws CommandException {
             assert (relationship != null);
-            List<Contact> contactsToEdit = new ArrayList<>(getContactsInList(contactList));
             switch (relationship) {
             case "buyer":
                 return contactsToEdit.stream()
@@ -225,10 +191,9 @@ public class LinkCommand extends Command {
          *
          * @throws CommandException if the relationship is invalid.
          */
-        public List<Property> getUpdatedProperties(List<Property> propertyList)
+        public List<Property> getUpdatedProperties(List<Property> propertiesToEdit)
                 throws CommandException {
             assert (relationship != null);
-            List<Property> propertiesToEdit = new ArrayList<>(getPropertiesInList(propertyList));
             switch (relationship) {
             case "buyer":
                 return propertiesToEdit.stream()
@@ -252,24 +217,23 @@ public class LinkCommand extends Command {
         }
 
         /**
+         * Checks the links of each contact in {@code linkGraph}, so the cost grows with the contacts' links and
+         * not with the size of either book.
+         *
          * @throws CommandException if any of the related contacts and properties are already linked.
          */
-        public void throwExceptionIfLinked(List<Contact> contactList, List<Property> propertyList)
-                throws CommandException {
-            List<Contact> filteredContacts = new ArrayList<>(getContactsInList(contactList));
-            List<Property> filteredProperties = new ArrayList<>(getPropertiesInList(propertyList));
-            boolean hasAnyContactLinkedAsBuyer = filteredContacts.stream()
-                    .anyMatch(contact -> !Collections.disjoint(propertyIds, contact.getBuyingPropertyIds()));
-            boolean hasAnyContactLinkedAsSeller = filteredContacts.stream()
-                    .anyMatch(contact -> !Collections.disjoint(propertyIds, contact.getSellingPropertyIds()));
-            boolean hasAnyPropertyLinkedByBuyer = filteredProperties.stream()
-                    .anyMatch(property -> !Collections.disjoint(contactIds, property.getBuyingContactIds()));
-            boolean hasAnyPropertyLinkedBySeller = filteredProperties.stream()
-                    .anyMatch(property -> !Collections.disjoint(contactIds, property.getSellingContactIds()));
-            if (hasAnyContactLinkedAsBuyer || hasAnyPropertyLinkedByBuyer) {
+        public void throwExceptionIfLinked(ReadOnlyLinkGraph linkGraph) throws CommandException {
+            assert (linkGraph != null);
+            boolean hasAnyLinkAsBuyer = contactIds.stream()
+                    .anyMatch(contactId -> !Collections.disjoint(propertyIds,
+                            linkGraph.getPropertyIds(contactId, BUYER)));
+            boolean hasAnyLinkAsSeller = contactIds.stream()
+                    .anyMatch(contactId -> !Collections.disjoint(propertyIds,
+                            linkGraph.getPropertyIds(contactId, SELLER)));
+            if (hasAnyLinkAsBuyer) {
                 throw new CommandException(Messages.MESSAGE_LINKING_ALREADY_LINKED_BUYER);
             }
-            if (hasAnyContactLinkedAsSeller || hasAnyPropertyLinkedBySeller) {
+            if (hasAnyLinkAsSeller) {
                 throw new CommandException(Messages.MESSAGE_LINKING_ALREADY_LINKED_SELLER);
             }
         }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.MarkUnsoldCommand.getInvalidPropertyIdsMessage;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ID;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -64,7 +66,8 @@ public class MarkSoldCommand extends Command {
 
         }
 
-        int count = 0;
+        List<Property> targets = new ArrayList<>();
+        List<Property> updatedProperties = new ArrayList<>();
         for (Uuid id : propertyIds) {
             Property property = model.getPropertyById(id);
             Property updated = new Property(
@@ -76,19 +79,20 @@ public class MarkSoldCommand extends Command {
                     property.getListing(),
                     property.getPostal(),
                     property.getPrice(),
-                    new Status("unavailable"),
+                    Status.of("unavailable"),
                     property.getType(),
                     property.getOwner(),
                     property.getBuyingContactIds(),
                     property.getSellingContactIds()
             );
-            model.setProperty(property, updated);
-            count++;
+            targets.add(property);
+            updatedProperties.add(updated);
         }
+        model.setProperties(targets, updatedProperties);
 
         showPropertiesView();
 
-        return new CommandResult(String.format(MESSAGE_MARK_SOLD_SUCCESS, count));
+        return new CommandResult(String.format(MESSAGE_MARK_SOLD_SUCCESS, targets.size()));
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ID;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -64,7 +66,8 @@ public class MarkUnsoldCommand extends Command {
             throw new CommandException(invalidIdsMessage);
         }
 
-        int count = 0;
+        List<Property> targets = new ArrayList<>();
+        List<Property> updatedProperties = new ArrayList<>();
         for (Uuid id : propertyIds) {
             Property property = model.getPropertyById(id);
             Property updated = new Property(
@@ -76,19 +79,20 @@ public class MarkUnsoldCommand extends Command {
                     property.getListing(),
                     property.getPostal(),
                     property.getPrice(),
-                    new Status("available"),
+                    Status.of("available"),
                     property.getType(),
                     property.getOwner(),
                     property.getBuyingContactIds(),
                     property.getSellingContactIds()
             );
-            model.setProperty(property, updated);
-            count++;
+            targets.add(property);
+            updatedProperties.add(updated);
         }
+        model.setProperties(targets, updatedProperties);
 
         showPropertiesView();
 
-        return new CommandResult(String.format(MESSAGE_MARK_UNSOLD_SUCCESS, count));
+        return new CommandResult(String.format(MESSAGE_MARK_UNSOLD_SUCCESS, targets.size()));
     }
 
     @Override
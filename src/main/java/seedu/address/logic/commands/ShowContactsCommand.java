@@ -45,9 +45,9 @@ public class ShowContactsCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Create predicate using all properties in the model
+        // Look up the property's neighbours in the link graph instead of scanning every property
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(propertyUuid, model.getPropertyBook().getPropertyList());
+                new AssociatedWithPropertyPredicate(propertyUuid, model.getLinkGraph());
         model.updateFilteredContactList(predicate);
 
         // Switch view to show contacts
@@ -49,8 +49,9 @@ public class ShowPropertiesCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Filter properties where owner matches the contact UUID
-        AssociatedWithContactPredicate predicate = new AssociatedWithContactPredicate(contactUuid);
+        // Filter properties to the contact's neighbours in the link graph
+        AssociatedWithContactPredicate predicate =
+                new AssociatedWithContactPredicate(contactUuid, model.getLinkGraph());
         model.updateFilteredPropertyList(predicate);
 
         //Toggle from contacts list to property list
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.contact.ContactSortKey;
+
+/**
+ * Sorts the contacts shown by name or by ID.
+ */
+public class SortContactCommand extends Command {
+
+    public static final String COMMAND_WORD = "sortcontact";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the contacts shown. The list stays sorted as contacts are added, edited and filtered.\n"
+            + "Parameters: name|id\n"
+            + "Example: " + COMMAND_WORD + " name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted contacts by %1$s";
+
+    private final ContactSortKey sortKey;
+
+    /**
+     * Creates a SortContactCommand to sort the contacts shown by {@code sortKey}.
+     */
+    public SortContactCommand(ContactSortKey sortKey) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredContactList(sortKey);
+        showContactsView();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SortContactCommand
+                && sortKey == ((SortContactCommand) other).sortKey);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKey", sortKey)
+                .toString();
+    }
+}
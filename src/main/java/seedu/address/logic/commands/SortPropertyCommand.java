@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.property.PropertySortKey;
+
+/**
+ * Sorts the properties shown by price, floor area or ID.
+ */
+public class SortPropertyCommand extends Command {
+
+    public static final String COMMAND_WORD = "sortproperty";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the properties shown, from lowest to highest. "
+            + "The list stays sorted as properties are added, edited and filtered.\n"
+            + "Parameters: price|floorarea|id\n"
+            + "Example: " + COMMAND_WORD + " price";
+
+    public static final String MESSAGE_SUCCESS = "Sorted properties by %1$s";
+
+    private final PropertySortKey sortKey;
+
+    /**
+     * Creates a SortPropertyCommand to sort the properties shown by {@code sortKey}.
+     */
+    public SortPropertyCommand(PropertySortKey sortKey) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPropertyList(sortKey);
+        showPropertiesView();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SortPropertyCommand
+                && sortKey == ((SortPropertyCommand) other).sortKey);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKey", sortKey)
+                .toString();
+    }
+}
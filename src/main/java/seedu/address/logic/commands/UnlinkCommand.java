@@ -1,25 +1,27 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_ID;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedContacts;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedProperties;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ID;
+import static seedu.address.model.link.LinkType.BUYER;
+import static seedu.address.model.link.LinkType.SELLER;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Transaction;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
@@ -57,21 +59,17 @@ public class UnlinkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Contact> lastShownContactList = model.getFilteredContactList();
-        List<Property> lastShownPropertyList = model.getFilteredPropertyList();
+        List<Contact> targetContacts = getDisplayedContacts(model, unlinkDescriptor.getContactIds());
+        List<Property> targetProperties = getDisplayedProperties(model, unlinkDescriptor.getPropertyIds());
 
-        unlinkDescriptor.throwExceptionIfUnlinked(lastShownContactList, lastShownPropertyList);
+        unlinkDescriptor.throwExceptionIfUnlinked(model.getLinkGraph());
 
-        List<Contact> targetContacts = unlinkDescriptor.getContactsInList(lastShownContactList);
-        List<Property> targetProperties = unlinkDescriptor.getPropertiesInList(lastShownPropertyList);
+        List<Contact> updatedContacts = unlinkDescriptor.getUpdatedContacts(targetContacts);
+        List<Property> updatedProperties = unlinkDescriptor.getUpdatedProperties(targetProperties);
 
-        List<Contact> updatedContacts = unlinkDescriptor.getUpdatedContacts(lastShownContactList);
-        List<Property> updatedProperties = unlinkDescriptor.getUpdatedProperties(lastShownPropertyList);
-
-        Stream.iterate(0, x -> x < targetContacts.size(), x -> x + 1)
-                .forEach(i -> model.setContact(targetContacts.get(i), updatedContacts.get(i)));
-        Stream.iterate(0, x -> x < targetProperties.size(), x -> x + 1)
-                .forEach(i -> model.setProperty(targetProperties.get(i), updatedProperties.get(i)));
+        model.commit(new Transaction()
+                .setContacts(targetContacts, updatedContacts)
+                .setProperties(targetProperties, updatedProperties));
 
         logger.log(Level.FINER, "Successfully unlinked contacts and properties");
 
@@ -133,44 +131,11 @@ public class UnlinkCommand extends Command {
             return propertyIds;
         }
 
-        /**
-         * Returns the {@code List<Contact>} in the list with all matching contactIds.
-         *
-         * @throws CommandException if any contact is not found in the list.
-         */
-        public List<Contact> getContactsInList(List<Contact> contactList) throws CommandException {
-            assert (contactList != null);
-            List<Contact> contactsList = new ArrayList<>(contactList).stream()
-                    .filter(contact -> contactIds.contains(contact.getUuid()))
-                    .collect(Collectors.toList());
-            if (contactsList.size() != contactIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_CONTACT_DISPLAYED_ID);
-            }
-            return contactsList;
-        }
-
-        /**
-         * Returns the {@code List<Property>} in the list with the matching propertyId.
-         *
-         * @throws CommandException if any property is not found in the list.
-         */
-        public List<Property> getPropertiesInList(List<Property> propertyList) throws CommandException {
-            assert (propertyList != null);
-            List<Property> propertiesList = new ArrayList<>(propertyList).stream()
-                    .filter(property -> propertyIds.contains(property.getUuid()))
-                    .collect(Collectors.toList());
-            if (propertiesList.size() != propertyIds.size()) {
-                throw new CommandException(MESSAGE_INVALID_PROPERTY_DISPLAYED_ID);
-            }
-            return propertiesList;
-        }
-
         /**
          * Returns an edited {@code List<Contact>} with the properties unlinked.
          */
-        public List<Contact> getUpdatedContacts(List<Contact> contactList) throws CommandException {
-            List<Contact> contactsToEdit = getContactsInList(contactList);
-            return new ArrayList<>(contactsToEdit).stream()
+        public List<Contact> getUpdatedContacts(List<Contact> contactsToEdit) {
+            return contactsToEdit.stream()
                     .map(contactToEdit -> contactToEdit
                     .duplicateWithNewBuyingPropertyIds(
                     contactToEdit.getBuyingPropertyIds().stream().filter(id -> !propertyIds.contains(id))
@@ -184,9 +149,8 @@ public class UnlinkCommand extends Command {
         /**
          * Returns an edited {@code List<Property>} with the contacts unlinked.
          */
-        public List<Property> getUpdatedProperties(List<Property> propertyList) throws CommandException {
-            List<Property> propertiesToEdit = getPropertiesInList(propertyList);
-            return new ArrayList<>(propertiesToEdit).stream()
+        public List<Property> getUpdatedProperties(List<Property> propertiesToEdit) {
+            return propertiesToEdit.stream()
                     .map(propertyToEdit -> propertyToEdit
                     .duplicateWithNewBuyingContactIds(
                     propertyToEdit.getBuyingContactIds().stream().filter(id -> !contactIds.contains(id))
@@ -198,18 +162,19 @@ public class UnlinkCommand extends Command {
         }
 
         /**
+         * Checks the links of each contact and property in {@code linkGraph}, so the cost grows with their links
+         * and not with the size of either book.
+         *
          * @throws CommandException if any of the related contacts and properties are already unlinked.
          */
-        public void throwExceptionIfUnlinked(List<Contact> contactList, List<Property> propertyList)
-                throws CommandException {
-            List<Contact> filteredContacts = new ArrayList<>(getContactsInList(contactList));
-            List<Property> filteredProperties = new ArrayList<>(getPropertiesInList(propertyList));
-            boolean hasAnyContactUnlinked = filteredContacts.stream()
-                    .anyMatch(contact -> Collections.disjoint(propertyIds, contact.getBuyingPropertyIds())
-                            && Collections.disjoint(propertyIds, contact.getSellingPropertyIds()));
-            boolean hasAnyPropertyUnlinked = filteredProperties.stream()
-                    .anyMatch(property -> Collections.disjoint(contactIds, property.getBuyingContactIds())
-                            && Collections.disjoint(contactIds, property.getSellingContactIds()));
+        public void throwExceptionIfUnlinked(ReadOnlyLinkGraph linkGraph) throws CommandException {
+            assert (linkGraph != null);
+            boolean hasAnyContactUnlinked = contactIds.stream()
+                    .anyMatch(contactId -> Collections.disjoint(propertyIds, linkGraph.getPropertyIds(contactId, BUYER))
+                            && Collections.disjoint(propertyIds, linkGraph.getPropertyIds(contactId, SELLER)));
+            boolean hasAnyPropertyUnlinked = propertyIds.stream()
+                    .anyMatch(propertyId -> Collections.disjoint(contactIds, linkGraph.getContactIds(propertyId, BUYER))
+                            && Collections.disjoint(contactIds, linkGraph.getContactIds(propertyId, SELLER)));
             if (hasAnyContactUnlinked || hasAnyPropertyUnlinked) {
                 throw new CommandException(Messages.MESSAGE_UNLINKING_ALREADY_UNLINKED);
             }
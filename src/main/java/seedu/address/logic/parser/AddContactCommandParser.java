@@ -70,7 +70,7 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
         Set<Uuid> emptySellingPropertyIds = new HashSet<>();
 
         // Validate budget range
-        if (Long.parseLong(budgetMax.toString()) < Long.parseLong(budgetMin.toString())) {
+        if (budgetMax.getNumericValue() < budgetMin.getNumericValue()) {
             throw new ParseException(BUDGET_MAX_MORE_THAN_MIN_ERROR);
         }
 
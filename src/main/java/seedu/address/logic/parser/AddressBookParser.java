@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteContactCommand;
@@ -19,6 +20,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ShowContactsCommand;
+import seedu.address.logic.commands.SortContactCommand;
 import seedu.address.logic.commands.UnlinkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
@@ -82,6 +84,9 @@ public class AddressBookParser implements CommandSetParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case CacheStatsCommand.COMMAND_WORD:
+            return new CacheStatsCommand();
+
         case LinkCommand.COMMAND_WORD:
             return new LinkCommandParser().parse(arguments);
 
@@ -91,6 +96,9 @@ public class AddressBookParser implements CommandSetParser {
         case ShowContactsCommand.COMMAND_WORD:
             return new ShowContactsCommandParser().parse(arguments);
 
+        case SortContactCommand.COMMAND_WORD:
+            return new SortContactCommandParser().parse(arguments);
+
         default:
             throw new UnknownCommandParseException(MESSAGE_UNKNOWN_COMMAND);
         }
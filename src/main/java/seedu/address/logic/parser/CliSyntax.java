@@ -17,6 +17,7 @@ public class CliSyntax {
     public static final String PREFIX_STATUS_RAW = "s/";
     public static final String PREFIX_LIMIT_RAW = "limit/";
     public static final String PREFIX_OFFSET_RAW = "offset/";
+    public static final String PREFIX_AFTER_RAW = "after/";
 
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix(PREFIX_NAME_RAW); // name
@@ -30,6 +31,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_STATUS = new Prefix(PREFIX_STATUS_RAW); // status
     public static final Prefix PREFIX_LIMIT = new Prefix(PREFIX_LIMIT_RAW); // limit
     public static final Prefix PREFIX_OFFSET = new Prefix(PREFIX_OFFSET_RAW); // offset for filtering
+    public static final Prefix PREFIX_AFTER = new Prefix(PREFIX_AFTER_RAW); // cursor for filtering
 
 
     /* Prefix definitions for property */
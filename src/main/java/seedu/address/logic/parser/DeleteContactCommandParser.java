@@ -2,6 +2,10 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.uuid.Uuid;
@@ -14,14 +18,20 @@ public class DeleteContactCommandParser implements Parser<DeleteContactCommand>
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteContactCommand
      * and returns a DeleteContactCommand object for execution.
+     * Several space-separated IDs may be given to delete several contacts at once.
      *
      * @throws ParseException if the user input does not conform to the expected format.
      */
     @Override
     public DeleteContactCommand parse(String args) throws ParseException {
         try {
-            Uuid id = ParserUtil.parseContactId(args);
-            return new DeleteContactCommand(id);
+            String trimmedArgs = args.trim();
+            // Repeated IDs are dropped so that each contact is only deleted once
+            Set<Uuid> ids = new LinkedHashSet<>();
+            for (String id : trimmedArgs.split("\\s+")) {
+                ids.add(ParserUtil.parseContactId(id));
+            }
+            return new DeleteContactCommand(new ArrayList<>(ids));
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE), pe);
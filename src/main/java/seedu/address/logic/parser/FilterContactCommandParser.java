@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET_MAX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET_MAX_RAW;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET_MIN;
@@ -21,9 +22,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FilterContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.util.PageCursor;
 
 /**
  * Parses input arguments and creates a new {@link FilterContactCommand}.
@@ -40,6 +43,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
     private static final String LIMIT_PARSE_ERROR = "Invalid number for limit: ";
     private static final String INVALID_OFFSET_ERROR = "Offset cannot be negative.";
     private static final String OFFSET_PARSE_ERROR = "Invalid number for offset: ";
+    private static final String OFFSET_WITH_CURSOR_ERROR = "Use either an offset or a cursor, not both.";
 
     // Define the set of allowed prefixes
     private static final Set<Prefix> VALID_PREFIXES = new HashSet<>(Arrays.asList(
@@ -47,7 +51,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
             PREFIX_ADDRESS, PREFIX_TAG,
             PREFIX_BUDGET_MIN, PREFIX_BUDGET_MAX,
             PREFIX_NOTES, PREFIX_STATUS,
-            PREFIX_LIMIT, PREFIX_OFFSET
+            PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_AFTER
     ));
 
     /**
@@ -75,6 +79,13 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
 
         Optional<Integer> limit = parseLimit(argMultimap.getValue(PREFIX_LIMIT));
         Optional<Integer> offset = parseOffset(argMultimap.getValue(PREFIX_OFFSET));
+        Optional<PageCursor> after = Optional.empty();
+        if (argMultimap.getValue(PREFIX_AFTER).isPresent()) {
+            if (offset.isPresent()) {
+                throw new ParseException(OFFSET_WITH_CURSOR_ERROR);
+            }
+            after = Optional.of(ParserUtil.parsePageCursor(argMultimap.getValue(PREFIX_AFTER).get()));
+        }
 
         Optional<Long> budgetMin = Optional.empty();
         if (argMultimap.getValue(PREFIX_BUDGET_MIN).isPresent()) {
@@ -101,7 +112,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
                 offset
         );
 
-        return new FilterContactCommand(predicate);
+        return new FilterContactCommand(predicate, after);
     }
 
     /**
@@ -110,7 +121,8 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
      *
      * @param value  The optional string value.
      * @param prefix The prefix indicating how to validate each keyword.
-     * @return An {@link Optional} containing a list of validated keywords or empty if no input.
+     * @return An {@link Optional} containing a list of validated keywords, normalized for case-insensitive
+     *         matching, or empty if no input.
      * @throws ParseException If any keyword is invalid for the given prefix.
      */
     private Optional<List<String>> getKeywords(Optional<String> value, Prefix prefix) throws ParseException {
@@ -160,7 +172,7 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
             }
         }
 
-        return Optional.of(keywords);
+        return Optional.of(keywords.stream().map(StringUtil::normalizeKeyword).toList());
     }
 
     /**
@@ -176,10 +188,10 @@ public class FilterContactCommandParser implements Parser<FilterContactCommand>
     private Long parseMinOrMax(String value, Prefix prefix) throws ParseException {
         switch (prefix.getPrefix()) {
         case PREFIX_BUDGET_MIN_RAW:
-            return Long.parseLong(ParserUtil.parseBudgetMin(value).toString());
+            return ParserUtil.parseBudgetMin(value).getNumericValue();
 
         case PREFIX_BUDGET_MAX_RAW:
-            return Long.parseLong(ParserUtil.parseBudgetMax(value).toString());
+            return ParserUtil.parseBudgetMax(value).getNumericValue();
 
         default:
             throw new ParseException(INTEGER_PARSE_ERROR + prefix);
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
@@ -15,6 +16,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 
 import java.util.Optional;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FilterPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.property.Bathroom;
@@ -28,6 +30,7 @@ import seedu.address.model.property.PropertyAddress;
 import seedu.address.model.property.Status;
 import seedu.address.model.property.Type;
 import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.PageCursor;
 
 /**
  * Parses input arguments and creates a new FilterPropertyCommand object.
@@ -45,12 +48,12 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_PROPERTY_ADDRESS, PREFIX_PROPERTY_POSTAL, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_BEDROOM,
                 PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA, PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_STATUS,
-                PREFIX_PROPERTY_OWNER, PREFIX_PROPERTY_LISTING, PREFIX_LIMIT, PREFIX_OFFSET);
+                PREFIX_PROPERTY_OWNER, PREFIX_PROPERTY_LISTING, PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_AFTER);
 
         argMultimap.verifyNoDuplicatePrefixesFor(
                 PREFIX_PROPERTY_ADDRESS, PREFIX_PROPERTY_POSTAL, PREFIX_PROPERTY_TYPE, PREFIX_PROPERTY_BEDROOM,
                 PREFIX_PROPERTY_BATHROOM, PREFIX_PROPERTY_FLOOR_AREA, PREFIX_PROPERTY_PRICE, PREFIX_PROPERTY_STATUS,
-                PREFIX_PROPERTY_OWNER, PREFIX_PROPERTY_LISTING, PREFIX_LIMIT, PREFIX_OFFSET
+                PREFIX_PROPERTY_OWNER, PREFIX_PROPERTY_LISTING, PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_AFTER
         );
 
         PropertyMatchesFilterPredicate.Builder builder = new PropertyMatchesFilterPredicate.Builder();
@@ -61,7 +64,7 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
             if (!PropertyAddress.isValidPropertyAddress(t)) {
                 throw new ParseException("Invalid address. Provide 5-200 chars with at least one letter and one digit");
             }
-            builder.withAddress(t);
+            builder.withAddress(StringUtil.normalizeKeyword(t));
         }
 
         Optional<String> maybePostal = argMultimap.getValue(PREFIX_PROPERTY_POSTAL);
@@ -80,7 +83,7 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
                 throw new ParseException("Error: Invalid type (Allowed: hdb, condo, "
                         + "landed, apartment, office or others)");
             }
-            builder.withType(t);
+            builder.withType(StringUtil.normalizeKeyword(t));
         }
 
         Optional<String> maybeBedroom = argMultimap.getValue(PREFIX_PROPERTY_BEDROOM);
@@ -134,7 +137,7 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
             if (!Owner.isValidOwner(t)) {
                 throw new ParseException("Error: Invalid owner");
             }
-            builder.withOwner(t);
+            builder.withOwner(StringUtil.normalizeKeyword(t));
         }
 
         Optional<String> maybeListing = argMultimap.getValue(PREFIX_PROPERTY_LISTING);
@@ -162,6 +165,14 @@ public class FilterPropertyCommandParser implements Parser<FilterPropertyCommand
             throw new ParseException(FilterPropertyCommand.MESSAGE_INVALID_OFFSET);
         }
 
-        return new FilterPropertyCommand(builder.build(), limit, offset);
+        Optional<PageCursor> after = Optional.empty();
+        if (argMultimap.getValue(PREFIX_AFTER).isPresent()) {
+            if (argMultimap.getValue(PREFIX_OFFSET).isPresent()) {
+                throw new ParseException(FilterPropertyCommand.MESSAGE_OFFSET_WITH_CURSOR);
+            }
+            after = Optional.of(ParserUtil.parsePageCursor(argMultimap.getValue(PREFIX_AFTER).get()));
+        }
+
+        return new FilterPropertyCommand(builder.build(), limit, offset, after);
     }
 }
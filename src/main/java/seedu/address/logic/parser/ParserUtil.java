@@ -30,6 +30,7 @@ import seedu.address.model.property.Price;
 import seedu.address.model.property.PropertyAddress;
 import seedu.address.model.property.Status;
 import seedu.address.model.property.Type;
+import seedu.address.model.util.PageCursor;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -73,7 +74,7 @@ public class ParserUtil {
         if (!StringUtil.isNonZeroUnsignedInteger(trimmedContactId)) {
             throw new ParseException(MESSAGE_INVALID_UUID);
         }
-        return new Uuid(Integer.parseInt(trimmedContactId), CONTACT);
+        return Uuid.of(Integer.parseInt(trimmedContactId), CONTACT);
     }
 
     /**
@@ -120,6 +121,21 @@ public class ParserUtil {
         return new Phone(trimmedPhone);
     }
 
+    /**
+     * Parses a {@code String cursor} into a {@code PageCursor}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code cursor} is invalid.
+     */
+    public static PageCursor parsePageCursor(String cursor) throws ParseException {
+        requireNonNull(cursor);
+        String trimmedCursor = cursor.trim();
+        if (!PageCursor.isValidCursor(trimmedCursor)) {
+            throw new ParseException(PageCursor.MESSAGE_CONSTRAINTS);
+        }
+        return PageCursor.parse(trimmedCursor);
+    }
+
     /**
      * Returns a non-null string value by replacing {@code null} inputs with {@code defaultValue}.
      * <p>
@@ -173,7 +189,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(String.format(Tag.MESSAGE_CONSTRAINTS, trimmedTag));
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -241,7 +257,7 @@ public class ParserUtil {
         if (!ContactStatus.isValidStatus(trimmedStatus)) {
             throw new ParseException(String.format(ContactStatus.MESSAGE_CONSTRAINTS, trimmedStatus));
         }
-        return new ContactStatus(trimmedStatus);
+        return ContactStatus.of(trimmedStatus);
     }
     // ================ Property parsing methods ================
 
@@ -271,7 +287,7 @@ public class ParserUtil {
         if (!StringUtil.isNonZeroUnsignedInteger(trimmedpropertyId)) {
             throw new ParseException(MESSAGE_INVALID_UUID);
         }
-        return new Uuid(Integer.parseInt(trimmedpropertyId), PROPERTY);
+        return Uuid.of(Integer.parseInt(trimmedpropertyId), PROPERTY);
     }
 
     /**
@@ -329,7 +345,7 @@ public class ParserUtil {
         if (!Type.isValidType(trimmedType)) {
             throw new ParseException(String.format(Type.MESSAGE_CONSTRAINTS, trimmedType));
         }
-        return new Type(trimmedType);
+        return Type.of(trimmedType);
     }
 
     /**
@@ -344,7 +360,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(trimmedStatus)) {
             throw new ParseException(String.format(Status.MESSAGE_CONSTRAINTS, trimmedStatus));
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -359,7 +375,7 @@ public class ParserUtil {
         if (!Bedroom.isValidBedroom(trimmedBedroom)) {
             throw new ParseException(Bedroom.MESSAGE_CONSTRAINTS);
         }
-        return new Bedroom(trimmedBedroom);
+        return Bedroom.of(trimmedBedroom);
     }
 
     /**
@@ -374,7 +390,7 @@ public class ParserUtil {
         if (!Bathroom.isValidBathroom(trimmedBathroom)) {
             throw new ParseException(Bathroom.MESSAGE_CONSTRAINTS);
         }
-        return new Bathroom(trimmedBathroom);
+        return Bathroom.of(trimmedBathroom);
     }
 
     /**
@@ -404,7 +420,7 @@ public class ParserUtil {
         if (!Listing.isValidListing(trimmedListing)) {
             throw new ParseException(String.format(Listing.MESSAGE_CONSTRAINTS, trimmedListing));
         }
-        return new Listing(trimmedListing);
+        return Listing.of(trimmedListing);
     }
 
     /**
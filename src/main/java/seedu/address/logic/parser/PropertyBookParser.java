@@ -16,6 +16,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.MarkSoldCommand;
 import seedu.address.logic.commands.MarkUnsoldCommand;
 import seedu.address.logic.commands.ShowPropertiesCommand;
+import seedu.address.logic.commands.SortPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.exceptions.UnknownCommandParseException;
 
@@ -65,6 +66,8 @@ public class PropertyBookParser implements CommandSetParser {
             return new MarkSoldCommandParser().parse(arguments);
         case MarkUnsoldCommand.COMMAND_WORD:
             return new MarkUnsoldCommandParser().parse(arguments);
+        case SortPropertyCommand.COMMAND_WORD:
+            return new SortPropertyCommandParser().parse(arguments);
         default:
             throw new UnknownCommandParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SortContactCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.ContactSortKey;
+
+/**
+ * Parses input arguments and creates a new SortContactCommand object.
+ */
+public class SortContactCommandParser implements Parser<SortContactCommand> {
+
+    @Override
+    public SortContactCommand parse(String args) throws ParseException {
+        ContactSortKey sortKey = ContactSortKey.fromKeyword(args.trim());
+        if (sortKey == null) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortContactCommand.MESSAGE_USAGE));
+        }
+        return new SortContactCommand(sortKey);
+    }
+}
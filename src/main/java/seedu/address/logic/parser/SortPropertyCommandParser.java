@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SortPropertyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.PropertySortKey;
+
+/**
+ * Parses input arguments and creates a new SortPropertyCommand object.
+ */
+public class SortPropertyCommandParser implements Parser<SortPropertyCommand> {
+
+    @Override
+    public SortPropertyCommand parse(String args) throws ParseException {
+        PropertySortKey sortKey = PropertySortKey.fromKeyword(args.trim());
+        if (sortKey == null) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPropertyCommand.MESSAGE_USAGE));
+        }
+        return new SortPropertyCommand(sortKey);
+    }
+}
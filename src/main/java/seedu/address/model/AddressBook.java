@@ -5,14 +5,14 @@ import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactAttributeIndex;
 import seedu.address.model.contact.UniqueContactList;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidAllocator;
 
 /**
  * Wraps all data at the address-book level
@@ -21,7 +21,10 @@ import seedu.address.model.uuid.Uuid;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueContactList contacts;
-    private int nextUuid = 1;
+    private final UuidAllocator uuidAllocator = new UuidAllocator(CONTACT);
+
+    // Counts the changes to this address book, so that an address book that has not changed is not saved again
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -52,6 +55,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setContacts(List<Contact> contacts) {
         this.contacts.setContacts(contacts);
+        uuidAllocator.clear();
+        contacts.forEach(contact -> uuidAllocator.markUsed(contact.getUuid()));
+        version++;
+    }
+
+    /**
+     * Replaces each contact in {@code targets} with the contact at the same position in {@code editedContacts}, as
+     * one change to the contact list.
+     * Each target must exist in the address book. The contact identity of an edited contact must not be the same
+     * as another existing contact in the address book, or as another edited contact.
+     */
+    public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+        requireNonNull(editedContacts);
+
+        contacts.setContacts(targets, editedContacts);
+        editedContacts.forEach(contact -> uuidAllocator.markUsed(contact.getUuid()));
+        version++;
     }
 
     /**
@@ -74,31 +94,34 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Sets the next UUID to be used.
+     * Returns the contact with the given {@code id}, or {@code null} if no such contact exists.
+     */
+    public Contact getContactById(Uuid id) {
+        requireNonNull(id);
+        return contacts.getById(id);
+    }
+
+    /**
+     * Returns the UUID that the next new contact should take.
      */
     public Uuid generateNextUuid() {
-        Set<Integer> existingIds = contacts.asUnmodifiableObservableList()
-                .stream()
-                .map(person -> person.getUuid().getValue())
-                .collect(Collectors.toSet());
-        while (existingIds.contains(nextUuid)) {
-            nextUuid++;
-        }
-        return new Uuid(nextUuid, CONTACT);
+        return uuidAllocator.peekNext();
     }
 
     /**
      * Returns current UUID that can be used.
      */
     public int getNextUuid() {
-        return nextUuid;
+        return uuidAllocator.getHighWaterMark();
     }
 
     /**
      * Updates the UUID in this class to be the one stored in the address book.
+     * The stored UUID is ignored if it would hand out the UUID of an existing contact again.
      */
     public void setNextUuid(int nextUuid) {
-        this.nextUuid = nextUuid;
+        uuidAllocator.raiseHighWaterMark(nextUuid);
+        version++;
     }
 
     /**
@@ -107,6 +130,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContact(Contact p) {
         contacts.add(p);
+        uuidAllocator.markUsed(p.getUuid());
+        version++;
     }
 
     /**
@@ -119,6 +144,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedContact);
 
         contacts.setContact(target, editedContact);
+        uuidAllocator.markUsed(editedContact.getUuid());
+        version++;
     }
 
     /**
@@ -127,6 +154,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeContact(Contact key) {
         contacts.remove(key);
+        version++;
     }
 
     //// util methods
@@ -138,11 +166,23 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns the index of the contacts in this address book by tag and by status, by position in the contact list.
+     */
+    public ContactAttributeIndex getContactAttributeIndex() {
+        return contacts.getAttributeIndex();
+    }
+
     @Override
     public ObservableList<Contact> getContactList() {
         return contacts.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -160,6 +200,6 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public int hashCode() {
-        return Objects.hash(contacts, nextUuid);
+        return Objects.hash(contacts, getNextUuid());
     }
 }
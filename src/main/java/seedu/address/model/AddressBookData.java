@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.contact.Contact;
+
+/**
+ * The data of an address book that is saved to storage.
+ */
+public interface AddressBookData {
+
+    /**
+     * Returns an unmodifiable view of the contacts list.
+     * This list will not contain any duplicate contacts.
+     */
+    ObservableList<Contact> getContactList();
+
+    /**
+     * Returns the current available contact UUID.
+     */
+    int getNextUuid();
+}
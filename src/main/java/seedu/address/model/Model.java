@@ -1,12 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
+import seedu.address.model.util.exceptions.StaleCursorException;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -69,9 +79,17 @@ public interface Model {
      */
     void deleteContact(Contact target);
 
+    /**
+     * Deletes the given contacts and removes every reference to them from the properties they are linked to,
+     * as buyer, seller or owner. Each affected property is rewritten once.
+     * The contacts must exist in the address book.
+     */
+    void deleteContactsCascading(List<Contact> targets);
+
     /**
      * Adds the given contact.
      * {@code contact} must not already exist in the address book.
+     * The contact is shown in the filtered contact list if it passes the filter of the list.
      */
     void addContact(Contact contact);
 
@@ -83,6 +101,35 @@ public interface Model {
      */
     void setContact(Contact target, Contact editedContact);
 
+    /**
+     * Replaces each contact in {@code targets} with the contact at the same position in {@code editedContacts}.
+     * The replacements are made as one change to the contact list, so views of the list are updated once.
+     * Each target must exist in the address book. The contact identity of an edited contact must not be the same
+     * as another existing contact in the address book, or as another edited contact.
+     */
+    void setContacts(List<Contact> targets, List<Contact> editedContacts);
+
+    /**
+     * Makes all the changes staged in {@code transaction}, or none of them.
+     * Replacements are made first and removals last. If any change cannot be made, the replacements already made
+     * are undone and the exception it threw is rethrown. Before any removal is made, each book's list is scanned
+     * once to check that all of them can be made, so a transaction with removals costs time proportional to the
+     * size of the books.
+     * Views of the lists are notified once for the replacements in each book, again for each undo, and once for
+     * each removal.
+     */
+    void commit(Transaction transaction);
+
+    /**
+     * Returns the contact with the given {@code id}, or {@code null} if no such contact exists.
+     */
+    Contact getContactById(Uuid id);
+
+    /**
+     * Returns the contact with the given {@code id} if it is in the filtered contact list, or {@code null} otherwise.
+     */
+    Contact getFilteredContactById(Uuid id);
+
     /** Returns an unmodifiable view of the filtered contact list */
     ObservableList<Contact> getFilteredContactList();
 
@@ -92,6 +139,22 @@ public interface Model {
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
 
+    /**
+     * Shows {@code contacts}, some of the contacts in the filtered contact list that match {@code predicate}.
+     * Contacts added later, and contacts that replace a shown contact, are shown if they match {@code predicate}
+     * and the filter last given to {@link #updateFilteredContactList(Predicate)}, so showing one page after another
+     * does not stack up their predicates.
+     * @throws NullPointerException if {@code predicate} or {@code contacts} is null.
+     */
+    void updateFilteredContactList(Predicate<Contact> predicate, List<Contact> contacts);
+
+    /**
+     * Sorts the filtered contact list by {@code sortKey}. The list stays sorted as contacts are added, edited and
+     * removed, and when its filter changes.
+     * @throws NullPointerException if {@code sortKey} is null.
+     */
+    void sortFilteredContactList(ContactSortKey sortKey);
+
     //=========== PropertyBook ================================================================================
     /**
      * Returns the user prefs' property book file path.
@@ -122,9 +185,16 @@ public interface Model {
      */
     void deleteProperty(Property target);
 
+    /**
+     * Deletes the given property and removes it from the buying and selling lists of the contacts linked to it.
+     * The property must exist in the property book.
+     */
+    void deletePropertyCascading(Property target);
+
     /**
      * Adds the given property.
      * {@code property} must not already exist in the property book.
+     * The property is shown in the filtered property list if it passes the filter of the list.
      */
     void addProperty(Property property);
 
@@ -136,6 +206,14 @@ public interface Model {
      */
     void setProperty(Property target, Property editedProperty);
 
+    /**
+     * Replaces each property in {@code targets} with the property at the same position in {@code editedProperties}.
+     * The replacements are made as one change to the property list, so views of the list are updated once.
+     * Each target must exist in the property book. The property identity of an edited property must not be the
+     * same as another existing property in the property book, or as another edited property.
+     */
+    void setProperties(List<Property> targets, List<Property> editedProperties);
+
     /** Returns an unmodifiable view of the filtered property list */
     ObservableList<Property> getFilteredPropertyList();
 
@@ -145,5 +223,90 @@ public interface Model {
      */
     void updateFilteredPropertyList(Predicate<Property> predicate);
 
+    /**
+     * Shows {@code properties}, some of the properties in the filtered property list that match {@code predicate}.
+     * Properties added later, and properties that replace a shown property, are shown if they match
+     * {@code predicate} and the filter last given to {@link #updateFilteredPropertyList(Predicate)}, so showing one
+     * page after another does not stack up their predicates.
+     * @throws NullPointerException if {@code predicate} or {@code properties} is null.
+     */
+    void updateFilteredPropertyList(Predicate<Property> predicate, List<Property> properties);
+
+    /**
+     * Sorts the filtered property list by {@code sortKey}. The list stays sorted as properties are added, edited
+     * and removed, and when its filter changes.
+     * @throws NullPointerException if {@code sortKey} is null.
+     */
+    void sortFilteredPropertyList(PropertySortKey sortKey);
+
+    /**
+     * Returns a page of at most {@code limit} of the contacts in the filtered contact list that match
+     * {@code predicate}, in list order, skipping the first {@code offset} matches. The indexes used to narrow down
+     * the contacts to test are chosen by a {@code QueryPlan}. The contacts are searched only as far as the page
+     * needs, and the matches found are cached until the model changes or the filtered contact list is filtered
+     * anew, so further pages and repeated queries with an equal predicate resume the search instead of repeating it.
+     * The filtered contact list is searched as filtered by {@link #updateFilteredContactList(Predicate)}, so a page
+     * of matches shown in it does not narrow the search for the next page.
+     */
+    Page<Contact> getMatchingContacts(FilterContactPredicate predicate, int offset, int limit);
+
+    /**
+     * Returns a page of at most {@code limit} of the contacts in the filtered contact list that match
+     * {@code predicate} and come after {@code after} in list order. Contacts added or removed since the cursor was
+     * handed out do not shift the page. The filtered contact list is searched as by
+     * {@link #getMatchingContacts(FilterContactPredicate, int, int)}.
+     * @throws StaleCursorException if the contact list has been replaced since the cursor was handed out, or the
+     *     cursor does not refer to the contact it was taken from.
+     */
+    Page<Contact> getMatchingContactsAfter(FilterContactPredicate predicate, PageCursor after, int limit);
+
+    /**
+     * Returns a page of at most {@code limit} of the properties in the filtered property list that match
+     * {@code predicate}, in list order, skipping the first {@code offset} matches. The indexes used to narrow down
+     * the rows to test are chosen by a {@code QueryPlan}, and the predicate is evaluated against the columns of the
+     * property book's {@code PropertyTable}. The rows are searched only as far as the page needs, and the matches
+     * found are cached until the model changes or the filtered property list is filtered anew, so further pages,
+     * counts and repeated queries with an equal predicate resume the search instead of repeating it.
+     * The filtered property list is searched as filtered by {@link #updateFilteredPropertyList(Predicate)}, so a
+     * page of matches shown in it does not narrow the search for the next page.
+     */
+    Page<Property> getMatchingProperties(PropertyMatchesFilterPredicate predicate, int offset, int limit);
+
+    /**
+     * Returns a page of at most {@code limit} of the properties in the filtered property list that match
+     * {@code predicate} and come after {@code after} in list order. Properties added or removed since the cursor
+     * was handed out do not shift the page. The filtered property list is searched as by
+     * {@link #getMatchingProperties(PropertyMatchesFilterPredicate, int, int)}.
+     * @throws StaleCursorException if the property list has been replaced since the cursor was handed out, or the
+     *     cursor does not refer to the property it was taken from.
+     */
+    Page<Property> getMatchingPropertiesAfter(PropertyMatchesFilterPredicate predicate, PageCursor after, int limit);
+
+    /**
+     * Returns the number of properties in the filtered property list that match {@code predicate}. The filtered
+     * property list is searched as by {@link #getMatchingProperties(PropertyMatchesFilterPredicate, int, int)}.
+     */
+    int countMatchingProperties(PropertyMatchesFilterPredicate predicate);
+
+    /**
+     * Returns the hit and miss counts of the cache of filter results so far.
+     */
+    QueryCache.Stats getQueryCacheStats();
+
+    /**
+     * Returns the property with the given {@code id}, or {@code null} if no such property exists.
+     */
     Property getPropertyById(Uuid id);
+
+    /**
+     * Returns the property with the given {@code id} if it is in the filtered property list, or {@code null}
+     * otherwise.
+     */
+    Property getFilteredPropertyById(Uuid id);
+
+    //=========== Links =======================================================================================
+    /**
+     * Returns the links between contacts and properties, for looking up the neighbours of either side.
+     */
+    ReadOnlyLinkGraph getLinkGraph();
 }
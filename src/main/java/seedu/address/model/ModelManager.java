@@ -4,16 +4,45 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactAttributeIndex;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.contact.exceptions.ContactNotFoundException;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
+import seedu.address.model.property.PropertyTable;
+import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.MatchedRows;
+import seedu.address.model.util.MaterializedView;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
+import seedu.address.model.util.QueryPlan;
+import seedu.address.model.util.exceptions.StaleCursorException;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -21,12 +50,25 @@ import seedu.address.model.uuid.Uuid;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int QUERY_CACHE_CAPACITY = 32;
 
     private final AddressBook addressBook;
     private final PropertyBook propertyBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Contact> filteredContacts;
-    private final FilteredList<Property> filteredProperties;
+    private final MaterializedView<Contact> filteredContacts;
+    private final MaterializedView<Property> filteredProperties;
+    private final QueryCache<MatchedRows> queryCache = new QueryCache<>(QUERY_CACHE_CAPACITY);
+    // The criteria of the filtered lists apart from any page of filter results they show, which filters search in
+    private Predicate<Contact> contactScope = PREDICATE_SHOW_ALL_CONTACTS;
+    private Predicate<Property> propertyScope = PREDICATE_SHOW_ALL_PROPERTIES;
+
+    // Counts the changes to the contacts and properties, so that no cached query result outlives its data
+    private long dataVersion;
+    // Tells the scopes of the filtered lists apart in cached query results, with 0 for a list that shows everything.
+    // Showing a page of filter results leaves the scope as it is, so the next page is served from the same result.
+    private long contactScopeVersion;
+    private long propertyScopeVersion;
+    private long lastScopeVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook, propertyBook and
@@ -43,8 +85,12 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.propertyBook = new PropertyBook(propertyBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredContacts = new FilteredList<>(this.addressBook.getContactList());
-        filteredProperties = new FilteredList<>(this.propertyBook.getPropertyList());
+        filteredContacts = new MaterializedView<>(this.addressBook.getContactList());
+        filteredProperties = new MaterializedView<>(this.propertyBook.getPropertyList());
+        this.addressBook.getContactList().addListener((ListChangeListener.Change<? extends Contact> change) ->
+                dataVersion++);
+        this.propertyBook.getPropertyList().addListener((ListChangeListener.Change<? extends Property> change) ->
+                dataVersion++);
     }
 
     public ModelManager() {
@@ -129,10 +175,35 @@ public class ModelManager implements Model {
         addressBook.removeContact(target);
     }
 
+    @Override
+    public void deleteContactsCascading(List<Contact> targets) {
+        requireAllNonNull(targets);
+
+        Set<Uuid> deletedIds = targets.stream()
+                .map(Contact::getUuid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // Collect every linked property first so that each one is rewritten once, however many targets it links to
+        Map<Uuid, Property> affectedProperties = new LinkedHashMap<>();
+        for (Uuid contactId : deletedIds) {
+            for (Uuid propertyId : getLinkGraph().getPropertyIds(contactId)) {
+                affectedProperties.computeIfAbsent(propertyId, propertyBook::getPropertyById);
+            }
+        }
+
+        Transaction transaction = new Transaction();
+        targets.forEach(transaction::removeContact);
+        affectedProperties.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(property ->
+                        transaction.setProperty(property, property.duplicateWithoutContacts(deletedIds)));
+        commit(transaction);
+    }
+
     @Override
     public void addContact(Contact contact) {
         addressBook.addContact(contact);
-        updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
     }
 
     @Override
@@ -142,6 +213,66 @@ public class ModelManager implements Model {
         addressBook.setContact(target, editedContact);
     }
 
+    @Override
+    public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+        requireAllNonNull(targets, editedContacts);
+
+        addressBook.setContacts(targets, editedContacts);
+    }
+
+    @Override
+    public void commit(Transaction transaction) {
+        requireNonNull(transaction);
+
+        // Undoes the changes made so far, latest first, if a later change cannot be made
+        Deque<Runnable> undoLog = new ArrayDeque<>();
+        try {
+            // Properties go first, as they record the links, so that edited contacts are shown by their new links
+            propertyBook.setProperties(transaction.getPropertyTargets(), transaction.getEditedProperties());
+            undoLog.push(() ->
+                    propertyBook.setProperties(transaction.getEditedProperties(), transaction.getPropertyTargets()));
+            addressBook.setContacts(transaction.getContactTargets(), transaction.getEditedContacts());
+            undoLog.push(() ->
+                    addressBook.setContacts(transaction.getEditedContacts(), transaction.getContactTargets()));
+            checkRemovable(addressBook.getContactList(), transaction.getContactsToRemove(),
+                    ContactNotFoundException::new);
+            checkRemovable(propertyBook.getPropertyList(), transaction.getPropertiesToRemove(),
+                    PropertyNotFoundException::new);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Rolling back transaction: " + e);
+            undoLog.forEach(Runnable::run);
+            throw e;
+        }
+
+        // Removals are made last, once they are known to succeed, so that they never have to be undone
+        transaction.getContactsToRemove().forEach(addressBook::removeContact);
+        transaction.getPropertiesToRemove().forEach(propertyBook::removeProperty);
+    }
+
+    /**
+     * Throws the exception from {@code notFound} unless {@code targets} are different elements of {@code list}.
+     * The list is scanned once, whatever the number of targets.
+     */
+    private static <T> void checkRemovable(List<T> list, List<T> targets,
+            Supplier<? extends RuntimeException> notFound) {
+        Set<T> toRemove = new HashSet<>(targets);
+        if (toRemove.size() != targets.size() || list.stream().filter(toRemove::contains).count() != targets.size()) {
+            throw notFound.get();
+        }
+    }
+
+    @Override
+    public Contact getContactById(Uuid id) {
+        requireNonNull(id);
+        return addressBook.getContactById(id);
+    }
+
+    @Override
+    public Contact getFilteredContactById(Uuid id) {
+        Contact contact = getContactById(id);
+        return contact != null && filteredContacts.contains(contact) ? contact : null;
+    }
+
     // =========== Property List Accessors
     // =============================================================
 
@@ -156,10 +287,28 @@ public class ModelManager implements Model {
         propertyBook.removeProperty(target);
     }
 
+    @Override
+    public void deletePropertyCascading(Property target) {
+        requireNonNull(target);
+
+        Set<Uuid> linkedContactIds = target.getUuid() == null
+                ? Set.of()
+                : getLinkGraph().getContactIds(target.getUuid());
+
+        Transaction transaction = new Transaction().removeProperty(target);
+        for (Uuid contactId : linkedContactIds) {
+            Contact contact = addressBook.getContactById(contactId);
+            // Owners are linked in the graph but do not record the property themselves
+            if (contact != null && contact.isLinkedTo(target.getUuid())) {
+                transaction.setContact(contact, contact.duplicateWithoutProperties(Set.of(target.getUuid())));
+            }
+        }
+        commit(transaction);
+    }
+
     @Override
     public void addProperty(Property property) {
         propertyBook.addProperty(property);
-        updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
     }
 
     @Override
@@ -169,10 +318,17 @@ public class ModelManager implements Model {
         propertyBook.setProperty(target, editedProperty);
     }
 
+    @Override
+    public void setProperties(List<Property> targets, List<Property> editedProperties) {
+        requireAllNonNull(targets, editedProperties);
+
+        propertyBook.setProperties(targets, editedProperties);
+    }
+
     // =========== Property ID-based operations =================================================
 
     /**
-     * Returns the {@code Property} with the specified {@code id} from the current filtered property list.
+     * Returns the {@code Property} with the specified {@code id} from the property book.
      * Returns {@code null} if no such property exists.
      *
      * @param id The unique ID of the property to retrieve.
@@ -181,13 +337,20 @@ public class ModelManager implements Model {
     @Override
     public Property getPropertyById(Uuid id) {
         requireNonNull(id);
-        for (Property property : propertyBook.getPropertyList()) {
-            if (property.getUuid().equals(id)) {
-                return property;
-            }
-        }
-        return null;
+        return propertyBook.getPropertyById(id);
     }
+
+    @Override
+    public Property getFilteredPropertyById(Uuid id) {
+        Property property = getPropertyById(id);
+        return property != null && filteredProperties.contains(property) ? property : null;
+    }
+
+    @Override
+    public ReadOnlyLinkGraph getLinkGraph() {
+        return propertyBook.getLinkGraph();
+    }
+
     // =========== Filtered List Accessors
     // =============================================================
 
@@ -198,13 +361,27 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return filteredContacts.getItems();
     }
 
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
-        filteredContacts.setPredicate(predicate);
+        filteredContacts.setCriteria(predicate);
+        contactScope = predicate;
+        contactScopeVersion = predicate == PREDICATE_SHOW_ALL_CONTACTS ? 0 : ++lastScopeVersion;
+    }
+
+    @Override
+    public void updateFilteredContactList(Predicate<Contact> predicate, List<Contact> contacts) {
+        requireAllNonNull(predicate, contacts);
+        filteredContacts.setResult(predicate.and(contactScope), contacts);
+    }
+
+    @Override
+    public void sortFilteredContactList(ContactSortKey sortKey) {
+        requireNonNull(sortKey);
+        filteredContacts.setOrder(sortKey.getOrder());
     }
 
     // =========== Filtered Property List Accessors
@@ -217,13 +394,217 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Property> getFilteredPropertyList() {
-        return filteredProperties;
+        return filteredProperties.getItems();
     }
 
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
-        filteredProperties.setPredicate(predicate);
+        filteredProperties.setCriteria(predicate);
+        propertyScope = predicate;
+        propertyScopeVersion = predicate == PREDICATE_SHOW_ALL_PROPERTIES ? 0 : ++lastScopeVersion;
+    }
+
+    @Override
+    public void updateFilteredPropertyList(Predicate<Property> predicate, List<Property> properties) {
+        requireAllNonNull(predicate, properties);
+        filteredProperties.setResult(predicate.and(propertyScope), properties);
+    }
+
+    @Override
+    public void sortFilteredPropertyList(PropertySortKey sortKey) {
+        requireNonNull(sortKey);
+        filteredProperties.setOrder(sortKey.getOrder());
+    }
+
+    @Override
+    public Page<Contact> getMatchingContacts(FilterContactPredicate predicate, int offset, int limit) {
+        requireNonNull(predicate);
+        return contactPage(getMatchingContactRows(predicate), 0, offset, limit);
+    }
+
+    @Override
+    public Page<Contact> getMatchingContactsAfter(FilterContactPredicate predicate, PageCursor after, int limit) {
+        requireAllNonNull(predicate, after);
+        ContactAttributeIndex index = addressBook.getContactAttributeIndex();
+        if (!index.isCurrentOrderKey(after.getSortKey())) {
+            throw new StaleCursorException();
+        }
+        int cursorRow = index.getRowWithOrderKey(after.getSortKey());
+        if (cursorRow != -1 && uuidValueOf(addressBook.getContactList().get(cursorRow).getUuid()) != after.getUuid()) {
+            throw new StaleCursorException();
+        }
+        MatchedRows rows = getMatchingContactRows(predicate);
+        return contactPage(rows, rows.indexOfFirstAtOrAfter(index.getFirstRowAfter(after.getSortKey())), 0, limit);
+    }
+
+    @Override
+    public Page<Property> getMatchingProperties(PropertyMatchesFilterPredicate predicate, int offset, int limit) {
+        requireNonNull(predicate);
+        return propertyPage(getMatchingPropertyRows(predicate), 0, offset, limit);
+    }
+
+    @Override
+    public Page<Property> getMatchingPropertiesAfter(PropertyMatchesFilterPredicate predicate, PageCursor after,
+            int limit) {
+        requireAllNonNull(predicate, after);
+        PropertyTable table = propertyBook.getPropertyTable();
+        if (!table.isCurrentOrderKey(after.getSortKey())) {
+            throw new StaleCursorException();
+        }
+        int cursorRow = table.getRowWithOrderKey(after.getSortKey());
+        if (cursorRow != -1 && uuidValueOf(table.getProperty(cursorRow).getUuid()) != after.getUuid()) {
+            throw new StaleCursorException();
+        }
+        MatchedRows rows = getMatchingPropertyRows(predicate);
+        return propertyPage(rows, rows.indexOfFirstAtOrAfter(table.getFirstRowAfter(after.getSortKey())), 0, limit);
+    }
+
+    @Override
+    public int countMatchingProperties(PropertyMatchesFilterPredicate predicate) {
+        requireNonNull(predicate);
+        return getMatchingPropertyRows(predicate).findAll();
+    }
+
+    @Override
+    public QueryCache.Stats getQueryCacheStats() {
+        return queryCache.getStats();
+    }
+
+    /**
+     * Returns the rows of the contacts in the scope of the filtered contact list that match {@code predicate}, in
+     * row order. The rows are kept in the query cache for each version of the data and scope, and are searched only
+     * as far as the pages asked for so far need.
+     */
+    private MatchedRows getMatchingContactRows(FilterContactPredicate predicate) {
+        return queryCache.get(List.of(predicate, contactScopeVersion), dataVersion, ()
+                -> new MatchedRows(planContacts(predicate), matchesContact(predicate)));
+    }
+
+    /**
+     * Returns the rows of the properties in the scope of the filtered property list that match {@code predicate},
+     * in row order. The rows are kept in the query cache for each version of the data and scope, and are searched
+     * only as far as the pages and counts asked for so far need.
+     */
+    private MatchedRows getMatchingPropertyRows(PropertyMatchesFilterPredicate predicate) {
+        return queryCache.get(List.of(predicate, propertyScopeVersion), dataVersion, ()
+                -> new MatchedRows(planProperties(predicate), matchesProperty(predicate)));
+    }
+
+    /**
+     * Returns the page of the contacts in {@code rows} from index {@code firstIndex} on, skipping the first
+     * {@code offset} of them. Contacts are ordered by their order key.
+     */
+    private Page<Contact> contactPage(MatchedRows rows, int firstIndex, int offset, int limit) {
+        List<Contact> contacts = addressBook.getContactList();
+        int found = findPage(rows, firstIndex, offset, limit);
+        int start = pageStart(found, firstIndex, offset);
+        int end = pageEnd(found, start, limit);
+        List<Contact> items = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            items.add(contacts.get(rows.get(i)));
+        }
+        PageCursor nextCursor = end > start && end < found
+                ? new PageCursor(addressBook.getContactAttributeIndex().getOrderKey(rows.get(end - 1)),
+                        uuidValueOf(contacts.get(rows.get(end - 1)).getUuid()))
+                : null;
+        return new Page<>(items, nextCursor);
+    }
+
+    /**
+     * Returns the page of the properties in {@code rows} from index {@code firstIndex} on, skipping the first
+     * {@code offset} of them. Properties are ordered by their order key.
+     */
+    private Page<Property> propertyPage(MatchedRows rows, int firstIndex, int offset, int limit) {
+        PropertyTable table = propertyBook.getPropertyTable();
+        int found = findPage(rows, firstIndex, offset, limit);
+        int start = pageStart(found, firstIndex, offset);
+        int end = pageEnd(found, start, limit);
+        List<Property> items = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            items.add(table.getProperty(rows.get(i)));
+        }
+        PageCursor nextCursor = end > start && end < found
+                ? new PageCursor(table.getOrderKey(rows.get(end - 1)),
+                        uuidValueOf(table.getProperty(rows.get(end - 1)).getUuid()))
+                : null;
+        return new Page<>(items, nextCursor);
+    }
+
+    /**
+     * Searches {@code rows} as far as a page of at most {@code limit} matches after skipping {@code offset} matches
+     * from index {@code firstIndex} on, and one match further to tell whether there is a next page.
+     * Returns the number of matches found.
+     */
+    private static int findPage(MatchedRows rows, int firstIndex, int offset, int limit) {
+        return rows.findUpTo((long) firstIndex + Math.max(0, offset) + Math.max(0, limit) + 1);
+    }
+
+    /**
+     * Returns the index of the first match on a page that skips {@code offset} matches from index
+     * {@code firstIndex} on, given that {@code found} matches were found.
+     */
+    private static int pageStart(int found, int firstIndex, int offset) {
+        return (int) Math.min(found, (long) firstIndex + Math.max(0, offset));
+    }
+
+    /**
+     * Returns the index after the last match on a page of at most {@code limit} matches from index {@code start}
+     * on, given that {@code found} matches were found.
+     */
+    private static int pageEnd(int found, int start, int limit) {
+        return (int) Math.min(found, (long) start + Math.max(0, limit));
+    }
+
+    /**
+     * Returns the value of {@code uuid} for a cursor, or 0 for an entity that has not been assigned one.
+     */
+    private static int uuidValueOf(Uuid uuid) {
+        return uuid == null ? 0 : uuid.getValue();
+    }
+
+    /**
+     * Returns the rows of the contacts that may match {@code predicate}, as narrowed down by a {@code QueryPlan}.
+     */
+    private BitSet planContacts(FilterContactPredicate predicate) {
+        int rowCount = addressBook.getContactList().size();
+        QueryPlan plan = QueryPlan.choose(rowCount,
+                predicate.getIndexAccesses(addressBook.getContactAttributeIndex(), rowCount));
+        logger.fine(() -> "Filtering contacts by " + plan);
+        return plan.getCandidateRows();
+    }
+
+    /**
+     * Returns the rows of the properties that may match {@code predicate}, as narrowed down by a {@code QueryPlan}.
+     */
+    private BitSet planProperties(PropertyMatchesFilterPredicate predicate) {
+        PropertyTable table = propertyBook.getPropertyTable();
+        QueryPlan plan = QueryPlan.choose(table.size(), predicate.getIndexAccesses(table));
+        logger.fine(() -> "Filtering properties by " + plan);
+        return plan.getCandidateRows();
+    }
+
+    /**
+     * Returns a test of whether the contact in a row matches {@code predicate} and is in the scope of the filtered
+     * contact list, so that a filter searches the whole list it was run on rather than its previous page.
+     */
+    private IntPredicate matchesContact(FilterContactPredicate predicate) {
+        List<Contact> contacts = addressBook.getContactList();
+        Predicate<Contact> scope = contactScope;
+        return row -> {
+            Contact contact = contacts.get(row);
+            return predicate.test(contact) && scope.test(contact);
+        };
+    }
+
+    /**
+     * Returns a test of whether the property in a row matches {@code predicate} and is in the scope of the filtered
+     * property list. The predicate is evaluated against the columns of the property table first.
+     */
+    private IntPredicate matchesProperty(PropertyMatchesFilterPredicate predicate) {
+        PropertyTable table = propertyBook.getPropertyTable();
+        Predicate<Property> scope = propertyScope;
+        return row -> predicate.test(table, row) && scope.test(table.getProperty(row));
     }
 
     @Override
@@ -241,8 +622,8 @@ public class ModelManager implements Model {
         return addressBook.equals(otherModelManager.addressBook)
                 && propertyBook.equals(otherModelManager.propertyBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredContacts.equals(otherModelManager.filteredContacts)
-                && filteredProperties.equals(otherModelManager.filteredProperties);
+                && getFilteredContactList().equals(otherModelManager.getFilteredContactList())
+                && getFilteredPropertyList().equals(otherModelManager.getFilteredPropertyList());
     }
 
 }
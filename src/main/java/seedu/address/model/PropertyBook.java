@@ -4,14 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyTable;
 import seedu.address.model.property.UniquePropertyList;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.model.uuid.UuidAllocator;
 
 /**
  * Wraps all data at the property-book level
@@ -20,7 +21,10 @@ import seedu.address.model.uuid.Uuid;
 public class PropertyBook implements ReadOnlyPropertyBook {
 
     private final UniquePropertyList properties;
-    private int nextUuid = 1;
+    private final UuidAllocator uuidAllocator = new UuidAllocator(PROPERTY);
+
+    // Counts the changes to this property book, so that a property book that has not changed is not saved again
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -55,6 +59,23 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void setProperties(List<Property> properties) {
         this.properties.setProperties(properties);
+        uuidAllocator.clear();
+        properties.forEach(property -> uuidAllocator.markUsed(property.getUuid()));
+        version++;
+    }
+
+    /**
+     * Replaces each property in {@code targets} with the property at the same position in
+     * {@code editedProperties}, as one change to the property list.
+     * Each target must exist in the property book. The property identity of an edited property must not be the
+     * same as another existing property in the property book, or as another edited property.
+     */
+    public void setProperties(List<Property> targets, List<Property> editedProperties) {
+        requireNonNull(editedProperties);
+
+        properties.setProperties(targets, editedProperties);
+        editedProperties.forEach(property -> uuidAllocator.markUsed(property.getUuid()));
+        version++;
     }
 
     /**
@@ -78,31 +99,49 @@ public class PropertyBook implements ReadOnlyPropertyBook {
     }
 
     /**
-     * Sets the next UUID to be used.
+     * Returns the property with the given {@code id}, or {@code null} if no such
+     * property exists.
+     */
+    public Property getPropertyById(Uuid id) {
+        requireNonNull(id);
+        return properties.getById(id);
+    }
+
+    /**
+     * Returns the links between contacts and the properties in this property book.
+     */
+    public ReadOnlyLinkGraph getLinkGraph() {
+        return properties.getLinkGraph();
+    }
+
+    /**
+     * Returns the properties in this property book as a read-only table of columns, in list order.
+     */
+    public PropertyTable getPropertyTable() {
+        return properties.getTable();
+    }
+
+    /**
+     * Returns the UUID that the next new property should take.
      */
     public Uuid generateNextUuid() {
-        Set<Integer> existingIds = properties.asUnmodifiableObservableList()
-                .stream()
-                .map(property -> property.getUuid().getValue())
-                .collect(Collectors.toSet());
-        while (existingIds.contains(nextUuid)) {
-            nextUuid++;
-        }
-        return new Uuid(nextUuid, PROPERTY);
+        return uuidAllocator.peekNext();
     }
 
     /**
      * Returns current UUID that can be used.
      */
     public int getNextUuid() {
-        return nextUuid;
+        return uuidAllocator.getHighWaterMark();
     }
 
     /**
      * Updates the UUID in this class to be the one stored in the property book.
+     * The stored UUID is ignored if it would hand out the UUID of an existing property again.
      */
     public void setNextUuid(int nextUuid) {
-        this.nextUuid = nextUuid;
+        uuidAllocator.raiseHighWaterMark(nextUuid);
+        version++;
     }
 
     /**
@@ -111,6 +150,8 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void addProperty(Property p) {
         properties.add(p);
+        uuidAllocator.markUsed(p.getUuid());
+        version++;
     }
 
     /**
@@ -125,6 +166,8 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         requireNonNull(editedProperty);
 
         properties.setProperty(target, editedProperty);
+        uuidAllocator.markUsed(editedProperty.getUuid());
+        version++;
     }
 
     /**
@@ -133,6 +176,7 @@ public class PropertyBook implements ReadOnlyPropertyBook {
      */
     public void removeProperty(Property key) {
         properties.remove(key);
+        version++;
     }
 
     //// util methods
@@ -154,6 +198,11 @@ public class PropertyBook implements ReadOnlyPropertyBook {
         return properties.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.property.Property;
+
+/**
+ * The data of a property book that is saved to storage.
+ */
+public interface PropertyBookData {
+
+    /**
+     * Returns an unmodifiable view of the property list.
+     * This list will not contain any duplicate properties.
+     */
+    ObservableList<Property> getPropertyList();
+
+    /**
+     * Returns the current available property UUID.
+     */
+    int getNextUuid();
+}
@@ -1,19 +1,11 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
-import seedu.address.model.contact.Contact;
 import seedu.address.model.uuid.Uuid;
 
 /**
  * Unmodifiable view of an address book
  */
-public interface ReadOnlyAddressBook {
-
-    /**
-     * Returns an unmodifiable view of the contacts list.
-     * This list will not contain any duplicate contacts.
-     */
-    ObservableList<Contact> getContactList();
+public interface ReadOnlyAddressBook extends AddressBookData {
 
     /**
      * Returns the next available contact UUID.
@@ -21,7 +13,7 @@ public interface ReadOnlyAddressBook {
     Uuid generateNextUuid();
 
     /**
-     * Returns the current available contact UUID.
+     * Returns a number that changes whenever the contents of this address book change.
      */
-    int getNextUuid();
+    long getVersion();
 }
@@ -1,19 +1,11 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
-import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
 /**
  * Unmodifiable view of a property
  */
-public interface ReadOnlyPropertyBook {
-
-    /**
-     * Returns an unmodifiable view of the property list.
-     * This list will not contain any duplicate properties.
-     */
-    ObservableList<Property> getPropertyList();
+public interface ReadOnlyPropertyBook extends PropertyBookData {
 
     /**
      * Returns the next available property UUID.
@@ -21,8 +13,8 @@ public interface ReadOnlyPropertyBook {
     Uuid generateNextUuid();
 
     /**
-     * Returns the current available property UUID.
+     * Returns a number that changes whenever the contents of this property book change.
      */
-    int getNextUuid();
+    long getVersion();
 
 }
@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+
+/**
+ * Changes to the address book and the property book that are made together or not at all.
+ * Changes are only staged in the transaction. None of them is made until the transaction is committed with
+ * {@link Model#commit(Transaction)}, which makes all of them or, if any of them cannot be made, none of them.
+ * All the replacements staged for a book are made as one change to its list, while each removal is a change of its
+ * own.
+ */
+public class Transaction {
+
+    private final List<Contact> contactTargets = new ArrayList<>();
+    private final List<Contact> editedContacts = new ArrayList<>();
+    private final List<Contact> contactsToRemove = new ArrayList<>();
+    private final List<Property> propertyTargets = new ArrayList<>();
+    private final List<Property> editedProperties = new ArrayList<>();
+    private final List<Property> propertiesToRemove = new ArrayList<>();
+
+    /**
+     * Stages the replacement of the contact {@code target} with {@code editedContact}.
+     */
+    public Transaction setContact(Contact target, Contact editedContact) {
+        requireAllNonNull(target, editedContact);
+        contactTargets.add(target);
+        editedContacts.add(editedContact);
+        return this;
+    }
+
+    /**
+     * Stages the replacement of each contact in {@code targets} with the contact at the same position in
+     * {@code editedContacts}.
+     */
+    public Transaction setContacts(List<Contact> targets, List<Contact> editedContacts) {
+        requireAllNonNull(targets, editedContacts);
+        checkArgument(targets.size() == editedContacts.size(), "Each target must have one edited contact");
+        for (int i = 0; i < targets.size(); i++) {
+            setContact(targets.get(i), editedContacts.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Stages the removal of the contact {@code target}.
+     */
+    public Transaction removeContact(Contact target) {
+        requireNonNull(target);
+        contactsToRemove.add(target);
+        return this;
+    }
+
+    /**
+     * Stages the replacement of the property {@code target} with {@code editedProperty}.
+     */
+    public Transaction setProperty(Property target, Property editedProperty) {
+        requireAllNonNull(target, editedProperty);
+        propertyTargets.add(target);
+        editedProperties.add(editedProperty);
+        return this;
+    }
+
+    /**
+     * Stages the replacement of each property in {@code targets} with the property at the same position in
+     * {@code editedProperties}.
+     */
+    public Transaction setProperties(List<Property> targets, List<Property> editedProperties) {
+        requireAllNonNull(targets, editedProperties);
+        checkArgument(targets.size() == editedProperties.size(), "Each target must have one edited property");
+        for (int i = 0; i < targets.size(); i++) {
+            setProperty(targets.get(i), editedProperties.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Stages the removal of the property {@code target}.
+     */
+    public Transaction removeProperty(Property target) {
+        requireNonNull(target);
+        propertiesToRemove.add(target);
+        return this;
+    }
+
+    List<Contact> getContactTargets() {
+        return Collections.unmodifiableList(contactTargets);
+    }
+
+    List<Contact> getEditedContacts() {
+        return Collections.unmodifiableList(editedContacts);
+    }
+
+    List<Contact> getContactsToRemove() {
+        return Collections.unmodifiableList(contactsToRemove);
+    }
+
+    List<Property> getPropertyTargets() {
+        return Collections.unmodifiableList(propertyTargets);
+    }
+
+    List<Property> getEditedProperties() {
+        return Collections.unmodifiableList(editedProperties);
+    }
+
+    List<Property> getPropertiesToRemove() {
+        return Collections.unmodifiableList(propertiesToRemove);
+    }
+}
@@ -13,6 +13,7 @@ public class BudgetMax {
     public static final String VALIDATION_REGEX = "^\\d*$"; // zero or more digits (allows empty string)
 
     public final String value;
+    private final long numericValue;
 
     /**
      * Constructs a {@code BudgetMax}.
@@ -23,6 +24,16 @@ public class BudgetMax {
         requireNonNull(budgetMax);
         checkArgument(isValidBudgetMax(budgetMax), MESSAGE_CONSTRAINTS);
         value = budgetMax;
+        numericValue = toNumericValue(budgetMax);
+    }
+
+    /**
+     * Returns the maximum budget as a number, parsed once on construction.
+     * An empty budget is treated as no maximum, and budgets too large for a {@code long} are capped, both as
+     * {@code Long.MAX_VALUE}.
+     */
+    public long getNumericValue() {
+        return numericValue;
     }
 
     /**
@@ -43,4 +54,16 @@ public class BudgetMax {
                 || (other instanceof BudgetMax
                 && value.equals(((BudgetMax) other).value));
     }
+
+    private static long toNumericValue(String budgetMax) {
+        if (budgetMax.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(budgetMax);
+        } catch (NumberFormatException e) {
+            // The value is all digits, so it can only have overflowed
+            return Long.MAX_VALUE;
+        }
+    }
 }
@@ -13,6 +13,7 @@ public class BudgetMin {
     public static final String VALIDATION_REGEX = "^\\d*$"; // zero or more digits (allows empty string)
 
     public final String value;
+    private final long numericValue;
 
     /**
      * Constructs a {@code BudgetMin}.
@@ -23,6 +24,16 @@ public class BudgetMin {
         requireNonNull(budgetMin);
         checkArgument(isValidBudgetMin(budgetMin), MESSAGE_CONSTRAINTS);
         value = budgetMin;
+        numericValue = toNumericValue(budgetMin);
+    }
+
+    /**
+     * Returns the minimum budget as a number, parsed once on construction.
+     * An empty budget is treated as no minimum, i.e. 0, and budgets too large for a {@code long} are capped at
+     * {@code Long.MAX_VALUE}.
+     */
+    public long getNumericValue() {
+        return numericValue;
     }
 
     /**
@@ -43,4 +54,16 @@ public class BudgetMin {
                 || (other instanceof BudgetMin
                 && value.equals(((BudgetMin) other).value));
     }
+
+    private static long toNumericValue(String budgetMin) {
+        if (budgetMin.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(budgetMin);
+        } catch (NumberFormatException e) {
+            // The value is all digits, so it can only have overflowed
+            return Long.MAX_VALUE;
+        }
+    }
 }
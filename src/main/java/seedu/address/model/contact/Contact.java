@@ -1,6 +1,7 @@
 package seedu.address.model.contact;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -8,6 +9,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.uuid.IdSet;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -29,8 +31,15 @@ public class Contact {
     private final BudgetMax budgetMax;
     private final Notes notes;
     private final ContactStatus status;
-    private final Set<Uuid> buyingPropertyIds = new HashSet<>();
-    private final Set<Uuid> sellingPropertyIds = new HashSet<>();
+    private final IdSet buyingPropertyIds;
+    private final IdSet sellingPropertyIds;
+
+    // Lower-case forms of the searchable fields, computed on first use
+    private String normalizedName;
+    private String normalizedEmail;
+    private String normalizedAddress;
+    private String normalizedNotes;
+    private String normalizedStatus;
 
     /**
      * At least name and phone must not be null.
@@ -50,8 +59,8 @@ public class Contact {
         this.budgetMax = budgetMax;
         this.notes = notes;
         this.status = status;
-        this.buyingPropertyIds.addAll(buyingPropertyIds);
-        this.sellingPropertyIds.addAll(sellingPropertyIds);
+        this.buyingPropertyIds = IdSet.of(buyingPropertyIds);
+        this.sellingPropertyIds = IdSet.of(sellingPropertyIds);
     }
 
     /**
@@ -72,8 +81,8 @@ public class Contact {
         this.budgetMax = budgetMax;
         this.notes = notes;
         this.status = status;
-        this.buyingPropertyIds.addAll(buyingPropertyIds);
-        this.sellingPropertyIds.addAll(sellingPropertyIds);
+        this.buyingPropertyIds = IdSet.of(buyingPropertyIds);
+        this.sellingPropertyIds = IdSet.of(sellingPropertyIds);
     }
 
     public Uuid getUuid() {
@@ -86,7 +95,7 @@ public class Contact {
      */
     public Contact duplicateWithNewUuid(Uuid uuid) {
         return new Contact(uuid, name, phone, email, address, tags, budgetMin,
-                budgetMax, notes, status, buyingPropertyIds, sellingPropertyIds);
+                budgetMax, notes, status, getBuyingPropertyIds(), getSellingPropertyIds());
     }
 
     public BudgetMin getBudgetMin() {
@@ -121,6 +130,56 @@ public class Contact {
         return address;
     }
 
+    /**
+     * Returns the name in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedName() {
+        if (normalizedName == null) {
+            normalizedName = name.fullName.toLowerCase();
+        }
+        return normalizedName;
+    }
+
+    /**
+     * Returns the email in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedEmail() {
+        if (normalizedEmail == null) {
+            normalizedEmail = email.value.toLowerCase();
+        }
+        return normalizedEmail;
+    }
+
+    /**
+     * Returns the address in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedAddress() {
+        if (normalizedAddress == null) {
+            normalizedAddress = address.value.toLowerCase();
+        }
+        return normalizedAddress;
+    }
+
+    /**
+     * Returns the notes in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedNotes() {
+        if (normalizedNotes == null) {
+            normalizedNotes = notes.value.toLowerCase();
+        }
+        return normalizedNotes;
+    }
+
+    /**
+     * Returns the status trimmed and in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedStatus() {
+        if (normalizedStatus == null) {
+            normalizedStatus = status.value.trim().toLowerCase();
+        }
+        return normalizedStatus;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -134,7 +193,7 @@ public class Contact {
      * if modification is attempted.
      */
     public Set<Uuid> getBuyingPropertyIds() {
-        return Collections.unmodifiableSet(buyingPropertyIds);
+        return buyingPropertyIds.asUuidSet(PROPERTY);
     }
 
     /**
@@ -142,7 +201,7 @@ public class Contact {
      * if modification is attempted.
      */
     public Set<Uuid> getSellingPropertyIds() {
-        return Collections.unmodifiableSet(sellingPropertyIds);
+        return sellingPropertyIds.asUuidSet(PROPERTY);
     }
 
     /**
@@ -151,7 +210,7 @@ public class Contact {
      */
     public Contact duplicateWithNewBuyingPropertyIds(Set<Uuid> buyingPropertyIds) {
         return new Contact(uuid, name, phone, email, address, tags, budgetMin,
-                budgetMax, notes, status, buyingPropertyIds, sellingPropertyIds);
+                budgetMax, notes, status, buyingPropertyIds, getSellingPropertyIds());
     }
 
     /**
@@ -160,7 +219,36 @@ public class Contact {
      */
     public Contact duplicateWithNewSellingPropertyIds(Set<Uuid> sellingPropertyIds) {
         return new Contact(uuid, name, phone, email, address, tags, budgetMin,
-                budgetMax, notes, status, buyingPropertyIds, sellingPropertyIds);
+                budgetMax, notes, status, getBuyingPropertyIds(), sellingPropertyIds);
+    }
+
+    /**
+     * Returns true if this contact is linked to the property with {@code propertyId} as a buyer or seller.
+     */
+    public boolean isLinkedTo(Uuid propertyId) {
+        return buyingPropertyIds.contains(propertyId.getValue()) || sellingPropertyIds.contains(propertyId.getValue());
+    }
+
+    /**
+     * Duplicates Contact without any links to the properties in {@code propertyIds}.
+     * Used for removing references to deleted properties.
+     */
+    public Contact duplicateWithoutProperties(Set<Uuid> propertyIds) {
+        Set<Uuid> remainingBuyingPropertyIds = new HashSet<>(getBuyingPropertyIds());
+        remainingBuyingPropertyIds.removeAll(propertyIds);
+        Set<Uuid> remainingSellingPropertyIds = new HashSet<>(getSellingPropertyIds());
+        remainingSellingPropertyIds.removeAll(propertyIds);
+        return new Contact(uuid, name, phone, email, address, tags, budgetMin,
+                budgetMax, notes, status, remainingBuyingPropertyIds, remainingSellingPropertyIds);
+    }
+
+    /**
+     * Returns a key that is equal for two contacts if and only if they are equal under {@link #equals(Object)},
+     * so that contacts can be checked for duplicates through hashing.
+     */
+    public String getIdentityKey() {
+        // Phone numbers are digits only, so the first space unambiguously separates the two parts.
+        return phone.value + " " + getNormalizedName();
     }
 
     /**
@@ -178,15 +266,14 @@ public class Contact {
         }
 
         Contact otherContact = (Contact) other;
-        return Objects.equals(name.toString().toLowerCase(), otherContact.name.toString().toLowerCase())
+        return getNormalizedName().equals(otherContact.getNormalizedName())
                 && Objects.equals(phone, otherContact.phone);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(uuid, name, phone, email, address, tags,
-                budgetMin, budgetMax, notes, status, buyingPropertyIds, sellingPropertyIds);
+        return Objects.hash(getNormalizedName(), phone);
     }
 
     @Override
@@ -202,8 +289,8 @@ public class Contact {
                 .add("budgetMax", budgetMax)
                 .add("notes", notes)
                 .add("status", status)
-                .add("buyingPropertyIds", buyingPropertyIds)
-                .add("sellingPropertyIds", sellingPropertyIds)
+                .add("buyingPropertyIds", getBuyingPropertyIds())
+                .add("sellingPropertyIds", getSellingPropertyIds())
                 .toString();
     }
 
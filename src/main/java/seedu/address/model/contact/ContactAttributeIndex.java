@@ -0,0 +1,307 @@
+package seedu.address.model.contact;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.BitmapIndex;
+import seedu.address.model.util.TrigramIndex;
+
+/**
+ * Indexes the contacts in a {@code UniqueContactList} by tag and by status, which have only a few distinct values,
+ * and by the trigrams of their name, address, email and notes for substring search.
+ * Row {@code i} is the {@code i}-th contact of the list. Tags and statuses are indexed in lower case.
+ * Every row also has an order key that increases down the list, for paging that is stable across mutations.
+ * Order keys are never handed out twice, even when the index is replaced, so a key from before the index was
+ * replaced can be told apart. The bitmap and trigram indexes refer to rows by their order keys, counted from the
+ * first key since the index was replaced, so that removing a row only has to drop its own entries instead of
+ * renumbering every row after it; their bitmaps and posting lists are mapped back to rows when they are read.
+ * The index is kept in sync by {@code UniqueContactList} and is read-only to everyone else.
+ */
+public class ContactAttributeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitmapIndex<String> tagIndex = new BitmapIndex<>();
+    private final BitmapIndex<String> statusIndex = new BitmapIndex<>();
+    private final TrigramIndex nameIndex = new TrigramIndex();
+    private final TrigramIndex addressIndex = new TrigramIndex();
+    private final TrigramIndex emailIndex = new TrigramIndex();
+    private final TrigramIndex notesIndex = new TrigramIndex();
+    private long[] orderKeys = new long[INITIAL_CAPACITY];
+    private long nextOrderKey = 0;
+    // The first order key handed out since the index was last replaced
+    private long firstOrderKey = 0;
+    private int size = 0;
+
+    /**
+     * Returns the rows of the contacts tagged {@code tagName}. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithTag(String tagName) {
+        return toRows(tagIndex.getRows(tagName.toLowerCase()));
+    }
+
+    /**
+     * Returns the number of contacts tagged {@code tagName}.
+     */
+    public int countRowsWithTag(String tagName) {
+        return tagIndex.countRows(tagName.toLowerCase());
+    }
+
+    /**
+     * Returns the tag names that at least one contact has, in lower case.
+     */
+    public Set<String> getTagNames() {
+        return tagIndex.getValues();
+    }
+
+    /**
+     * Returns the rows of the contacts with status {@code status}. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithStatus(String status) {
+        return toRows(statusIndex.getRows(StringUtil.normalizeKeyword(status)));
+    }
+
+    /**
+     * Returns the number of contacts with status {@code status}.
+     */
+    public int countRowsWithStatus(String status) {
+        return statusIndex.countRows(StringUtil.normalizeKeyword(status));
+    }
+
+    /**
+     * Returns the rows of the contacts whose name may contain {@code keyword}, ignoring case, or null if the
+     * keyword is too short to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByName(String keyword) {
+        return toRows(nameIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByName(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByName(String keyword) {
+        return nameIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByName(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByName(String keyword) {
+        return nameIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the rows of the contacts whose address may contain {@code keyword}, ignoring case, or null if the
+     * keyword is too short to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByAddress(String keyword) {
+        return toRows(addressIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByAddress(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByAddress(String keyword) {
+        return addressIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByAddress(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByAddress(String keyword) {
+        return addressIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the rows of the contacts whose email may contain {@code keyword}, ignoring case, or null if the
+     * keyword is too short to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByEmail(String keyword) {
+        return toRows(emailIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByEmail(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByEmail(String keyword) {
+        return emailIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByEmail(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByEmail(String keyword) {
+        return emailIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the rows of the contacts whose notes may contain {@code keyword}, ignoring case, or null if the
+     * keyword is too short to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByNotes(String keyword) {
+        return toRows(notesIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByNotes(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByNotes(String keyword) {
+        return notesIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByNotes(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByNotes(String keyword) {
+        return notesIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the order key of row {@code row}. A contact keeps its order key until it is removed, and contacts
+     * added later get larger keys, so order keys give a list order that is stable across mutations.
+     */
+    public long getOrderKey(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + size + " rows");
+        }
+        return orderKeys[row];
+    }
+
+    /**
+     * Returns the first row with an order key greater than {@code orderKey}, or the number of rows if there is
+     * none.
+     */
+    public int getFirstRowAfter(long orderKey) {
+        int row = Arrays.binarySearch(orderKeys, 0, size, orderKey);
+        return row >= 0 ? row + 1 : -row - 1;
+    }
+
+    /**
+     * Returns the row with order key {@code orderKey}, or -1 if no row has it.
+     */
+    public int getRowWithOrderKey(long orderKey) {
+        int row = Arrays.binarySearch(orderKeys, 0, size, orderKey);
+        return row >= 0 ? row : -1;
+    }
+
+    /**
+     * Returns true if {@code orderKey} was handed out since the index was last replaced, so that it still tells
+     * where a row is, or was before it was removed.
+     */
+    public boolean isCurrentOrderKey(long orderKey) {
+        return orderKey >= firstOrderKey && orderKey < nextOrderKey;
+    }
+
+    /**
+     * Appends a row for {@code contact}, which is to be the last contact of the list.
+     */
+    void append(Contact contact) {
+        if (nextOrderKey - firstOrderKey > Integer.MAX_VALUE) {
+            // Order keys are also bitmap positions, so they must fit in an int
+            throw new IllegalStateException("Too many contacts were added since the list was last replaced");
+        }
+        if (size == orderKeys.length) {
+            orderKeys = Arrays.copyOf(orderKeys, size * 2);
+        }
+        orderKeys[size] = nextOrderKey++;
+        size++;
+        add(size - 1, contact);
+    }
+
+    /**
+     * Indexes {@code contact} under the order key of row {@code row}.
+     */
+    private void add(int row, Contact contact) {
+        int key = (int) (orderKeys[row] - firstOrderKey);
+        contact.getTags().forEach(tag -> tagIndex.add(tag.tagName, key));
+        statusIndex.add(contact.getNormalizedStatus(), key);
+        nameIndex.add(key, contact.getNormalizedName());
+        addressIndex.add(key, contact.getNormalizedAddress());
+        emailIndex.add(key, contact.getNormalizedEmail());
+        notesIndex.add(key, contact.getNormalizedNotes());
+    }
+
+    /**
+     * Drops the index entries of {@code contact}, which is indexed under the order key of row {@code row}.
+     */
+    private void removeFromIndexes(int row, Contact contact) {
+        int key = (int) (orderKeys[row] - firstOrderKey);
+        contact.getTags().forEach(tag -> tagIndex.remove(tag.tagName, key));
+        statusIndex.remove(contact.getNormalizedStatus(), key);
+        nameIndex.remove(key, contact.getNormalizedName());
+        addressIndex.remove(key, contact.getNormalizedAddress());
+        emailIndex.remove(key, contact.getNormalizedEmail());
+        notesIndex.remove(key, contact.getNormalizedNotes());
+    }
+
+    /**
+     * Re-indexes row {@code row}, which held {@code replaced}, for {@code contact}. The row keeps its order key.
+     */
+    void set(int row, Contact replaced, Contact contact) {
+        removeFromIndexes(row, replaced);
+        add(row, contact);
+    }
+
+    /**
+     * Drops row {@code row}, which holds {@code removed}, moving the rows after it up by one.
+     */
+    void remove(int row, Contact removed) {
+        removeFromIndexes(row, removed);
+        System.arraycopy(orderKeys, row + 1, orderKeys, row, size - row - 1);
+        size--;
+    }
+
+    /**
+     * Replaces all rows with rows for {@code contacts}, in order.
+     */
+    void setAll(List<Contact> contacts) {
+        tagIndex.clear();
+        statusIndex.clear();
+        nameIndex.clear();
+        addressIndex.clear();
+        emailIndex.clear();
+        notesIndex.clear();
+        size = 0;
+        firstOrderKey = nextOrderKey;
+        contacts.forEach(this::append);
+    }
+
+    /**
+     * Maps order keys counted from {@code firstOrderKey}, as kept by the trigram indexes, to the rows that hold
+     * them, or returns null for a null array. Order keys increase down the list, so each is found by binary search.
+     */
+    private BitSet toRows(int[] orderKeysToFind) {
+        if (orderKeysToFind == null) {
+            return null;
+        }
+        BitSet rows = new BitSet();
+        for (int orderKey : orderKeysToFind) {
+            rows.set(Arrays.binarySearch(orderKeys, 0, size, firstOrderKey + orderKey));
+        }
+        return rows;
+    }
+
+    /**
+     * Maps a bitmap of order keys counted from {@code firstOrderKey}, as kept by the bitmap indexes, to the rows
+     * that hold them. Order keys increase down the list, so each is found by binary search.
+     */
+    private BitSet toRows(BitSet orderKeysToFind) {
+        BitSet rows = new BitSet(size);
+        for (int orderKey = orderKeysToFind.nextSetBit(0); orderKey >= 0;
+                orderKey = orderKeysToFind.nextSetBit(orderKey + 1)) {
+            rows.set(Arrays.binarySearch(orderKeys, 0, size, firstOrderKey + orderKey));
+        }
+        return rows;
+    }
+}
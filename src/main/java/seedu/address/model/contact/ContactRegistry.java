@@ -55,4 +55,11 @@ public class ContactRegistry {
     public void removeContact(Integer id) {
         contactMap.remove(id);
     }
+
+    /**
+     * Removes all contacts from the registry.
+     */
+    public void clear() {
+        contactMap.clear();
+    }
 }
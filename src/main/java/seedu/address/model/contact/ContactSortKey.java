@@ -0,0 +1,47 @@
+package seedu.address.model.contact;
+
+import java.util.Comparator;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * The fields the contact list can be sorted by.
+ * Each order compares values that contacts already hold, such as the cached lower case name, and breaks ties by
+ * UUID so that no two contacts are ordered equal.
+ */
+public enum ContactSortKey {
+    NAME("name", Comparator.comparing(Contact::getNormalizedName)),
+    ID("id", (first, second) -> 0);
+
+    private final String keyword;
+    private final Comparator<Contact> order;
+
+    ContactSortKey(String keyword, Comparator<Contact> order) {
+        this.keyword = keyword;
+        this.order = order.thenComparingInt(contact -> uuidValueOf(contact.getUuid()));
+    }
+
+    /**
+     * Returns the sort key written as {@code keyword}, ignoring case, or null if there is none.
+     */
+    public static ContactSortKey fromKeyword(String keyword) {
+        for (ContactSortKey key : values()) {
+            if (key.keyword.equalsIgnoreCase(keyword)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Comparator<Contact> getOrder() {
+        return order;
+    }
+
+    private static int uuidValueOf(Uuid uuid) {
+        return uuid == null ? 0 : uuid.getValue();
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Contact's status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -17,6 +20,8 @@ public class ContactStatus {
      */
     public static final String VALIDATION_REGEX = "(?i)(Active|Inactive)?";
 
+    private static final Map<String, ContactStatus> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -30,6 +35,16 @@ public class ContactStatus {
         value = status;
     }
 
+    /**
+     * Returns a {@code ContactStatus} for {@code status}, sharing one instance per distinct value.
+     *
+     * @param status A valid status string.
+     */
+    public static ContactStatus of(String status) {
+        requireNonNull(status);
+        return SHARED_INSTANCES.computeIfAbsent(status, ContactStatus::new);
+    }
+
     /**
      * Returns true if a given string is a valid status.
      */
@@ -1,10 +1,19 @@
 package seedu.address.model.contact;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.CompiledPredicate;
+import seedu.address.model.util.IndexAccess;
 
 /**
  * Tests whether a {@code Contact} matches the filtering criteria given.
@@ -29,6 +38,17 @@ public class FilterContactPredicate implements Predicate<Contact> {
     private final Optional<Integer> limit;
     private final Optional<Integer> offset;
 
+    // Keywords trimmed and in lower case, or null if the field is not filtered
+    private final List<String> nameKeys;
+    private final List<String> phoneKeys;
+    private final List<String> emailKeys;
+    private final List<String> addressKeys;
+    private final List<String> tagKeys;
+    private final List<String> noteKeys;
+    private final List<String> statusKeys;
+
+    private final CompiledPredicate<Contact> compiled;
+
     /**
      * Creates a {@code FilterContactPredicate} with optional filtering fields.
      * Any empty field means "no restriction" for that field.
@@ -66,67 +86,157 @@ public class FilterContactPredicate implements Predicate<Contact> {
         this.status = status;
         this.limit = limit;
         this.offset = offset;
+        this.nameKeys = normalize(names);
+        this.phoneKeys = normalize(phones);
+        this.emailKeys = normalize(emails);
+        this.addressKeys = normalize(addresses);
+        this.tagKeys = normalize(tags);
+        this.noteKeys = normalize(notes);
+        this.statusKeys = normalize(status);
+        this.compiled = compile();
+    }
+
+    /**
+     * Compiles the given fields into a chain of checks, the numeric and exact checks first.
+     */
+    private CompiledPredicate<Contact> compile() {
+        CompiledPredicate.Builder<Contact> builder = new CompiledPredicate.Builder<>();
+        // person minimum is more than or equals to input filter minimum
+        budgetMin.ifPresent(min -> builder.atLeast(contact -> contact.getBudgetMin().getNumericValue(), min));
+        // person maximum is less than or equals to input filter maximum
+        budgetMax.ifPresent(max -> builder.atMost(contact -> contact.getBudgetMax().getNumericValue(), max));
+        // exact match only (not substring) so that searching active, inactive is not returned
+        builder.equalsAny(Contact::getNormalizedStatus, statusKeys)
+                .containsAny(contact -> contact.getPhone().value, phoneKeys)
+                .containsAny(Contact::getNormalizedName, nameKeys)
+                .containsAny(Contact::getNormalizedEmail, emailKeys)
+                .containsAny(Contact::getNormalizedAddress, addressKeys)
+                .containsAny(Contact::getNormalizedNotes, noteKeys);
+        if (tagKeys != null) {
+            builder.check(this::hasTagContainingAny);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Normalizes each keyword once, so that testing a contact does not need to copy any keyword.
+     */
+    private static List<String> normalize(Optional<List<String>> keywords) {
+        return keywords.map(list -> list.stream().map(StringUtil::normalizeKeyword).toList()).orElse(null);
+    }
+
+    private static boolean containsAny(String normalizedText, List<String> keys) {
+        for (String key : keys) {
+            if (normalizedText.contains(key)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public boolean test(Contact contact) {
-        return names.map(list ->
-                        list.stream().anyMatch(k ->
-                                StringUtil.containsSubstringIgnoreCase(contact.getName().fullName, k)))
-                .orElse(true)
-
-                && phones.map(list ->
-                        list.stream().anyMatch(k ->
-                                StringUtil.containsSubstringIgnoreCase(contact.getPhone().value, k)))
-                .orElse(true)
-
-                && emails.map(list ->
-                        list.stream().anyMatch(k ->
-                                StringUtil.containsSubstringIgnoreCase(contact.getEmail().value, k)))
-                .orElse(true)
-
-                && addresses.map(list ->
-                        list.stream().anyMatch(k ->
-                                StringUtil.containsSubstringIgnoreCase(contact.getAddress().value, k)))
-                .orElse(true)
-
-                && tags.map(list ->
-                        contact.getTags().stream().anyMatch(tag ->
-                                list.stream().anyMatch(k ->
-                                        StringUtil.containsSubstringIgnoreCase(tag.tagName, k))))
-                .orElse(true)
-                // person minimum is more than or equals to input filter minimum
-                && budgetMin.map(min -> Float.parseFloat(contact.getBudgetMin().value) >= min).orElse(true)
-                // person maximum is less than or equals to input filter maximum
-                && budgetMax.map(max -> Float.parseFloat(contact.getBudgetMax().value) <= max).orElse(true)
-
-                && notes.map(list ->
-                        list.stream().anyMatch(k ->
-                                StringUtil.containsSubstringIgnoreCase(contact.getNotes().value, k)))
-                .orElse(true)
-
-                && status.map(list ->
-                    list.stream().anyMatch(k -> {
-                        String targetStatus = contact.getStatus().value.trim().toLowerCase();
-                        String keyword = k.trim().toLowerCase();
-                        // exact match only (not substring) so that searching active, inactive is not returned
-                        return targetStatus.equals(keyword);
-                    })).orElse(true);
+        return compiled.test(contact);
+    }
+
+    private boolean hasTagContainingAny(Contact contact) {
+        for (Tag tag : contact.getTags()) {
+            // Tag names are stored in lower case
+            if (containsAny(tag.tagName, tagKeys)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ways in which {@code index}, which covers {@code rowCount} contacts, can narrow down the contacts
+     * that match this predicate: the tag and status bitmaps, and the trigram indexes for the name, email, address
+     * and notes keywords. The budget and phone filters, and text fields with a keyword too short to look up, are
+     * left to the residual predicate.
+     */
+    public List<IndexAccess> getIndexAccesses(ContactAttributeIndex index, int rowCount) {
+        List<IndexAccess> accesses = new ArrayList<>();
+        addTextAccess(accesses, "name", nameKeys, index::estimateCandidateRowsByName,
+                index::estimateLookupCostByName, index::getCandidateRowsByName, rowCount);
+        addTextAccess(accesses, "email", emailKeys, index::estimateCandidateRowsByEmail,
+                index::estimateLookupCostByEmail, index::getCandidateRowsByEmail, rowCount);
+        addTextAccess(accesses, "address", addressKeys, index::estimateCandidateRowsByAddress,
+                index::estimateLookupCostByAddress, index::getCandidateRowsByAddress, rowCount);
+        addTextAccess(accesses, "notes", noteKeys, index::estimateCandidateRowsByNotes,
+                index::estimateLookupCostByNotes, index::getCandidateRowsByNotes, rowCount);
+        if (tagKeys != null) {
+            // Tag keywords match as substrings, so every tag name containing a keyword contributes its rows
+            List<String> tagNames = index.getTagNames().stream()
+                    .filter(tagName -> containsAny(tagName, tagKeys))
+                    .collect(Collectors.toList());
+            long estimatedRows = Math.min(rowCount, tagNames.stream().mapToLong(index::countRowsWithTag).sum());
+            accesses.add(IndexAccess.ofBitmap("tags=" + tagKeys, estimatedRows, rowCount, () -> {
+                BitSet tagged = new BitSet();
+                tagNames.forEach(tagName -> tagged.or(index.getRowsWithTag(tagName)));
+                return tagged;
+            }));
+        }
+        if (statusKeys != null) {
+            long estimatedRows = Math.min(rowCount, statusKeys.stream().mapToLong(index::countRowsWithStatus).sum());
+            accesses.add(IndexAccess.ofBitmap("status=" + statusKeys, estimatedRows, rowCount, () -> {
+                BitSet withStatus = new BitSet();
+                statusKeys.forEach(key -> withStatus.or(index.getRowsWithStatus(key)));
+                return withStatus;
+            }));
+        }
+        return accesses;
+    }
+
+    /**
+     * Adds an access for the rows that may contain any of {@code keys} in the field looked up by {@code lookup},
+     * unless the field is not filtered or some key cannot be looked up. The rows are estimated by {@code estimate},
+     * and the cost of looking up each key by {@code lookupCost}; the rows are only looked up if the access is used.
+     */
+    private static void addTextAccess(List<IndexAccess> accesses, String field, List<String> keys,
+            ToIntFunction<String> estimate, ToLongFunction<String> lookupCost, Function<String, BitSet> lookup,
+            int rowCount) {
+        if (keys == null) {
+            return;
+        }
+        long estimatedRows = 0;
+        long estimatedCost = 0;
+        for (String key : keys) {
+            int keyRows = estimate.applyAsInt(key);
+            if (keyRows == -1) {
+                return;
+            }
+            estimatedRows += keyRows;
+            estimatedCost += lookupCost.applyAsLong(key);
+        }
+        estimatedRows = Math.min(rowCount, estimatedRows);
+        accesses.add(IndexAccess.ofPostings(field + "~" + keys, estimatedRows, estimatedCost, rowCount, () -> {
+            BitSet rows = new BitSet();
+            keys.forEach(key -> rows.or(lookup.apply(key)));
+            return rows;
+        }));
     }
 
     @Override
     public boolean equals(Object other) {
+        // Keywords are compared normalized, as keywords that differ only in case filter the same contacts
         return other == this
                 || (other instanceof FilterContactPredicate
-                && names.equals(((FilterContactPredicate) other).names)
-                && phones.equals(((FilterContactPredicate) other).phones)
-                && emails.equals(((FilterContactPredicate) other).emails)
-                && addresses.equals(((FilterContactPredicate) other).addresses)
-                && tags.equals(((FilterContactPredicate) other).tags)
+                && Objects.equals(nameKeys, ((FilterContactPredicate) other).nameKeys)
+                && Objects.equals(phoneKeys, ((FilterContactPredicate) other).phoneKeys)
+                && Objects.equals(emailKeys, ((FilterContactPredicate) other).emailKeys)
+                && Objects.equals(addressKeys, ((FilterContactPredicate) other).addressKeys)
+                && Objects.equals(tagKeys, ((FilterContactPredicate) other).tagKeys)
                 && budgetMin.equals(((FilterContactPredicate) other).budgetMin)
                 && budgetMax.equals(((FilterContactPredicate) other).budgetMax)
-                && notes.equals(((FilterContactPredicate) other).notes)
-                && status.equals(((FilterContactPredicate) other).status));
+                && Objects.equals(noteKeys, ((FilterContactPredicate) other).noteKeys)
+                && Objects.equals(statusKeys, ((FilterContactPredicate) other).statusKeys));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeys, phoneKeys, emailKeys, addressKeys, tagKeys, budgetMin, budgetMax, noteKeys,
+                statusKeys);
     }
 
     public Optional<Integer> getLimit() {
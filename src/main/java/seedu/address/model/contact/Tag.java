@@ -3,6 +3,9 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +16,8 @@ public class Tag {
             "Invalid tag value \"%s\". Allowed (case-insensitive): buyer, seller, tenant, landlord.";
     public static final String VALIDATION_REGEX = "^(?i)(buyer|seller|tenant|landlord)?$";
 
+    private static final Map<String, Tag> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -26,6 +31,16 @@ public class Tag {
         this.tagName = tagName.toLowerCase(); // stored as lower case
     }
 
+    /**
+     * Returns a {@code Tag} for {@code tagName}, sharing one instance per distinct value.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return SHARED_INSTANCES.computeIfAbsent(tagName.toLowerCase(), Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -1,35 +1,47 @@
 package seedu.address.model.contact;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
+import seedu.address.model.util.BatchObservableList;
+import seedu.address.model.uuid.Uuid;
 
 /**
  * A list of contacts that enforces uniqueness between its elements and does not allow nulls.
  * A contact is considered unique by comparing using {@code Contact#equals(Contact)}. As such, adding and updating of
  * contacts uses {@code Contact#equals(Contact)} for equality to ensure that the contact being added or updated is
  * unique in terms of identity in the UniqueContactList.
+ * Contacts are also indexed by their {@code Uuid} and by {@code Contact#getIdentityKey()} so that ID-based lookups
+ * and duplicate checks do not need to scan the list, and by tag and status in a {@code ContactAttributeIndex}.
  * Supports a minimal set of list operations.
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Contact> internalList = new BatchObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ContactRegistry registry = new ContactRegistry();
+    private final Map<String, Contact> identityIndex = new HashMap<>();
+    private final ContactAttributeIndex attributeIndex = new ContactAttributeIndex();
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -41,7 +53,9 @@ public class UniqueContactList implements Iterable<Contact> {
         if (contains(toAdd)) {
             throw new DuplicateContactException();
         }
+        attributeIndex.append(toAdd);
         internalList.add(toAdd);
+        register(toAdd);
     }
 
     /**
@@ -61,7 +75,10 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        Contact replaced = internalList.set(index, editedContact);
+        attributeIndex.set(index, replaced, editedContact);
+        unregister(replaced);
+        register(editedContact);
     }
 
     /**
@@ -70,14 +87,18 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ContactNotFoundException();
         }
+        attributeIndex.remove(index, internalList.get(index));
+        unregister(internalList.remove(index));
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildRegistry();
     }
 
     /**
@@ -91,6 +112,60 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.setAll(contacts);
+        rebuildRegistry();
+    }
+
+    /**
+     * Replaces each contact in {@code targets} with the contact at the same position in {@code editedContacts}, as
+     * one change to the list.
+     * Each target must exist in the list. The contact identity of an edited contact must not be the same as another
+     * existing contact in the list, or as another edited contact. Nothing is replaced if any of them is.
+     */
+    public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+        requireAllNonNull(targets, editedContacts);
+        checkArgument(targets.size() == editedContacts.size(), "Each target must have one edited contact");
+
+        int[] positions = new int[targets.size()];
+        Set<String> replacedKeys = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            positions[i] = internalList.indexOf(targets.get(i));
+            if (positions[i] == -1) {
+                throw new ContactNotFoundException();
+            }
+            checkArgument(replacedKeys.add(targets.get(i).getIdentityKey()), "Each contact can be replaced only once");
+        }
+
+        Set<String> editedKeys = new HashSet<>();
+        for (Contact editedContact : editedContacts) {
+            String key = editedContact.getIdentityKey();
+            if (!editedKeys.add(key) || contains(editedContact) && !replacedKeys.contains(key)) {
+                throw new DuplicateContactException();
+            }
+        }
+
+        List<Contact> replaced = internalList.replaceAt(positions, editedContacts);
+        for (int i = 0; i < positions.length; i++) {
+            attributeIndex.set(positions[i], replaced.get(i), editedContacts.get(i));
+        }
+        // Unregister every replaced contact first, as an edited contact may take over the identity of another target
+        replaced.forEach(this::unregister);
+        editedContacts.forEach(this::register);
+    }
+
+    /**
+     * Returns the contact with the given {@code id}, or {@code null} if no such contact is in the list.
+     */
+    public Contact getById(Uuid id) {
+        requireNonNull(id);
+        Contact contact = registry.getContact(id.getValue());
+        return contact != null && id.equals(contact.getUuid()) ? contact : null;
+    }
+
+    /**
+     * Returns the index of the contacts in this list by tag and by status.
+     */
+    public ContactAttributeIndex getAttributeIndex() {
+        return attributeIndex;
     }
 
     /**
@@ -134,13 +209,40 @@ public class UniqueContactList implements Iterable<Contact> {
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).equals(contacts.get(j))) {
-                    return false;
-                }
+        Set<String> seenKeys = new HashSet<>();
+        for (Contact contact : contacts) {
+            if (!seenKeys.add(contact.getIdentityKey())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Indexes {@code contact} by its identity key and by its UUID.
+     * Contacts that have not been assigned a UUID yet are not indexed by UUID.
+     */
+    private void register(Contact contact) {
+        identityIndex.put(contact.getIdentityKey(), contact);
+        if (contact.getUuid() != null) {
+            registry.addContact(contact);
+        }
+    }
+
+    /**
+     * Drops the index entries of {@code contact}, unless an entry has since been taken over by another contact.
+     */
+    private void unregister(Contact contact) {
+        identityIndex.remove(contact.getIdentityKey(), contact);
+        if (contact.getUuid() != null && registry.getContact(contact.getUuid().getValue()) == contact) {
+            registry.removeContact(contact.getUuid().getValue());
+        }
+    }
+
+    private void rebuildRegistry() {
+        registry.clear();
+        identityIndex.clear();
+        internalList.forEach(this::register);
+        attributeIndex.setAll(internalList);
+    }
 }
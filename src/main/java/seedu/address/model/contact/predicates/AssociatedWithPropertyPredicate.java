@@ -1,43 +1,41 @@
 package seedu.address.model.contact.predicates;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.function.Predicate;
 
 import seedu.address.model.contact.Contact;
-import seedu.address.model.property.Property;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.uuid.Uuid;
 
 /**
  * Tests that a {@code Contact} is associated with a given property UUID,
  * either as the owner, a buyer, or a seller.
+ * Each test looks the link up in the link graph as it is at the time of the test, so a contact that is linked or
+ * unlinked later is tested against its current links.
  */
 public class AssociatedWithPropertyPredicate implements Predicate<Contact> {
 
     private final Uuid propertyUuid;
-    private final Iterable<Property> allProperties;
+    private final ReadOnlyLinkGraph linkGraph;
 
     /**
+     * Creates a predicate that checks contacts against the neighbours of the property in {@code linkGraph}.
+     *
      * @param propertyUuid UUID of the property to check association against.
-     * @param allProperties All properties available (usually from the PropertyBook).
+     * @param linkGraph Links between contacts and properties (usually from the Model).
      */
-    public AssociatedWithPropertyPredicate(Uuid propertyUuid, Iterable<Property> allProperties) {
+    public AssociatedWithPropertyPredicate(Uuid propertyUuid, ReadOnlyLinkGraph linkGraph) {
+        requireAllNonNull(propertyUuid, linkGraph);
         this.propertyUuid = propertyUuid;
-        this.allProperties = allProperties;
+        this.linkGraph = linkGraph;
     }
 
     @Override
     public boolean test(Contact contact) {
-        if (contact == null) {
-            return false;
-        }
-
-        // Find the property with matching UUID and check if contact is associated
-        for (Property property : allProperties) {
-            if (property.getUuid().equals(propertyUuid)) {
-                return property.isAssociatedWith(contact.getUuid());
-            }
-        }
-
-        return false;
+        return contact != null
+                && contact.getUuid() != null
+                && linkGraph.isLinked(contact.getUuid(), propertyUuid);
     }
 
     @Override
@@ -0,0 +1,154 @@
+package seedu.address.model.link;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Stores the links between contacts and properties as adjacency maps in both directions, so that the neighbours of
+ * a contact or a property can be found without scanning either book.
+ * Each edge is typed by its {@code LinkType}. Edges are taken from the properties, which record their owner, buyers
+ * and sellers; the link sets kept on contacts mirror them.
+ */
+public class LinkGraph implements ReadOnlyLinkGraph {
+
+    private final Map<Uuid, Map<Uuid, Set<LinkType>>> propertiesByContact = new HashMap<>();
+    private final Map<Uuid, Map<Uuid, Set<LinkType>>> contactsByProperty = new HashMap<>();
+
+    /**
+     * Adds the links recorded by {@code property}. Properties that have not been assigned a UUID yet have no links.
+     */
+    public void addProperty(Property property) {
+        requireNonNull(property);
+        Uuid propertyId = property.getUuid();
+        if (propertyId == null) {
+            return;
+        }
+        property.getBuyingContactIds().forEach(contactId -> addLink(contactId, propertyId, LinkType.BUYER));
+        property.getSellingContactIds().forEach(contactId -> addLink(contactId, propertyId, LinkType.SELLER));
+        Uuid ownerId = property.getOwnerUuid();
+        if (ownerId != null) {
+            addLink(ownerId, propertyId, LinkType.OWNER);
+        }
+    }
+
+    /**
+     * Removes the links recorded by {@code property}.
+     */
+    public void removeProperty(Property property) {
+        requireNonNull(property);
+        Uuid propertyId = property.getUuid();
+        if (propertyId == null) {
+            return;
+        }
+        property.getBuyingContactIds().forEach(contactId -> removeLink(contactId, propertyId, LinkType.BUYER));
+        property.getSellingContactIds().forEach(contactId -> removeLink(contactId, propertyId, LinkType.SELLER));
+        Uuid ownerId = property.getOwnerUuid();
+        if (ownerId != null) {
+            removeLink(ownerId, propertyId, LinkType.OWNER);
+        }
+    }
+
+    /**
+     * Removes all links.
+     */
+    public void clear() {
+        propertiesByContact.clear();
+        contactsByProperty.clear();
+    }
+
+    @Override
+    public boolean hasLink(Uuid contactId, Uuid propertyId, LinkType type) {
+        requireAllNonNull(contactId, propertyId, type);
+        return propertiesByContact.getOrDefault(contactId, Collections.emptyMap())
+                .getOrDefault(propertyId, Collections.emptySet())
+                .contains(type);
+    }
+
+    @Override
+    public boolean isLinked(Uuid contactId, Uuid propertyId) {
+        requireAllNonNull(contactId, propertyId);
+        return propertiesByContact.getOrDefault(contactId, Collections.emptyMap()).containsKey(propertyId);
+    }
+
+    @Override
+    public Set<Uuid> getContactIds(Uuid propertyId) {
+        requireNonNull(propertyId);
+        return neighbours(contactsByProperty, propertyId);
+    }
+
+    @Override
+    public Set<Uuid> getContactIds(Uuid propertyId, LinkType type) {
+        requireAllNonNull(propertyId, type);
+        return neighbours(contactsByProperty, propertyId, type);
+    }
+
+    @Override
+    public Set<Uuid> getPropertyIds(Uuid contactId) {
+        requireNonNull(contactId);
+        return neighbours(propertiesByContact, contactId);
+    }
+
+    @Override
+    public Set<Uuid> getPropertyIds(Uuid contactId, LinkType type) {
+        requireAllNonNull(contactId, type);
+        return neighbours(propertiesByContact, contactId, type);
+    }
+
+    private void addLink(Uuid contactId, Uuid propertyId, LinkType type) {
+        propertiesByContact.computeIfAbsent(contactId, unused -> new HashMap<>())
+                .computeIfAbsent(propertyId, unused -> EnumSet.noneOf(LinkType.class))
+                .add(type);
+        contactsByProperty.computeIfAbsent(propertyId, unused -> new HashMap<>())
+                .computeIfAbsent(contactId, unused -> EnumSet.noneOf(LinkType.class))
+                .add(type);
+    }
+
+    private void removeLink(Uuid contactId, Uuid propertyId, LinkType type) {
+        removeEdge(propertiesByContact, contactId, propertyId, type);
+        removeEdge(contactsByProperty, propertyId, contactId, type);
+    }
+
+    /**
+     * Removes the {@code type} edge from {@code from} to {@code to} in {@code adjacency}, dropping any entries that
+     * become empty so that the maps only hold live edges.
+     */
+    private static void removeEdge(Map<Uuid, Map<Uuid, Set<LinkType>>> adjacency, Uuid from, Uuid to,
+            LinkType type) {
+        Map<Uuid, Set<LinkType>> edges = adjacency.get(from);
+        if (edges == null) {
+            return;
+        }
+        Set<LinkType> types = edges.get(to);
+        if (types == null) {
+            return;
+        }
+        types.remove(type);
+        if (types.isEmpty()) {
+            edges.remove(to);
+        }
+        if (edges.isEmpty()) {
+            adjacency.remove(from);
+        }
+    }
+
+    private static Set<Uuid> neighbours(Map<Uuid, Map<Uuid, Set<LinkType>>> adjacency, Uuid from) {
+        return Set.copyOf(adjacency.getOrDefault(from, Collections.emptyMap()).keySet());
+    }
+
+    private static Set<Uuid> neighbours(Map<Uuid, Map<Uuid, Set<LinkType>>> adjacency, Uuid from, LinkType type) {
+        return adjacency.getOrDefault(from, Collections.emptyMap()).entrySet().stream()
+                .filter(edge -> edge.getValue().contains(type))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
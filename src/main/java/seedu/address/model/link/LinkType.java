@@ -0,0 +1,10 @@
+package seedu.address.model.link;
+
+/**
+ * The kinds of relationship that can link a contact to a property.
+ */
+public enum LinkType {
+    BUYER,
+    SELLER,
+    OWNER;
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.link;
+
+import java.util.Set;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * Unmodifiable view of the links between contacts and properties.
+ */
+public interface ReadOnlyLinkGraph {
+
+    /**
+     * Returns true if the contact with {@code contactId} is linked to the property with {@code propertyId}
+     * as {@code type}.
+     */
+    boolean hasLink(Uuid contactId, Uuid propertyId, LinkType type);
+
+    /**
+     * Returns true if the contact with {@code contactId} is linked to the property with {@code propertyId}, in any
+     * relationship.
+     */
+    boolean isLinked(Uuid contactId, Uuid propertyId);
+
+    /**
+     * Returns the IDs of all contacts linked to the property with {@code propertyId}, in any relationship.
+     */
+    Set<Uuid> getContactIds(Uuid propertyId);
+
+    /**
+     * Returns the IDs of the contacts linked to the property with {@code propertyId} as {@code type}.
+     */
+    Set<Uuid> getContactIds(Uuid propertyId, LinkType type);
+
+    /**
+     * Returns the IDs of all properties linked to the contact with {@code contactId}, in any relationship.
+     */
+    Set<Uuid> getPropertyIds(Uuid contactId);
+
+    /**
+     * Returns the IDs of the properties linked to the contact with {@code contactId} as {@code type}.
+     */
+    Set<Uuid> getPropertyIds(Uuid contactId, LinkType type);
+}
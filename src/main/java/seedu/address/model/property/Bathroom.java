@@ -3,6 +3,9 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Property's number of bathrooms in the property book.
  * Guarantees: immutable; is valid as declared in
@@ -16,7 +19,10 @@ public class Bathroom {
      */
     public static final String VALIDATION_REGEX = "^(?:[0-9]|1[0-9]|20)$";
 
+    private static final Map<String, Bathroom> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Bathroom}.
@@ -30,6 +36,24 @@ public class Bathroom {
         requireNonNull(bathroom);
         checkArgument(isValidBathroom(bathroom), MESSAGE_CONSTRAINTS);
         value = bathroom;
+        numericValue = Integer.parseInt(value);
+    }
+
+    /**
+     * Returns a {@code Bathroom} for {@code bathroom}, sharing one instance per distinct value.
+     *
+     * @param bathroom A valid number of bathrooms.
+     */
+    public static Bathroom of(String bathroom) {
+        requireNonNull(bathroom);
+        return SHARED_INSTANCES.computeIfAbsent(bathroom.trim(), Bathroom::new);
+    }
+
+    /**
+     * Returns the number of bathrooms as a number, parsed once on construction.
+     */
+    public int getNumericValue() {
+        return numericValue;
     }
 
     /**
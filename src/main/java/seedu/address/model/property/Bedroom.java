@@ -3,6 +3,9 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Property's number of bedrooms in the property book.
  * Guarantees: immutable; is valid as declared in
@@ -16,7 +19,10 @@ public class Bedroom {
      */
     public static final String VALIDATION_REGEX = "^(?:[0-9]|1[0-9]|20)$";
 
+    private static final Map<String, Bedroom> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Bedroom}.
@@ -30,6 +36,24 @@ public class Bedroom {
         requireNonNull(bedroom);
         checkArgument(isValidBedroom(bedroom), MESSAGE_CONSTRAINTS);
         value = bedroom;
+        numericValue = Integer.parseInt(value);
+    }
+
+    /**
+     * Returns a {@code Bedroom} for {@code bedroom}, sharing one instance per distinct value.
+     *
+     * @param bedroom A valid number of bedrooms.
+     */
+    public static Bedroom of(String bedroom) {
+        requireNonNull(bedroom);
+        return SHARED_INSTANCES.computeIfAbsent(bedroom.trim(), Bedroom::new);
+    }
+
+    /**
+     * Returns the number of bedrooms as a number, parsed once on construction.
+     */
+    public int getNumericValue() {
+        return numericValue;
     }
 
     /**
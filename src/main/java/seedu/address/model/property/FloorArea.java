@@ -18,6 +18,7 @@ public class FloorArea {
     public static final String VALIDATION_REGEX = "^(?:5[0-9]|[6-9][0-9]|[1-9][0-9]{2,4}|100000)$";
 
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code FloorArea}.
@@ -31,6 +32,14 @@ public class FloorArea {
         requireNonNull(floorArea);
         checkArgument(isValidFloorArea(floorArea), MESSAGE_CONSTRAINTS);
         value = floorArea;
+        numericValue = Integer.parseInt(value);
+    }
+
+    /**
+     * Returns the floor area in square feet as a number, parsed once on construction.
+     */
+    public int getNumericValue() {
+        return numericValue;
     }
 
     /**
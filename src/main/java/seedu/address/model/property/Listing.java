@@ -3,6 +3,10 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Property's listing type in the property book.
  * Guarantees: immutable; is valid as declared in
@@ -18,7 +22,12 @@ public class Listing {
      */
     public static final String VALIDATION_REGEX = "(?i)(sale|rent)$";
 
+    /** The allowed values in lower case, in the order of their ordinals. */
+    private static final List<String> VALUES = List.of("sale", "rent");
+    private static final Map<String, Listing> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
+    private final int ordinal;
 
     /**
      * Constructs a {@code Listing}.
@@ -32,6 +41,26 @@ public class Listing {
         requireNonNull(listing);
         checkArgument(isValidListing(listing), String.format(MESSAGE_CONSTRAINTS, listing));
         value = listing.toLowerCase(); // Store in lowercase for consistency
+        ordinal = VALUES.indexOf(value);
+    }
+
+    /**
+     * Returns a {@code Listing} for {@code listing}, sharing one instance per distinct value.
+     *
+     * @param listing A valid listing type.
+     */
+    public static Listing of(String listing) {
+        requireNonNull(listing);
+        return SHARED_INSTANCES.computeIfAbsent(listing.trim().toLowerCase(), Listing::new);
+    }
+
+    /**
+     * Returns the ordinal of the listing type {@code listing}, or -1 if it is not a valid listing type.
+     * Ordinals are small integers that identify a listing type independently of case, for compact storage.
+     */
+    public static int ordinalOf(String listing) {
+        requireNonNull(listing);
+        return VALUES.indexOf(listing.trim().toLowerCase());
     }
 
     /**
@@ -49,6 +78,13 @@ public class Listing {
         return value.equals("sale");
     }
 
+    /**
+     * Returns the ordinal of this listing type, as defined by {@link #ordinalOf(String)}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -15,6 +15,9 @@ public class Owner {
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9._-]+$";
 
+    /** The owner id given to properties whose owner has been deleted. */
+    public static final String NO_OWNER_ID = "none";
+
     public final String value;
 
     /**
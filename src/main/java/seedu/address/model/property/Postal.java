@@ -16,6 +16,7 @@ public class Postal {
     public static final String VALIDATION_REGEX = "[0-9]{6}";
 
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Postal}.
@@ -29,6 +30,15 @@ public class Postal {
         requireNonNull(postal);
         checkArgument(isValidPostal(postal), MESSAGE_CONSTRAINTS);
         value = postal;
+        numericValue = Integer.parseInt(value);
+    }
+
+    /**
+     * Returns the postal code as a number, parsed once on construction.
+     * Postal codes are all 6 digits long, so two postal codes are equal exactly when their numbers are.
+     */
+    public int getNumericValue() {
+        return numericValue;
     }
 
     /**
@@ -16,6 +16,7 @@ public class Price {
     public static final String VALIDATION_REGEX = "^(?:[1-9]\\d{0,11}|1000000000000)$";
 
     public final String value;
+    private final long numericValue;
 
     /**
      * Constructs a {@code Price}.
@@ -29,6 +30,14 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         value = price;
+        numericValue = Long.parseLong(value);
+    }
+
+    /**
+     * Returns the price as a number, parsed once on construction.
+     */
+    public long getNumericValue() {
+        return numericValue;
     }
 
     /**
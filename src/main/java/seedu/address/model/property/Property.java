@@ -1,12 +1,13 @@
 package seedu.address.model.property;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.uuid.IdSet;
 import seedu.address.model.uuid.Uuid;
 
 /**
@@ -30,8 +31,12 @@ public class Property {
     private final Status status;
     private final Type type;
     private final Owner owner;
-    private final Set<Uuid> buyingContactIds = new HashSet<>();
-    private final Set<Uuid> sellingContactIds = new HashSet<>();
+    private final IdSet buyingContactIds;
+    private final IdSet sellingContactIds;
+
+    // Lower-case forms of the searchable fields, computed on first use
+    private String normalizedAddress;
+    private String normalizedOwner;
 
     /**
      * Constructs a {@code Property}.
@@ -52,8 +57,8 @@ public class Property {
         this.status = status;
         this.type = type;
         this.owner = owner;
-        this.buyingContactIds.addAll(buyingContactIds);
-        this.sellingContactIds.addAll(sellingContactIds);
+        this.buyingContactIds = IdSet.of(buyingContactIds);
+        this.sellingContactIds = IdSet.of(sellingContactIds);
     }
 
     /**
@@ -62,7 +67,7 @@ public class Property {
      */
     public Property duplicateWithNewUuid(Uuid uuid) {
         return new Property(uuid, address, bathroom, bedroom, floorArea, listing, postal,
-                price, status, type, owner, buyingContactIds, sellingContactIds);
+                price, status, type, owner, getBuyingContactIds(), getSellingContactIds());
     }
 
     // Getter methods
@@ -110,12 +115,32 @@ public class Property {
         return owner;
     }
 
+    /**
+     * Returns the address in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedAddress() {
+        if (normalizedAddress == null) {
+            normalizedAddress = address.toString().toLowerCase();
+        }
+        return normalizedAddress;
+    }
+
+    /**
+     * Returns the owner in lower case. The value is computed once and cached.
+     */
+    public String getNormalizedOwner() {
+        if (normalizedOwner == null) {
+            normalizedOwner = owner.toString().toLowerCase();
+        }
+        return normalizedOwner;
+    }
+
     /**
      * Returns an immutable contact index set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Uuid> getBuyingContactIds() {
-        return Collections.unmodifiableSet(buyingContactIds);
+        return buyingContactIds.asUuidSet(CONTACT);
     }
 
     /**
@@ -123,7 +148,7 @@ public class Property {
      * if modification is attempted.
      */
     public Set<Uuid> getSellingContactIds() {
-        return Collections.unmodifiableSet(sellingContactIds);
+        return sellingContactIds.asUuidSet(CONTACT);
     }
 
     /**
@@ -134,18 +159,34 @@ public class Property {
                 && owner.value.equals(String.valueOf(contactUuid.getValue()));
     }
 
+    /**
+     * Returns the UUID of the contact owning this property, or {@code null} if the owner is not a contact ID.
+     * The returned UUID is the one {@link #isOwnedBy(Uuid)} accepts.
+     */
+    public Uuid getOwnerUuid() {
+        try {
+            int ownerId = Integer.parseInt(owner.value);
+            if (!Uuid.isValidUuid(ownerId) || !String.valueOf(ownerId).equals(owner.value)) {
+                return null;
+            }
+            return Uuid.of(ownerId, Uuid.StoredItem.CONTACT);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Checks if the given contact UUID is a buyer of this property.
      */
     public boolean hasBuyer(Uuid contactUuid) {
-        return buyingContactIds.contains(contactUuid);
+        return buyingContactIds.contains(contactUuid.getValue());
     }
 
     /**
      * Checks if the given contact UUID is a seller of this property.
      */
     public boolean hasSeller(Uuid contactUuid) {
-        return sellingContactIds.contains(contactUuid);
+        return sellingContactIds.contains(contactUuid.getValue());
     }
 
     /**
@@ -161,7 +202,7 @@ public class Property {
      */
     public Property duplicateWithNewBuyingContactIds(Set<Uuid> buyingContactIds) {
         return new Property(uuid, address, bathroom, bedroom, floorArea, listing, postal,
-                price, status, type, owner, buyingContactIds, sellingContactIds);
+                price, status, type, owner, buyingContactIds, getSellingContactIds());
     }
 
     /**
@@ -170,7 +211,31 @@ public class Property {
      */
     public Property duplicateWithNewSellingContactIds(Set<Uuid> sellingContactIds) {
         return new Property(uuid, address, bathroom, bedroom, floorArea, listing, postal,
-                price, status, type, owner, buyingContactIds, sellingContactIds);
+                price, status, type, owner, getBuyingContactIds(), sellingContactIds);
+    }
+
+    /**
+     * Duplicates Property without any links to the contacts in {@code contactIds}.
+     * Used for removing references to deleted contacts. A deleted owner is replaced by
+     * {@link Owner#NO_OWNER_ID}.
+     */
+    public Property duplicateWithoutContacts(Set<Uuid> contactIds) {
+        Set<Uuid> remainingBuyingContactIds = new HashSet<>(getBuyingContactIds());
+        remainingBuyingContactIds.removeAll(contactIds);
+        Set<Uuid> remainingSellingContactIds = new HashSet<>(getSellingContactIds());
+        remainingSellingContactIds.removeAll(contactIds);
+        Owner remainingOwner = contactIds.stream().anyMatch(this::isOwnedBy) ? new Owner(Owner.NO_OWNER_ID) : owner;
+        return new Property(uuid, address, bathroom, bedroom, floorArea, listing, postal,
+                price, status, type, remainingOwner, remainingBuyingContactIds, remainingSellingContactIds);
+    }
+
+    /**
+     * Returns a key that is equal for two properties if and only if they are the same property under
+     * {@link #isSameProperty(Property)}, so that properties can be checked for duplicates through hashing.
+     */
+    public String getIdentityKey() {
+        // Postal codes are digits only, so the first space unambiguously separates the two parts.
+        return postal.value + " " + address.value;
     }
 
     /**
@@ -191,7 +256,7 @@ public class Property {
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
         return java.util.Objects.hash(address, bathroom, bedroom, floorArea, listing, postal, price, status, type,
-                owner, buyingContactIds, sellingContactIds);
+                owner);
     }
 
     /*
@@ -235,8 +300,8 @@ public class Property {
                 .add("Status", status)
                 .add("Type", type)
                 .add("Owner", owner)
-                .add("Buying Contact IDs", buyingContactIds)
-                .add("Selling Contact IDs", sellingContactIds)
+                .add("Buying Contact IDs", getBuyingContactIds())
+                .add("Selling Contact IDs", getSellingContactIds())
                 .toString();
     }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.property;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Indexes the properties in a {@code PropertyTable} by price and by floor area, so that range filters on either
+ * field resolve to a contiguous slice of a sorted set in O(log n + k) instead of a scan of every property.
+ * Each entry also records a key that orders its property within the property list, so that a slice can be
+ * returned either sorted by the indexed field or in list order.
+ * The index is kept in sync by {@code PropertyTable} and is read-only to everyone else.
+ */
+public class PropertyRangeIndex {
+
+    private final NavigableSet<Entry> priceIndex = new TreeSet<>(Entry.ORDER);
+    private final NavigableSet<Entry> floorAreaIndex = new TreeSet<>(Entry.ORDER);
+
+    /**
+     * Returns the properties priced between {@code minPrice} and {@code maxPrice} inclusive, sorted by price.
+     * Properties with the same price are in list order.
+     */
+    public List<Property> getByPrice(long minPrice, long maxPrice) {
+        return toProperties(slice(priceIndex, minPrice, maxPrice));
+    }
+
+    /**
+     * Returns the properties priced between {@code minPrice} and {@code maxPrice} inclusive, in list order.
+     */
+    public List<Property> getByPriceInListOrder(long minPrice, long maxPrice) {
+        return toPropertiesInListOrder(slice(priceIndex, minPrice, maxPrice));
+    }
+
+    /**
+     * Returns the properties with a floor area between {@code minFloorArea} and {@code maxFloorArea} inclusive,
+     * sorted by floor area. Properties with the same floor area are in list order.
+     */
+    public List<Property> getByFloorArea(int minFloorArea, int maxFloorArea) {
+        return toProperties(slice(floorAreaIndex, minFloorArea, maxFloorArea));
+    }
+
+    /**
+     * Returns the properties with a floor area between {@code minFloorArea} and {@code maxFloorArea} inclusive,
+     * in list order.
+     */
+    public List<Property> getByFloorAreaInListOrder(int minFloorArea, int maxFloorArea) {
+        return toPropertiesInListOrder(slice(floorAreaIndex, minFloorArea, maxFloorArea));
+    }
+
+    /**
+     * Returns the list order keys of the properties priced between {@code minPrice} and {@code maxPrice} inclusive.
+     */
+    long[] getOrderKeysByPrice(long minPrice, long maxPrice) {
+        return toOrderKeys(slice(priceIndex, minPrice, maxPrice));
+    }
+
+    /**
+     * Returns the list order keys of the properties with a floor area between {@code minFloorArea} and
+     * {@code maxFloorArea} inclusive.
+     */
+    long[] getOrderKeysByFloorArea(int minFloorArea, int maxFloorArea) {
+        return toOrderKeys(slice(floorAreaIndex, minFloorArea, maxFloorArea));
+    }
+
+    /**
+     * Indexes {@code property}, which has price {@code price}, floor area {@code floorArea} and list order key
+     * {@code orderKey}.
+     */
+    void add(Property property, long price, int floorArea, long orderKey) {
+        priceIndex.add(new Entry(price, orderKey, property));
+        floorAreaIndex.add(new Entry(floorArea, orderKey, property));
+    }
+
+    /**
+     * Removes the entries added by {@link #add(Property, long, int, long)} for the property with list order key
+     * {@code orderKey}.
+     */
+    void remove(long price, int floorArea, long orderKey) {
+        priceIndex.remove(new Entry(price, orderKey, null));
+        floorAreaIndex.remove(new Entry(floorArea, orderKey, null));
+    }
+
+    void clear() {
+        priceIndex.clear();
+        floorAreaIndex.clear();
+    }
+
+    private static NavigableSet<Entry> slice(NavigableSet<Entry> index, long min, long max) {
+        if (min > max) {
+            return new TreeSet<>(Entry.ORDER);
+        }
+        return index.subSet(new Entry(min, Long.MIN_VALUE, null), true, new Entry(max, Long.MAX_VALUE, null), true);
+    }
+
+    private static List<Property> toProperties(NavigableSet<Entry> entries) {
+        List<Property> properties = new ArrayList<>(entries.size());
+        entries.forEach(entry -> properties.add(entry.property));
+        return properties;
+    }
+
+    private static long[] toOrderKeys(NavigableSet<Entry> entries) {
+        return entries.stream().mapToLong(entry -> entry.orderKey).toArray();
+    }
+
+    private static List<Property> toPropertiesInListOrder(NavigableSet<Entry> entries) {
+        List<Entry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(Comparator.comparingLong(entry -> entry.orderKey));
+        List<Property> properties = new ArrayList<>(sortedEntries.size());
+        sortedEntries.forEach(entry -> properties.add(entry.property));
+        return properties;
+    }
+
+    /**
+     * An indexed value together with the list order key and property it belongs to.
+     */
+    private static class Entry {
+        static final Comparator<Entry> ORDER = Comparator.<Entry>comparingLong(entry -> entry.value)
+                .thenComparingLong(entry -> entry.orderKey);
+
+        private final long value;
+        private final long orderKey;
+        private final Property property;
+
+        Entry(long value, long orderKey, Property property) {
+            this.value = value;
+            this.orderKey = orderKey;
+            this.property = property;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.property;
+
+import java.util.Comparator;
+
+import seedu.address.model.uuid.Uuid;
+
+/**
+ * The fields the property list can be sorted by.
+ * Each order compares the numeric values that properties parse once when they are created, and breaks ties by
+ * UUID so that no two properties are ordered equal.
+ */
+public enum PropertySortKey {
+    PRICE("price", Comparator.comparingLong(property -> property.getPrice().getNumericValue())),
+    FLOOR_AREA("floorarea", Comparator.comparingInt(property -> property.getFloorArea().getNumericValue())),
+    ID("id", (first, second) -> 0);
+
+    private final String keyword;
+    private final Comparator<Property> order;
+
+    PropertySortKey(String keyword, Comparator<Property> order) {
+        this.keyword = keyword;
+        this.order = order.thenComparingInt(property -> uuidValueOf(property.getUuid()));
+    }
+
+    /**
+     * Returns the sort key written as {@code keyword}, ignoring case, or null if there is none.
+     */
+    public static PropertySortKey fromKeyword(String keyword) {
+        for (PropertySortKey key : values()) {
+            if (key.keyword.equalsIgnoreCase(keyword)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Comparator<Property> getOrder() {
+        return order;
+    }
+
+    private static int uuidValueOf(Uuid uuid) {
+        return uuid == null ? 0 : uuid.getValue();
+    }
+}
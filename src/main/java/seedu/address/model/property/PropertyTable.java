@@ -0,0 +1,470 @@
+package seedu.address.model.property;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import seedu.address.model.util.BitmapIndex;
+import seedu.address.model.util.TrigramIndex;
+
+/**
+ * A column-oriented copy of the filterable fields of the properties in a {@code UniquePropertyList}.
+ * Row {@code i} of every column describes the {@code i}-th property of the list, so that filters can be evaluated
+ * in tight loops over primitive arrays and only read a {@code Property} for the rows that pass.
+ * The low-cardinality columns are also indexed by value in {@code BitmapIndex}es, so that filters on them can
+ * pick out their rows by intersecting bitmaps, and the address and owner are indexed by trigram in
+ * {@code TrigramIndex}es for substring search. Every row also has an order key that increases down the table,
+ * which {@code PropertyRangeIndex} uses to recover list order. Order keys are never handed out twice, even when the
+ * table is replaced, so a key from before the table was replaced can be told apart. The bitmap and trigram indexes
+ * also refer to rows by their order keys, counted from the first key since the table was replaced, so that removing
+ * a row only has to drop its own entries instead of renumbering every row after it; their bitmaps and posting lists
+ * are mapped back to rows when they are read. The table and its indexes are kept in sync by
+ * {@code UniquePropertyList} and are read-only to everyone else.
+ */
+public class PropertyTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SAMPLE_SIZE = 128;
+    private static final String MESSAGE_TOO_MANY_ADDITIONS = "Too many properties were added since the list was "
+            + "last replaced";
+
+    private Property[] properties = new Property[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] floorAreas = new int[INITIAL_CAPACITY];
+    private int[] postals = new int[INITIAL_CAPACITY];
+    // Bedrooms, bathrooms and ordinals are all at most 20, so they fit in a byte
+    private byte[] bedrooms = new byte[INITIAL_CAPACITY];
+    private byte[] bathrooms = new byte[INITIAL_CAPACITY];
+    private byte[] typeOrdinals = new byte[INITIAL_CAPACITY];
+    private byte[] statusOrdinals = new byte[INITIAL_CAPACITY];
+    private byte[] listingOrdinals = new byte[INITIAL_CAPACITY];
+    private long[] orderKeys = new long[INITIAL_CAPACITY];
+    private long nextOrderKey = 0;
+    // The first order key handed out since the table was last replaced
+    private long firstOrderKey = 0;
+    private int size = 0;
+
+    private final PropertyRangeIndex rangeIndex = new PropertyRangeIndex();
+    private final BitmapIndex<Integer> typeIndex = new BitmapIndex<>();
+    private final BitmapIndex<Integer> statusIndex = new BitmapIndex<>();
+    private final BitmapIndex<Integer> listingIndex = new BitmapIndex<>();
+    private final BitmapIndex<Integer> bedroomIndex = new BitmapIndex<>();
+    private final BitmapIndex<Integer> bathroomIndex = new BitmapIndex<>();
+    private final TrigramIndex addressIndex = new TrigramIndex();
+    private final TrigramIndex ownerIndex = new TrigramIndex();
+
+    /**
+     * Returns the number of rows, which is the number of properties in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the property described by row {@code row}.
+     */
+    public Property getProperty(int row) {
+        return properties[checkRow(row)];
+    }
+
+    /**
+     * Returns the order key of row {@code row}. A property keeps its order key until it is removed, and properties
+     * added later get larger keys, so order keys give a list order that is stable across mutations.
+     */
+    public long getOrderKey(int row) {
+        return orderKeys[checkRow(row)];
+    }
+
+    /**
+     * Returns the first row with an order key greater than {@code orderKey}, or {@link #size()} if there is none.
+     */
+    public int getFirstRowAfter(long orderKey) {
+        int row = Arrays.binarySearch(orderKeys, 0, size, orderKey);
+        return row >= 0 ? row + 1 : -row - 1;
+    }
+
+    /**
+     * Returns the row with order key {@code orderKey}, or -1 if no row has it.
+     */
+    public int getRowWithOrderKey(long orderKey) {
+        int row = Arrays.binarySearch(orderKeys, 0, size, orderKey);
+        return row >= 0 ? row : -1;
+    }
+
+    /**
+     * Returns true if {@code orderKey} was handed out since the table was last replaced, so that it still tells
+     * where a row is, or was before it was removed.
+     */
+    public boolean isCurrentOrderKey(long orderKey) {
+        return orderKey >= firstOrderKey && orderKey < nextOrderKey;
+    }
+
+    public long getPrice(int row) {
+        return prices[checkRow(row)];
+    }
+
+    public int getFloorArea(int row) {
+        return floorAreas[checkRow(row)];
+    }
+
+    public int getPostal(int row) {
+        return postals[checkRow(row)];
+    }
+
+    public int getBedrooms(int row) {
+        return bedrooms[checkRow(row)];
+    }
+
+    public int getBathrooms(int row) {
+        return bathrooms[checkRow(row)];
+    }
+
+    public int getTypeOrdinal(int row) {
+        return typeOrdinals[checkRow(row)];
+    }
+
+    public int getStatusOrdinal(int row) {
+        return statusOrdinals[checkRow(row)];
+    }
+
+    public int getListingOrdinal(int row) {
+        return listingOrdinals[checkRow(row)];
+    }
+
+    /**
+     * Returns the index of the properties in this table by price and by floor area.
+     */
+    public PropertyRangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    /**
+     * Returns the rows whose type has ordinal {@code typeOrdinal}. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithType(int typeOrdinal) {
+        return toRows(typeIndex.getRows(typeOrdinal));
+    }
+
+    /**
+     * Returns the number of rows whose type has ordinal {@code typeOrdinal}.
+     */
+    public int countRowsWithType(int typeOrdinal) {
+        return typeIndex.countRows(typeOrdinal);
+    }
+
+    /**
+     * Returns the rows whose status has ordinal {@code statusOrdinal}. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithStatus(int statusOrdinal) {
+        return toRows(statusIndex.getRows(statusOrdinal));
+    }
+
+    /**
+     * Returns the number of rows whose status has ordinal {@code statusOrdinal}.
+     */
+    public int countRowsWithStatus(int statusOrdinal) {
+        return statusIndex.countRows(statusOrdinal);
+    }
+
+    /**
+     * Returns the rows whose listing has ordinal {@code listingOrdinal}. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithListing(int listingOrdinal) {
+        return toRows(listingIndex.getRows(listingOrdinal));
+    }
+
+    /**
+     * Returns the number of rows whose listing has ordinal {@code listingOrdinal}.
+     */
+    public int countRowsWithListing(int listingOrdinal) {
+        return listingIndex.countRows(listingOrdinal);
+    }
+
+    /**
+     * Returns the rows with {@code bedrooms} bedrooms. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithBedrooms(int bedrooms) {
+        return toRows(bedroomIndex.getRows(bedrooms));
+    }
+
+    /**
+     * Returns the number of rows with {@code bedrooms} bedrooms.
+     */
+    public int countRowsWithBedrooms(int bedrooms) {
+        return bedroomIndex.countRows(bedrooms);
+    }
+
+    /**
+     * Returns the rows with {@code bathrooms} bathrooms. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsWithBathrooms(int bathrooms) {
+        return toRows(bathroomIndex.getRows(bathrooms));
+    }
+
+    /**
+     * Returns the number of rows with {@code bathrooms} bathrooms.
+     */
+    public int countRowsWithBathrooms(int bathrooms) {
+        return bathroomIndex.countRows(bathrooms);
+    }
+
+    /**
+     * Returns the rows whose address may contain {@code keyword}, ignoring case, or null if the keyword is too
+     * short to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByAddress(String keyword) {
+        return toRows(addressIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByAddress(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByAddress(String keyword) {
+        return addressIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByAddress(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByAddress(String keyword) {
+        return addressIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the rows whose owner may contain {@code keyword}, ignoring case, or null if the keyword is too short
+     * to be looked up. The returned bitmap may be modified freely.
+     */
+    public BitSet getCandidateRowsByOwner(String keyword) {
+        return toRows(ownerIndex.getCandidateRows(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRowsByOwner(String)} returns for
+     * {@code keyword}, or -1 if the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRowsByOwner(String keyword) {
+        return ownerIndex.estimateCandidateRows(keyword);
+    }
+
+    /**
+     * Returns an estimate of the cost of looking up {@link #getCandidateRowsByOwner(String)} in the trigram index,
+     * or -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCostByOwner(String keyword) {
+        return ownerIndex.estimateLookupCost(keyword);
+    }
+
+    /**
+     * Returns the rows priced between {@code minPrice} and {@code maxPrice} inclusive, looked up in the range
+     * index. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsByPrice(long minPrice, long maxPrice) {
+        return toRows(rangeIndex.getOrderKeysByPrice(minPrice, maxPrice));
+    }
+
+    /**
+     * Returns the rows with a floor area between {@code minFloorArea} and {@code maxFloorArea} inclusive, looked
+     * up in the range index. The returned bitmap may be modified freely.
+     */
+    public BitSet getRowsByFloorArea(int minFloorArea, int maxFloorArea) {
+        return toRows(rangeIndex.getOrderKeysByFloorArea(minFloorArea, maxFloorArea));
+    }
+
+    /**
+     * Estimates how many rows are priced between {@code minPrice} and {@code maxPrice} inclusive, from a sample of
+     * at most {@value #SAMPLE_SIZE} evenly spaced rows.
+     */
+    public long estimateRowsByPrice(long minPrice, long maxPrice) {
+        return estimateRows(row -> prices[row] >= minPrice && prices[row] <= maxPrice);
+    }
+
+    /**
+     * Estimates how many rows have a floor area between {@code minFloorArea} and {@code maxFloorArea} inclusive,
+     * from a sample of at most {@value #SAMPLE_SIZE} evenly spaced rows.
+     */
+    public long estimateRowsByFloorArea(int minFloorArea, int maxFloorArea) {
+        return estimateRows(row -> floorAreas[row] >= minFloorArea && floorAreas[row] <= maxFloorArea);
+    }
+
+    /**
+     * Appends a row for {@code property}.
+     */
+    void add(Property property) {
+        if (nextOrderKey - firstOrderKey > Integer.MAX_VALUE) {
+            // Order keys are also bitmap positions, so they must fit in an int
+            throw new IllegalStateException(MESSAGE_TOO_MANY_ADDITIONS);
+        }
+        ensureCapacity(size + 1);
+        orderKeys[size] = nextOrderKey++;
+        write(size, property);
+        size++;
+        addToIndexes(size - 1);
+    }
+
+    /**
+     * Overwrites row {@code row} with the fields of {@code property}. The row keeps its order key.
+     */
+    void set(int row, Property property) {
+        removeFromIndexes(checkRow(row));
+        write(row, property);
+        addToIndexes(row);
+    }
+
+    /**
+     * Removes row {@code row}, moving the rows after it up by one.
+     */
+    void remove(int row) {
+        removeFromIndexes(checkRow(row));
+        int rowsAfter = size - row - 1;
+        System.arraycopy(properties, row + 1, properties, row, rowsAfter);
+        System.arraycopy(prices, row + 1, prices, row, rowsAfter);
+        System.arraycopy(floorAreas, row + 1, floorAreas, row, rowsAfter);
+        System.arraycopy(postals, row + 1, postals, row, rowsAfter);
+        System.arraycopy(bedrooms, row + 1, bedrooms, row, rowsAfter);
+        System.arraycopy(bathrooms, row + 1, bathrooms, row, rowsAfter);
+        System.arraycopy(typeOrdinals, row + 1, typeOrdinals, row, rowsAfter);
+        System.arraycopy(statusOrdinals, row + 1, statusOrdinals, row, rowsAfter);
+        System.arraycopy(listingOrdinals, row + 1, listingOrdinals, row, rowsAfter);
+        System.arraycopy(orderKeys, row + 1, orderKeys, row, rowsAfter);
+        size--;
+        properties[size] = null;
+    }
+
+    /**
+     * Replaces all rows with rows for {@code properties}, in order.
+     */
+    void setAll(List<Property> properties) {
+        Arrays.fill(this.properties, 0, size, null);
+        size = 0;
+        firstOrderKey = nextOrderKey;
+        rangeIndex.clear();
+        typeIndex.clear();
+        statusIndex.clear();
+        listingIndex.clear();
+        bedroomIndex.clear();
+        bathroomIndex.clear();
+        addressIndex.clear();
+        ownerIndex.clear();
+        ensureCapacity(properties.size());
+        properties.forEach(this::add);
+    }
+
+    private void write(int row, Property property) {
+        properties[row] = property;
+        prices[row] = property.getPrice().getNumericValue();
+        floorAreas[row] = property.getFloorArea().getNumericValue();
+        postals[row] = property.getPostal().getNumericValue();
+        bedrooms[row] = (byte) property.getBedroom().getNumericValue();
+        bathrooms[row] = (byte) property.getBathroom().getNumericValue();
+        typeOrdinals[row] = (byte) property.getType().getOrdinal();
+        statusOrdinals[row] = (byte) property.getStatus().getOrdinal();
+        listingOrdinals[row] = (byte) property.getListing().getOrdinal();
+    }
+
+    private long estimateRows(IntPredicate rowMatches) {
+        int stride = Math.max(1, size / SAMPLE_SIZE);
+        int sampled = 0;
+        int matched = 0;
+        for (int row = 0; row < size; row += stride) {
+            sampled++;
+            if (rowMatches.test(row)) {
+                matched++;
+            }
+        }
+        return sampled == 0 ? 0 : (long) matched * size / sampled;
+    }
+
+    /**
+     * Maps order keys to the rows that hold them. Order keys increase down the table, so each is found by binary
+     * search.
+     */
+    private BitSet toRows(long[] orderKeysToFind) {
+        BitSet rows = new BitSet(size);
+        for (long orderKey : orderKeysToFind) {
+            rows.set(Arrays.binarySearch(orderKeys, 0, size, orderKey));
+        }
+        return rows;
+    }
+
+    /**
+     * Maps order keys counted from {@code firstOrderKey}, as kept by the trigram indexes, to the rows that hold
+     * them, or returns null for a null array.
+     */
+    private BitSet toRows(int[] orderKeysToFind) {
+        if (orderKeysToFind == null) {
+            return null;
+        }
+        BitSet rows = new BitSet();
+        for (int orderKey : orderKeysToFind) {
+            rows.set(Arrays.binarySearch(orderKeys, 0, size, firstOrderKey + orderKey));
+        }
+        return rows;
+    }
+
+    /**
+     * Maps a bitmap of order keys counted from {@code firstOrderKey}, as kept by the bitmap indexes, to the rows
+     * that hold them.
+     */
+    private BitSet toRows(BitSet orderKeysToFind) {
+        if (orderKeysToFind == null) {
+            return null;
+        }
+        BitSet rows = new BitSet(size);
+        for (int orderKey = orderKeysToFind.nextSetBit(0); orderKey >= 0;
+                orderKey = orderKeysToFind.nextSetBit(orderKey + 1)) {
+            rows.set(Arrays.binarySearch(orderKeys, 0, size, firstOrderKey + orderKey));
+        }
+        return rows;
+    }
+
+    private void addToIndexes(int row) {
+        int key = (int) (orderKeys[row] - firstOrderKey);
+        rangeIndex.add(properties[row], prices[row], floorAreas[row], orderKeys[row]);
+        typeIndex.add((int) typeOrdinals[row], key);
+        statusIndex.add((int) statusOrdinals[row], key);
+        listingIndex.add((int) listingOrdinals[row], key);
+        bedroomIndex.add((int) bedrooms[row], key);
+        bathroomIndex.add((int) bathrooms[row], key);
+        addressIndex.add(key, properties[row].getNormalizedAddress());
+        ownerIndex.add(key, properties[row].getNormalizedOwner());
+    }
+
+    private void removeFromIndexes(int row) {
+        int key = (int) (orderKeys[row] - firstOrderKey);
+        rangeIndex.remove(prices[row], floorAreas[row], orderKeys[row]);
+        typeIndex.remove((int) typeOrdinals[row], key);
+        statusIndex.remove((int) statusOrdinals[row], key);
+        listingIndex.remove((int) listingOrdinals[row], key);
+        bedroomIndex.remove((int) bedrooms[row], key);
+        bathroomIndex.remove((int) bathrooms[row], key);
+        addressIndex.remove(key, properties[row].getNormalizedAddress());
+        ownerIndex.remove(key, properties[row].getNormalizedOwner());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= properties.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, properties.length * 2);
+        properties = Arrays.copyOf(properties, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        floorAreas = Arrays.copyOf(floorAreas, newCapacity);
+        postals = Arrays.copyOf(postals, newCapacity);
+        bedrooms = Arrays.copyOf(bedrooms, newCapacity);
+        bathrooms = Arrays.copyOf(bathrooms, newCapacity);
+        typeOrdinals = Arrays.copyOf(typeOrdinals, newCapacity);
+        statusOrdinals = Arrays.copyOf(statusOrdinals, newCapacity);
+        listingOrdinals = Arrays.copyOf(listingOrdinals, newCapacity);
+        orderKeys = Arrays.copyOf(orderKeys, newCapacity);
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + size + " rows");
+        }
+        return row;
+    }
+}
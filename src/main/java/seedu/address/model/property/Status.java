@@ -3,6 +3,10 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Property's status in the property book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -17,7 +21,12 @@ public class Status {
      */
     public static final String VALIDATION_REGEX = "^(?i)(available|unavailable)$";
 
+    /** The allowed values in lower case, in the order of their ordinals. */
+    private static final List<String> VALUES = List.of("available", "unavailable");
+    private static final Map<String, Status> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
+    private final int ordinal;
 
     /**
      * Constructs a {@code Status}.
@@ -31,6 +40,26 @@ public class Status {
         requireNonNull(status);
         checkArgument(isValidStatus(status), String.format(MESSAGE_CONSTRAINTS, status));
         value = status.toLowerCase(); // Store in lowercase for consistency
+        ordinal = VALUES.indexOf(value);
+    }
+
+    /**
+     * Returns a {@code Status} for {@code status}, sharing one instance per distinct value.
+     *
+     * @param status A valid status value.
+     */
+    public static Status of(String status) {
+        requireNonNull(status);
+        return SHARED_INSTANCES.computeIfAbsent(status.trim().toLowerCase(), Status::new);
+    }
+
+    /**
+     * Returns the ordinal of the status {@code status}, or -1 if it is not a valid status.
+     * Ordinals are small integers that identify a status independently of case, for compact storage.
+     */
+    public static int ordinalOf(String status) {
+        requireNonNull(status);
+        return VALUES.indexOf(status.trim().toLowerCase());
     }
 
     /**
@@ -39,6 +68,14 @@ public class Status {
     public static boolean isValidStatus(String test) {
         return test.matches(VALIDATION_REGEX);
     }
+
+    /**
+     * Returns the ordinal of this status, as defined by {@link #ordinalOf(String)}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return value;
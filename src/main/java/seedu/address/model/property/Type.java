@@ -3,6 +3,10 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Property's type in the property book.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
@@ -13,7 +17,12 @@ public class Type {
 
     public static final String VALIDATION_REGEX = "(?i)HDB|Condo|Landed|Apartment|Office|Others";
 
+    /** The allowed values in lower case, in the order of their ordinals. */
+    private static final List<String> VALUES = List.of("hdb", "condo", "landed", "apartment", "office", "others");
+    private static final Map<String, Type> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
+    private final int ordinal;
 
     /**
      * Constructs a {@code Type}.
@@ -26,6 +35,26 @@ public class Type {
         requireNonNull(type);
         checkArgument(isValidType(type), String.format(MESSAGE_CONSTRAINTS, type));
         value = type;
+        ordinal = VALUES.indexOf(value);
+    }
+
+    /**
+     * Returns a {@code Type} for {@code type}, sharing one instance per distinct value.
+     *
+     * @param type A valid property type.
+     */
+    public static Type of(String type) {
+        requireNonNull(type);
+        return SHARED_INSTANCES.computeIfAbsent(type.trim().toLowerCase(), Type::new);
+    }
+
+    /**
+     * Returns the ordinal of the type {@code type}, or -1 if it is not a valid type.
+     * Ordinals are small integers that identify a type independently of case, for compact storage.
+     */
+    public static int ordinalOf(String type) {
+        requireNonNull(type);
+        return VALUES.indexOf(type.trim().toLowerCase());
     }
 
     /**
@@ -35,6 +64,13 @@ public class Type {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the ordinal of this type, as defined by {@link #ordinalOf(String)}.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,15 +1,24 @@
 package seedu.address.model.property;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.link.LinkGraph;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.util.BatchObservableList;
+import seedu.address.model.uuid.Uuid;
 
 /**
  * A list of properties that enforces uniqueness between its elements and does
@@ -21,6 +30,12 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  * unique in terms of identity in the UniquePropertyList. However, the removal
  * of a property uses Property#equals(Object) so
  * as to ensure that the property with exactly the same fields will be removed.
+ * Properties are also indexed by their {@code Uuid} and by
+ * {@code Property#getIdentityKey()} so that ID-based lookups and duplicate
+ * checks do not need to scan the list, the links they record are kept in
+ * a {@code LinkGraph}, and their filterable fields are mirrored in a
+ * {@code PropertyTable}. These indexes are updated before listeners of the
+ * list are notified, so that a listener sees the links of an edited property.
  *
  * Supports a minimal set of list operations.
  *
@@ -28,9 +43,13 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  */
 public class UniquePropertyList implements Iterable<Property> {
 
-    private final ObservableList<Property> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Property> internalList = new BatchObservableList<>();
     private final ObservableList<Property> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private final PropertyRegistry registry = new PropertyRegistry();
+    private final Map<String, Property> identityIndex = new HashMap<>();
+    private final LinkGraph linkGraph = new LinkGraph();
+    private final PropertyTable table = new PropertyTable();
 
     /**
      * Returns true if the list contains an equivalent property as the given
@@ -38,7 +57,7 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -50,6 +69,8 @@ public class UniquePropertyList implements Iterable<Property> {
         if (contains(toAdd)) {
             throw new DuplicatePropertyException();
         }
+        table.add(toAdd);
+        register(toAdd);
         internalList.add(toAdd);
     }
 
@@ -71,6 +92,9 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        table.set(index, editedProperty);
+        unregister(internalList.get(index));
+        register(editedProperty);
         internalList.set(index, editedProperty);
     }
 
@@ -80,9 +104,51 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void remove(Property toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PropertyNotFoundException();
         }
+        table.remove(index);
+        unregister(internalList.get(index));
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces each property in {@code targets} with the property at the same position in
+     * {@code editedProperties}, as one change to the list.
+     * Each target must exist in the list. The property identity of an edited property must not be the same as
+     * another existing property in the list, or as another edited property. Nothing is replaced if any of them is.
+     */
+    public void setProperties(List<Property> targets, List<Property> editedProperties) {
+        requireAllNonNull(targets, editedProperties);
+        checkArgument(targets.size() == editedProperties.size(), "Each target must have one edited property");
+
+        int[] positions = new int[targets.size()];
+        Set<String> replacedKeys = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            positions[i] = internalList.indexOf(targets.get(i));
+            if (positions[i] == -1) {
+                throw new PropertyNotFoundException();
+            }
+            checkArgument(replacedKeys.add(targets.get(i).getIdentityKey()),
+                    "Each property can be replaced only once");
+        }
+
+        Set<String> editedKeys = new HashSet<>();
+        for (Property editedProperty : editedProperties) {
+            String key = editedProperty.getIdentityKey();
+            if (!editedKeys.add(key) || contains(editedProperty) && !replacedKeys.contains(key)) {
+                throw new DuplicatePropertyException();
+            }
+        }
+
+        for (int i = 0; i < positions.length; i++) {
+            table.set(positions[i], editedProperties.get(i));
+            // An edited property may take over the identity of another target, so unregister the targets first
+            unregister(internalList.get(positions[i]));
+        }
+        editedProperties.forEach(this::register);
+        internalList.replaceAt(positions, editedProperties);
     }
 
     /**
@@ -95,9 +161,38 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        table.setAll(properties);
+        registry.clear();
+        identityIndex.clear();
+        linkGraph.clear();
+        properties.forEach(this::register);
         internalList.setAll(properties);
     }
 
+    /**
+     * Returns the property with the given {@code id}, or {@code null} if no such
+     * property is in the list.
+     */
+    public Property getById(Uuid id) {
+        requireNonNull(id);
+        Property property = registry.getProperty(id.getValue());
+        return property != null && id.equals(property.getUuid()) ? property : null;
+    }
+
+    /**
+     * Returns the links recorded by the properties in the list.
+     */
+    public ReadOnlyLinkGraph getLinkGraph() {
+        return linkGraph;
+    }
+
+    /**
+     * Returns the properties in the list as a read-only table of columns, in list order.
+     */
+    public PropertyTable getTable() {
+        return table;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -139,13 +234,37 @@ public class UniquePropertyList implements Iterable<Property> {
      * Returns true if {@code properties} contains only unique properties.
      */
     private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
+        Set<String> seenKeys = new HashSet<>();
+        for (Property property : properties) {
+            if (!seenKeys.add(property.getIdentityKey())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Indexes {@code property} by its identity key and by its UUID, and adds its
+     * links. Properties that have not been assigned a UUID yet are not indexed by
+     * UUID.
+     */
+    private void register(Property property) {
+        identityIndex.put(property.getIdentityKey(), property);
+        linkGraph.addProperty(property);
+        if (property.getUuid() != null) {
+            registry.addProperty(property);
+        }
+    }
+
+    /**
+     * Drops the index entries and links of {@code property}, unless an index
+     * entry has since been taken over by another property.
+     */
+    private void unregister(Property property) {
+        identityIndex.remove(property.getIdentityKey(), property);
+        linkGraph.removeProperty(property);
+        if (property.getUuid() != null && registry.getProperty(property.getUuid().getValue()) == property) {
+            registry.removeProperty(property.getUuid().getValue());
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model.property.predicates;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.function.Predicate;
 
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 
@@ -12,14 +15,22 @@ import seedu.address.model.uuid.Uuid;
 public class AssociatedWithContactPredicate implements Predicate<Property> {
 
     private final Uuid contactUuid;
+    private final ReadOnlyLinkGraph linkGraph;
 
-    public AssociatedWithContactPredicate(Uuid contactUuid) {
+    /**
+     * Creates a predicate that checks properties against the neighbours of the contact in {@code linkGraph}, as
+     * they are at the time of each test.
+     */
+    public AssociatedWithContactPredicate(Uuid contactUuid, ReadOnlyLinkGraph linkGraph) {
+        requireAllNonNull(contactUuid, linkGraph);
         this.contactUuid = contactUuid;
+        this.linkGraph = linkGraph;
     }
 
     @Override
     public boolean test(Property property) {
-        return property != null && property.isAssociatedWith(contactUuid);
+        return property != null && property.getUuid() != null
+                && linkGraph.isLinked(contactUuid, property.getUuid());
     }
 
     @Override
@@ -1,9 +1,19 @@
 package seedu.address.model.property.predicates;
 
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.property.Listing;
+import seedu.address.model.property.Postal;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyTable;
+import seedu.address.model.property.Status;
+import seedu.address.model.property.Type;
+import seedu.address.model.util.CompiledPredicate;
+import seedu.address.model.util.IndexAccess;
 
 /**
  * Checks if a Property matches all filter conditions (logical AND).
@@ -15,6 +25,8 @@ import seedu.address.model.property.Property;
  */
 public class PropertyMatchesFilterPredicate implements Predicate<Property> {
 
+    private static final long NOT_A_NUMBER = -1;
+
     private final String address; // substring (case-insensitive)
     private final String postal; // 6-digit integer string
     private final String type; // equalsIgnoreCase to Type.toString()
@@ -26,6 +38,12 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
     private final String owner; // substring of Owner.toString()
     private final String listing; // sale or rent
 
+    // The numeric and categorical filters, parsed once and checked in this order
+    private final List<ColumnCheck> columnChecks;
+    // The address and owner filters, which are only checked on properties that pass the column checks
+    private final CompiledPredicate<Property> textChecks;
+    private final CompiledPredicate<Property> compiled;
+
     /**
      * Create a filter predicate which checks if a Property matches all filter conditions.
      */
@@ -42,6 +60,60 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
         this.status = norm(status);
         this.owner = norm(owner);
         this.listing = norm(listing);
+        this.columnChecks = parseColumnChecks();
+        this.textChecks = new CompiledPredicate.Builder<Property>()
+                .containsAny(Property::getNormalizedAddress, this.address == null ? null : List.of(this.address))
+                .containsAny(Property::getNormalizedOwner, this.owner == null ? null : List.of(this.owner))
+                .build();
+        this.compiled = compile();
+    }
+
+    /**
+     * Parses the numeric and categorical filters into checks on the columns they filter, in the order they are run.
+     * Numeric filters that are not a number match no property, and neither do categorical filters that are not a
+     * valid value, as no property has a negative value or ordinal.
+     */
+    private List<ColumnCheck> parseColumnChecks() {
+        List<ColumnCheck> checks = new ArrayList<>();
+        if (postal != null) {
+            long postalCode = Postal.isValidPostal(postal) ? toNumber(postal) : NOT_A_NUMBER;
+            checks.add(ColumnCheck.equalTo(Column.POSTAL, postalCode, "postal=" + postal));
+        }
+        if (type != null) {
+            checks.add(ColumnCheck.equalTo(Column.TYPE, Type.ordinalOf(type), "type=" + type));
+        }
+        if (bedroom != null) {
+            checks.add(ColumnCheck.equalTo(Column.BEDROOMS, toNumber(bedroom), "bedroom=" + bedroom));
+        }
+        if (bathroom != null) {
+            checks.add(ColumnCheck.equalTo(Column.BATHROOMS, toNumber(bathroom), "bathroom=" + bathroom));
+        }
+        if (floorarea != null) {
+            checks.add(ColumnCheck.equalTo(Column.FLOOR_AREA, toNumber(floorarea), "floorarea=" + floorarea));
+        }
+        // price less than price filter
+        if (price != null) {
+            checks.add(new ColumnCheck(Column.PRICE, 0, toNumber(price), "price<=" + price));
+        }
+        if (status != null) {
+            checks.add(ColumnCheck.equalTo(Column.STATUS, Status.ordinalOf(status), "status=" + status));
+        }
+        if (listing != null) {
+            checks.add(ColumnCheck.equalTo(Column.LISTING, Listing.ordinalOf(listing), "listing=" + listing));
+        }
+        return List.copyOf(checks);
+    }
+
+    /**
+     * Compiles the given filters into a chain of checks on a property: the column checks, then the text checks.
+     */
+    private CompiledPredicate<Property> compile() {
+        CompiledPredicate.Builder<Property> builder = new CompiledPredicate.Builder<>();
+        for (ColumnCheck check : columnChecks) {
+            ToLongFunction<Property> field = check.column.ofProperty;
+            builder.check(p -> check.test(field.applyAsLong(p)));
+        }
+        return builder.check(textChecks).build();
     }
 
     /**
@@ -49,74 +121,118 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
      *
      */
     private static String norm(String s) {
-        return s == null ? null : s.trim().toLowerCase();
+        return s == null ? null : StringUtil.normalizeKeyword(s);
     }
 
     /**
-     * Returns true if the property matches all given filters.
+     * Parses a normalised numeric filter, so that rows are compared without parsing.
      */
-    @Override
-    public boolean test(Property p) {
-        // address substring
-        if (address != null && !p.getPropertyAddress().toString().toLowerCase().contains(address)) {
-            return false;
+    private static long toNumber(String s) {
+        if (s == null) {
+            return NOT_A_NUMBER;
         }
-
-        // postal equality
-        if (postal != null && !p.getPostal().toString().equals(postal)) {
-            return false;
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return NOT_A_NUMBER;
         }
+    }
 
-        // type equality (case-insensitive)
-        if (type != null && !p.getType().toString().equalsIgnoreCase(type)) {
-            return false;
-        }
+    /**
+     * Returns true if the property matches all given filters.
+     */
+    @Override
+    public boolean test(Property p) {
+        return compiled.test(p);
+    }
 
-        // bedrooms equals
-        if (bedroom != null) {
-            String bedVal = p.getBedroom().value; // your wrapper stores string
-            if (!bedVal.equals(bedroom)) {
+    /**
+     * Returns true if the property in row {@code row} of {@code table} matches all given filters.
+     * The numeric and categorical filters are checked against the columns of {@code table} first, so the
+     * property itself is only read for rows that pass them.
+     */
+    public boolean test(PropertyTable table, int row) {
+        for (ColumnCheck check : columnChecks) {
+            if (!check.test(check.column.ofRow.read(table, row))) {
                 return false;
             }
         }
+        return textChecks.test(table.getProperty(row));
+    }
 
-        // bathrooms equals
-        if (bathroom != null) {
-            String bathVal = p.getBathroom().value;
-            if (!bathVal.equals(bathroom)) {
-                return false;
+    /**
+     * Returns the ways in which the indexes of {@code table} can narrow down the rows that match this predicate:
+     * the bitmap indexes for the type, status, listing, bedroom and bathroom filters, and the range index for the
+     * floor area and price filters, and the trigram indexes for the address and owner filters. Address and owner
+     * keywords too short to look up are left to the residual predicate.
+     */
+    public List<IndexAccess> getIndexAccesses(PropertyTable table) {
+        List<IndexAccess> accesses = new ArrayList<>();
+        for (ColumnCheck check : columnChecks) {
+            IndexAccess access = getIndexAccess(table, check);
+            if (access != null) {
+                accesses.add(access);
             }
         }
-
-        // floorarea equals
-        if (floorarea != null && !p.getFloorArea().toString().equals(floorarea)) {
-            return false;
-        }
-
-        // price less than price filter
-        if (price != null) {
-            String priceVal = p.getPrice().value; // digits only
-            if (Integer.parseInt(priceVal) > Integer.parseInt(price)) {
-                return false;
+        int rowCount = table.size();
+        if (address != null) {
+            int estimatedRows = table.estimateCandidateRowsByAddress(address);
+            if (estimatedRows != -1) {
+                long lookupCost = table.estimateLookupCostByAddress(address);
+                accesses.add(IndexAccess.ofPostings("address~" + address, estimatedRows, lookupCost, rowCount, ()
+                        -> table.getCandidateRowsByAddress(address)));
             }
         }
-
-        // status equality (case-insensitive)
-        if (status != null && !p.getStatus().toString().equalsIgnoreCase(status)) {
-            return false;
-        }
-
-        // owner substring (case-insensitive; owner is an id-like string)
-        if (owner != null && !p.getOwner().toString().toLowerCase(Locale.ROOT).contains(owner)) {
-            return false;
+        if (owner != null) {
+            int estimatedRows = table.estimateCandidateRowsByOwner(owner);
+            if (estimatedRows != -1) {
+                long lookupCost = table.estimateLookupCostByOwner(owner);
+                accesses.add(IndexAccess.ofPostings("owner~" + owner, estimatedRows, lookupCost, rowCount, ()
+                        -> table.getCandidateRowsByOwner(owner)));
+            }
         }
+        return accesses;
+    }
 
-        // listing equal
-        if (listing != null && !p.getListing().toString().equalsIgnoreCase(listing)) {
-            return false;
+    /**
+     * Returns the index access of {@code table} that answers {@code check}, or null if its column is not indexed.
+     */
+    private static IndexAccess getIndexAccess(PropertyTable table, ColumnCheck check) {
+        int rowCount = table.size();
+        int value = toInt(check.min);
+        switch (check.column) {
+        case TYPE:
+            return IndexAccess.ofBitmap(check.description, table.countRowsWithType(value), rowCount, ()
+                    -> table.getRowsWithType(value));
+        case STATUS:
+            return IndexAccess.ofBitmap(check.description, table.countRowsWithStatus(value), rowCount, ()
+                    -> table.getRowsWithStatus(value));
+        case LISTING:
+            return IndexAccess.ofBitmap(check.description, table.countRowsWithListing(value), rowCount, ()
+                    -> table.getRowsWithListing(value));
+        case BEDROOMS:
+            return IndexAccess.ofBitmap(check.description, table.countRowsWithBedrooms(value), rowCount, ()
+                    -> table.getRowsWithBedrooms(value));
+        case BATHROOMS:
+            return IndexAccess.ofBitmap(check.description, table.countRowsWithBathrooms(value), rowCount, ()
+                    -> table.getRowsWithBathrooms(value));
+        case FLOOR_AREA:
+            return IndexAccess.ofRange(check.description, table.estimateRowsByFloorArea(value, value), rowCount, ()
+                    -> table.getRowsByFloorArea(value, value));
+        case PRICE:
+            return IndexAccess.ofRange(check.description, table.estimateRowsByPrice(check.min, check.max), rowCount, ()
+                    -> table.getRowsByPrice(check.min, check.max));
+        default:
+            return null;
         }
+    }
 
-        return true;
+    /**
+     * Narrows a parsed numeric filter to an index key. Values beyond the int range match no property, and neither
+     * does {@code NOT_A_NUMBER}.
+     */
+    private static int toInt(long value) {
+        return value == (int) value ? (int) value : (int) NOT_A_NUMBER;
     }
 
     @Override
@@ -140,6 +256,68 @@ public class PropertyMatchesFilterPredicate implements Predicate<Property> {
                 && java.util.Objects.equals(listing, o.listing);
     }
 
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(address, postal, type, bedroom, bathroom, floorarea, price, status, owner,
+                listing);
+    }
+
+    /**
+     * A numeric or categorical column of a property, which can be read from a {@code Property} or from a row of a
+     * {@code PropertyTable}, so that a filter on it is defined once for both.
+     */
+    private enum Column {
+        POSTAL(p -> p.getPostal().getNumericValue(), PropertyTable::getPostal),
+        TYPE(p -> p.getType().getOrdinal(), PropertyTable::getTypeOrdinal),
+        BEDROOMS(p -> p.getBedroom().getNumericValue(), PropertyTable::getBedrooms),
+        BATHROOMS(p -> p.getBathroom().getNumericValue(), PropertyTable::getBathrooms),
+        FLOOR_AREA(p -> p.getFloorArea().getNumericValue(), PropertyTable::getFloorArea),
+        PRICE(p -> p.getPrice().getNumericValue(), PropertyTable::getPrice),
+        STATUS(p -> p.getStatus().getOrdinal(), PropertyTable::getStatusOrdinal),
+        LISTING(p -> p.getListing().getOrdinal(), PropertyTable::getListingOrdinal);
+
+        private final ToLongFunction<Property> ofProperty;
+        private final RowReader ofRow;
+
+        Column(ToLongFunction<Property> ofProperty, RowReader ofRow) {
+            this.ofProperty = ofProperty;
+            this.ofRow = ofRow;
+        }
+    }
+
+    /**
+     * Reads a column of a row of a {@code PropertyTable}.
+     */
+    @FunctionalInterface
+    private interface RowReader {
+        long read(PropertyTable table, int row);
+    }
+
+    /**
+     * A check that a column lies between {@code min} and {@code max} inclusive.
+     */
+    private static class ColumnCheck {
+        private final Column column;
+        private final long min;
+        private final long max;
+        private final String description;
+
+        ColumnCheck(Column column, long min, long max, String description) {
+            this.column = column;
+            this.min = min;
+            this.max = max;
+            this.description = description;
+        }
+
+        static ColumnCheck equalTo(Column column, long value, String description) {
+            return new ColumnCheck(column, value, value, description);
+        }
+
+        boolean test(long value) {
+            return value >= min && value <= max;
+        }
+    }
+
     /**
      * Builder for {@link PropertyMatchesFilterPredicate}.
      * Use to set any subset of filters, then call {@link #build()}.
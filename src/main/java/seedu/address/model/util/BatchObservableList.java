@@ -0,0 +1,102 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can replace many of its elements as one change.
+ * Listeners are notified once for the whole batch of replacements, with one sub-change per replaced element, so
+ * that views of the list such as filtered lists and list cells are updated once instead of once per element.
+ * Removing a range of elements, as by {@code clear} and {@code setAll}, is also one shift of the backing array and
+ * one sub-change, rather than one of each per element.
+ *
+ * @param <E> the type of the elements
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Replaces the element at each position in {@code positions} with the element at the same position in
+     * {@code replacements}, notifying listeners once.
+     *
+     * @return the replaced elements, in the order of {@code positions}.
+     */
+    public List<E> replaceAt(int[] positions, List<? extends E> replacements) {
+        requireNonNull(positions);
+        requireNonNull(replacements);
+        checkArgument(positions.length == replacements.size(), "Each position must have one replacement");
+
+        List<E> replaced = new ArrayList<>(positions.length);
+        beginChange();
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                replaced.add(set(positions[i], replacements.get(i)));
+            }
+        } finally {
+            endChange();
+        }
+        return replaced;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        beginChange();
+        try {
+            removeRange(0, size());
+            addAll(col);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<E> range = elements.subList(fromIndex, toIndex);
+        if (range.isEmpty()) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(range);
+        beginChange();
+        try {
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the rows of a list by an attribute with few distinct values, keeping one bitmap of rows per value.
+ * A conjunctive filter on several such attributes then reduces to intersecting a few bitmaps, so that only the
+ * rows that pass every attribute need to be read. A row may be indexed under several values, e.g. one per tag.
+ *
+ * @param <K> the type of the attribute values
+ */
+public class BitmapIndex<K> {
+
+    private final Map<K, BitSet> bitmaps = new HashMap<>();
+
+    /**
+     * Returns the rows indexed under {@code value}. The returned bitmap is a copy and may be modified freely.
+     */
+    public BitSet getRows(K value) {
+        BitSet rows = bitmaps.get(value);
+        return rows == null ? new BitSet() : (BitSet) rows.clone();
+    }
+
+    /**
+     * Returns the number of rows indexed under {@code value}, without copying them.
+     */
+    public int countRows(K value) {
+        BitSet rows = bitmaps.get(value);
+        return rows == null ? 0 : rows.cardinality();
+    }
+
+    /**
+     * Returns the values that at least one row is indexed under.
+     */
+    public Set<K> getValues() {
+        return Set.copyOf(bitmaps.keySet());
+    }
+
+    /**
+     * Indexes row {@code row} under {@code value}.
+     */
+    public void add(K value, int row) {
+        bitmaps.computeIfAbsent(value, unused -> new BitSet()).set(row);
+    }
+
+    /**
+     * Stops indexing row {@code row} under {@code value}.
+     */
+    public void remove(K value, int row) {
+        BitSet rows = bitmaps.get(value);
+        if (rows == null) {
+            return;
+        }
+        rows.clear(row);
+        if (rows.isEmpty()) {
+            bitmaps.remove(value);
+        }
+    }
+
+    /**
+     * Drops every row.
+     */
+    public void clear() {
+        bitmaps.clear();
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A conjunction of field checks compiled from a filter specification, tested as a flat array of checks.
+ * Fields the specification leaves out are never added, and each check is specialized to its field and keywords
+ * when it is built, so testing a value only reads its fields and compares them against constants, without
+ * wrapping anything in an {@code Optional} or a stream.
+ * Checks run in the order they are added, so cheaper and more selective checks should be added first.
+ *
+ * @param <T> the type of the values tested
+ */
+public class CompiledPredicate<T> implements Predicate<T> {
+
+    private final Predicate<? super T>[] checks;
+
+    private CompiledPredicate(Predicate<? super T>[] checks) {
+        this.checks = checks;
+    }
+
+    @Override
+    public boolean test(T value) {
+        for (Predicate<? super T> check : checks) {
+            if (!check.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of checks a value may go through.
+     */
+    public int getCheckCount() {
+        return checks.length;
+    }
+
+    /**
+     * Collects the checks of a {@link CompiledPredicate}.
+     *
+     * @param <T> the type of the values tested
+     */
+    public static class Builder<T> {
+        private final List<Predicate<? super T>> checks = new ArrayList<>();
+
+        /**
+         * Adds {@code check} as is.
+         */
+        public Builder<T> check(Predicate<? super T> check) {
+            requireNonNull(check);
+            checks.add(check);
+            return this;
+        }
+
+        /**
+         * Adds a check that the text read by {@code field} contains one of {@code keys}, unless {@code keys} is
+         * null. The text and the keys are compared as they are, so both should already be normalized.
+         */
+        public Builder<T> containsAny(Function<? super T, String> field, List<String> keys) {
+            requireNonNull(field);
+            if (keys == null) {
+                return this;
+            }
+            if (keys.size() == 1) {
+                String key = keys.get(0);
+                return check(value -> field.apply(value).contains(key));
+            }
+            String[] keyArray = keys.toArray(String[]::new);
+            return check(value -> anyContained(field.apply(value), keyArray));
+        }
+
+        /**
+         * Adds a check that the text read by {@code field} equals one of {@code keys}, unless {@code keys} is null.
+         */
+        public Builder<T> equalsAny(Function<? super T, String> field, List<String> keys) {
+            requireNonNull(field);
+            if (keys == null) {
+                return this;
+            }
+            if (keys.size() == 1) {
+                String key = keys.get(0);
+                return check(value -> key.equals(field.apply(value)));
+            }
+            String[] keyArray = keys.toArray(String[]::new);
+            return check(value -> anyEqual(field.apply(value), keyArray));
+        }
+
+        /**
+         * Adds a check that the number read by {@code field} equals {@code expected}.
+         */
+        public Builder<T> equalTo(ToLongFunction<? super T> field, long expected) {
+            requireNonNull(field);
+            return check(value -> field.applyAsLong(value) == expected);
+        }
+
+        /**
+         * Adds a check that the number read by {@code field} is at least {@code min}.
+         */
+        public Builder<T> atLeast(ToLongFunction<? super T> field, long min) {
+            requireNonNull(field);
+            return check(value -> field.applyAsLong(value) >= min);
+        }
+
+        /**
+         * Adds a check that the number read by {@code field} is at most {@code max}.
+         */
+        public Builder<T> atMost(ToLongFunction<? super T> field, long max) {
+            requireNonNull(field);
+            return check(value -> field.applyAsLong(value) <= max);
+        }
+
+        /**
+         * Adds a check that no value passes, for a specification that can never match.
+         */
+        public Builder<T> never() {
+            return check(value -> false);
+        }
+
+        /**
+         * Returns a predicate that passes the values that pass every check added so far.
+         */
+        @SuppressWarnings("unchecked")
+        public CompiledPredicate<T> build() {
+            return new CompiledPredicate<>(checks.toArray(Predicate[]::new));
+        }
+
+        private static boolean anyContained(String text, String[] keys) {
+            for (String key : keys) {
+                if (text.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean anyEqual(String text, String[] keys) {
+            for (String key : keys) {
+                if (key.equals(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Supplier;
+
+/**
+ * One way of narrowing a query down to candidate rows through an index, with estimates of how many rows it yields
+ * and how much it costs to look up, for {@link QueryPlan} to choose from.
+ * Costs are in the same unit as testing one row against a predicate. The rows themselves are only looked up for
+ * the accesses a plan chooses, so the estimates must be cheap to work out.
+ */
+public class IndexAccess {
+
+    private final String description;
+    private final long estimatedRows;
+    private final long estimatedCost;
+    private final Supplier<BitSet> rows;
+
+    /**
+     * Creates an {@code IndexAccess} that yields the rows supplied by {@code rows}.
+     * {@code rows} is called at most once, and the bitmap it returns may be modified by the caller.
+     */
+    public IndexAccess(String description, long estimatedRows, long estimatedCost, Supplier<BitSet> rows) {
+        requireNonNull(description);
+        requireNonNull(rows);
+        this.description = description;
+        this.estimatedRows = estimatedRows;
+        this.estimatedCost = estimatedCost;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns an access that yields the rows supplied by {@code rows}, about {@code estimatedRows} of them, looked
+     * up from a bitmap index over {@code rowCount} rows. Combining the bitmap costs one pass over its words.
+     */
+    public static IndexAccess ofBitmap(String description, long estimatedRows, int rowCount, Supplier<BitSet> rows) {
+        return new IndexAccess(description, estimatedRows, rowCount / Long.SIZE + 1, rows);
+    }
+
+    /**
+     * Returns an access that yields the rows supplied by {@code rows}, about {@code estimatedRows} of them, looked
+     * up by intersecting posting lists at a cost of {@code lookupCost}, e.g. as estimated by
+     * {@link TrigramIndex#estimateLookupCost(String)}. Each row found then costs about one logarithmic lookup in a
+     * table of {@code rowCount} rows to map it back to its row.
+     */
+    public static IndexAccess ofPostings(String description, long estimatedRows, long lookupCost, int rowCount,
+            Supplier<BitSet> rows) {
+        long rowLookupCost = Long.SIZE - Long.numberOfLeadingZeros(rowCount) + 1;
+        return new IndexAccess(description, estimatedRows, lookupCost + estimatedRows * rowLookupCost, rows);
+    }
+
+    /**
+     * Returns an access that yields the rows supplied by {@code rows}, looked up from a sorted index over
+     * {@code rowCount} rows. Each of the estimated rows costs about one logarithmic lookup.
+     */
+    public static IndexAccess ofRange(String description, long estimatedRows, int rowCount, Supplier<BitSet> rows) {
+        long lookupCost = Long.SIZE - Long.numberOfLeadingZeros(rowCount) + 1;
+        return new IndexAccess(description, estimatedRows, estimatedRows * lookupCost, rows);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    public long getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    /**
+     * Looks up the rows this access yields.
+     */
+    BitSet getRows() {
+        return rows.get();
+    }
+
+    @Override
+    public String toString() {
+        return description + " (~" + estimatedRows + " rows)";
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * The rows of a table that match a query, found in row order as far as they have been asked for.
+ * The candidate rows are only searched until enough matches are found for the page being asked for, and a later
+ * page resumes the search where the last one stopped, so a page costs no more than the rows up to its end.
+ * The table must not change while the matches are in use.
+ */
+public class MatchedRows {
+
+    private final BitSet candidateRows;
+    private final IntPredicate isMatch;
+    private int[] rows = new int[16];
+    private int size = 0;
+    // The next candidate row to test, or -1 once every candidate row has been tested
+    private int nextCandidate;
+
+    /**
+     * Creates the matches among {@code candidateRows} that pass {@code isMatch}, none of which are searched yet.
+     */
+    public MatchedRows(BitSet candidateRows, IntPredicate isMatch) {
+        requireNonNull(candidateRows);
+        requireNonNull(isMatch);
+        this.candidateRows = candidateRows;
+        this.isMatch = isMatch;
+        this.nextCandidate = candidateRows.nextSetBit(0);
+    }
+
+    /**
+     * Returns the row of match {@code index}, counting from 0. The match must have been found already.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return rows[index];
+    }
+
+    /**
+     * Returns the number of matches found so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Searches on until at least {@code count} matches are found, or every candidate row has been searched.
+     * Returns the number of matches found, which is less than {@code count} only if there are no more.
+     */
+    public int findUpTo(long count) {
+        while (size < count && nextCandidate >= 0) {
+            findNext();
+        }
+        return size;
+    }
+
+    /**
+     * Searches every candidate row that is left, and returns the number of matches.
+     */
+    public int findAll() {
+        return findUpTo(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the index of the first match at or after row {@code row}, or the number of matches if there is none.
+     * Searches on only until such a match is found.
+     */
+    public int indexOfFirstAtOrAfter(int row) {
+        while ((size == 0 || rows[size - 1] < row) && nextCandidate >= 0) {
+            findNext();
+        }
+        int index = Arrays.binarySearch(rows, 0, size, row);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Tests candidate rows until the next match is found, or every candidate row has been tested.
+     */
+    private void findNext() {
+        while (nextCandidate >= 0) {
+            int row = nextCandidate;
+            nextCandidate = row == Integer.MAX_VALUE ? -1 : candidateRows.nextSetBit(row + 1);
+            if (isMatch.test(row)) {
+                if (size == rows.length) {
+                    rows = Arrays.copyOf(rows, size * 2);
+                }
+                rows[size++] = row;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The elements of a source list that pass a query, kept up to date as the source list changes.
+ * The view holds either every element that passes the criteria of the query, or a chosen part of them such as one
+ * page. Each change to the source list is applied as a delta: only the elements added or replaced are tested
+ * against the criteria, so an added element joins the view if it passes them, and an element that replaces a shown
+ * element stays shown if it still passes them. The criteria are only tested against the whole source list when
+ * they are set.
+ * Without an order, the view is in the order of the source list. With one, the view is sorted once when the order
+ * is chosen, and each later change is placed by binary search, so an edit costs O(log n) comparisons instead of a
+ * re-sort of the whole view. Orders should compare keys that the elements already hold, so that a comparison
+ * computes nothing.
+ *
+ * @param <T> the type of the elements
+ */
+public class MaterializedView<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+    private final Set<T> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Predicate<? super T> criteria = element -> true;
+    private boolean isComplete = true;
+    private Comparator<? super T> order;
+
+    // The position in the source list of each element in the view, while the view is in the order of the source list
+    private int[] sourcePositions = new int[INITIAL_CAPACITY];
+
+    /**
+     * Creates a view of every element of {@code source}, in the order of {@code source}.
+     */
+    public MaterializedView(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        members.addAll(source);
+        rebuild();
+        source.addListener(this::sourceChanged);
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements in the view, in the order of the view.
+     */
+    public ObservableList<T> getItems() {
+        return unmodifiableItems;
+    }
+
+    public Predicate<? super T> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns true if {@code element} is in the view. Elements are compared by identity.
+     */
+    public boolean contains(T element) {
+        return members.contains(element);
+    }
+
+    /**
+     * Shows every element of the source list that passes {@code criteria}.
+     */
+    public void setCriteria(Predicate<? super T> criteria) {
+        requireNonNull(criteria);
+        this.criteria = criteria;
+        isComplete = true;
+        members.clear();
+        for (T element : source) {
+            if (criteria.test(element)) {
+                members.add(element);
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Shows {@code result}, which holds some of the elements of the source list that pass {@code criteria}.
+     * Elements added to the source list later, and elements that replace a shown element, are shown if they pass
+     * {@code criteria}.
+     */
+    public void setResult(Predicate<? super T> criteria, Collection<? extends T> result) {
+        requireAllNonNull(criteria, result);
+        this.criteria = criteria;
+        isComplete = false;
+        members.clear();
+        members.addAll(result);
+        rebuild();
+    }
+
+    /**
+     * Returns the order of the view, or null if the view is in the order of the source list.
+     */
+    public Comparator<? super T> getOrder() {
+        return order;
+    }
+
+    /**
+     * Orders the view by {@code order}, or by the order of the source list if {@code order} is null.
+     */
+    public void setOrder(Comparator<? super T> order) {
+        this.order = order;
+        rebuild();
+    }
+
+    /**
+     * Replaces the elements in the view with the members of the view, in the order of the view.
+     */
+    private void rebuild() {
+        List<T> shown = new ArrayList<>(members.size());
+        sourcePositions = new int[Math.max(INITIAL_CAPACITY, members.size())];
+        for (int i = 0; i < source.size(); i++) {
+            T element = source.get(i);
+            if (members.contains(element)) {
+                sourcePositions[shown.size()] = i;
+                shown.add(element);
+            }
+        }
+        if (order != null) {
+            shown.sort(order);
+        }
+        items.setAll(shown);
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                rebuild();
+                return;
+            }
+            applyReplacement(change.getFrom(), change.getRemoved(), change.getAddedSize());
+        }
+    }
+
+    /**
+     * Applies the replacement of {@code removed} by the {@code addedSize} elements at position {@code from} of the
+     * source list. An added element replaces the removed element at the same offset, if there is one.
+     */
+    private void applyReplacement(int from, List<? extends T> removed, int addedSize) {
+        boolean[] wasShown = new boolean[removed.size()];
+        for (int i = 0; i < removed.size(); i++) {
+            wasShown[i] = members.remove(removed.get(i));
+        }
+        if (order == null) {
+            removeSourceRange(from, removed.size(), addedSize);
+        } else {
+            for (int i = 0; i < removed.size(); i++) {
+                if (wasShown[i]) {
+                    items.remove(indexOf(removed.get(i)));
+                }
+            }
+        }
+
+        for (int i = 0; i < addedSize; i++) {
+            T added = source.get(from + i);
+            boolean mayJoin = isComplete || i >= removed.size() || wasShown[i];
+            if (mayJoin && criteria.test(added)) {
+                members.add(added);
+                insert(added, from + i);
+            }
+        }
+    }
+
+    /**
+     * Removes the elements of the view at source positions {@code from} to {@code from + removedSize - 1}, and
+     * moves the source positions after them by the change in size of the source list.
+     */
+    private void removeSourceRange(int from, int removedSize, int addedSize) {
+        int count = items.size();
+        int start = firstAtOrAfter(from);
+        int end = firstAtOrAfter(from + removedSize);
+        System.arraycopy(sourcePositions, end, sourcePositions, start, count - end);
+        int remaining = count - (end - start);
+        for (int i = start; i < remaining; i++) {
+            sourcePositions[i] += addedSize - removedSize;
+        }
+        if (start < end) {
+            items.remove(start, end);
+        }
+    }
+
+    /**
+     * Adds {@code element}, which is at position {@code sourcePosition} of the source list, to the view.
+     */
+    private void insert(T element, int sourcePosition) {
+        if (order != null) {
+            items.add(insertionPoint(element), element);
+            return;
+        }
+        int count = items.size();
+        int position = firstAtOrAfter(sourcePosition);
+        if (count == sourcePositions.length) {
+            sourcePositions = Arrays.copyOf(sourcePositions, count * 2);
+        }
+        System.arraycopy(sourcePositions, position, sourcePositions, position + 1, count - position);
+        sourcePositions[position] = sourcePosition;
+        items.add(position, element);
+    }
+
+    /**
+     * Returns the position in the view of the first element at or after position {@code sourcePosition} of the
+     * source list, while the view is in the order of the source list.
+     */
+    private int firstAtOrAfter(int sourcePosition) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourcePositions[mid] < sourcePosition) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code element} in the sorted view, looking only among the elements ordered equal to
+     * it.
+     */
+    private int indexOf(T element) {
+        for (int i = lowerBound(element); i < items.size() && order.compare(items.get(i), element) == 0; i++) {
+            if (items.get(i) == element) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Element is not in the view: " + element);
+    }
+
+    /**
+     * Returns the position in the sorted view after every element ordered before or equal to {@code element}.
+     */
+    private int insertionPoint(T element) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(items.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in the sorted view of the first element ordered equal to or after {@code element}.
+     */
+    private int lowerBound(T element) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(items.get(mid), element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One page of query results, with a cursor to the next page if there are more results after it.
+ *
+ * @param <T> the type of the results
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    /**
+     * Creates a page of {@code items}, followed by more results from {@code nextCursor} onwards if it is not null.
+     */
+    public Page(List<T> items, PageCursor nextCursor) {
+        requireNonNull(items);
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the cursor to continue from for the next page, or an empty {@code Optional} if this is the last page.
+     */
+    public Optional<PageCursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
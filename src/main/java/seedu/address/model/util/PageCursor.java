@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Marks where a page of results ended, so that the next page can continue from there.
+ * A cursor holds the sort key and the UUID value of the last result shown. Results are ordered by sort key, which
+ * no two results share, so the next page is the results ordered after the cursor, however the list changed in
+ * between. The UUID value tells whether the result at the sort key is still the one the cursor was taken from.
+ * Guarantees: immutable; is valid as declared in {@link #isValidCursor(String)}
+ */
+public class PageCursor {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Cursor should be two non-negative integers separated by a colon, e.g. 12:34";
+
+    /*
+     * The sort key, a colon, then the UUID value.
+     */
+    public static final String VALIDATION_REGEX = "[0-9]{1,18}:[0-9]{1,9}";
+
+    private final long sortKey;
+    private final int uuid;
+
+    /**
+     * Constructs a {@code PageCursor} after the result with sort key {@code sortKey} and UUID value {@code uuid}.
+     */
+    public PageCursor(long sortKey, int uuid) {
+        checkArgument(sortKey >= 0 && uuid >= 0, MESSAGE_CONSTRAINTS);
+        this.sortKey = sortKey;
+        this.uuid = uuid;
+    }
+
+    /**
+     * Returns the cursor written as {@code cursor} by {@link #toString()}.
+     *
+     * @param cursor A valid cursor.
+     */
+    public static PageCursor parse(String cursor) {
+        requireNonNull(cursor);
+        String trimmed = cursor.trim();
+        checkArgument(isValidCursor(trimmed), MESSAGE_CONSTRAINTS);
+        int separator = trimmed.indexOf(':');
+        return new PageCursor(Long.parseLong(trimmed.substring(0, separator)),
+                Integer.parseInt(trimmed.substring(separator + 1)));
+    }
+
+    /**
+     * Returns true if a given string is a valid cursor.
+     */
+    public static boolean isValidCursor(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    public long getSortKey() {
+        return sortKey;
+    }
+
+    public int getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public String toString() {
+        return sortKey + ":" + uuid;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageCursor)) {
+            return false;
+        }
+
+        PageCursor otherCursor = (PageCursor) other;
+        return sortKey == otherCursor.sortKey && uuid == otherCursor.uuid;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sortKey) * 31 + uuid;
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sorted list of distinct row keys, stored in an {@code int[]} that grows as keys are added.
+ * Unlike a bitmap, a posting list takes space and time in proportion to the keys it holds rather than to the
+ * largest key, so it suits sparse sets such as the rows containing one trigram. Rows are added in increasing key
+ * order in the common case, which only appends.
+ */
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Returns the number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code key} is in the list.
+     */
+    public boolean contains(int key) {
+        return Arrays.binarySearch(keys, 0, size, key) >= 0;
+    }
+
+    /**
+     * Returns the keys in increasing order. The returned array is a copy and may be modified freely.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(keys, size);
+    }
+
+    /**
+     * Adds {@code key}, unless it is already in the list.
+     */
+    public void add(int key) {
+        int index = size == 0 || keys[size - 1] < key ? -size - 1 : Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        keys[insertAt] = key;
+        size++;
+    }
+
+    /**
+     * Removes {@code key}, if it is in the list.
+     */
+    public void remove(int key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Returns the keys in every one of {@code postingLists}, in increasing order.
+     * The lists are intersected from the shortest up, so the keys left to check never outnumber the shortest list,
+     * and each longer list is either merged with them or probed by binary search, whichever reads fewer keys.
+     * The remaining lists are skipped once no key is left.
+     */
+    public static int[] intersect(List<PostingList> postingLists) {
+        if (postingLists.isEmpty()) {
+            return new int[0];
+        }
+        List<PostingList> byLength = new ArrayList<>(postingLists);
+        byLength.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] result = byLength.get(0).toArray();
+        int resultSize = result.length;
+        for (int i = 1; i < byLength.size() && resultSize > 0; i++) {
+            PostingList other = byLength.get(i);
+            resultSize = shouldProbe(resultSize, other.size)
+                    ? retainProbed(result, resultSize, other)
+                    : retainMerged(result, resultSize, other);
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Returns an estimate of how many keys {@link #intersect(List)} reads to intersect posting lists of the given
+     * {@code lengths}, assuming that as many keys as the shortest list holds are left after each step.
+     */
+    public static long estimateIntersectCost(int... lengths) {
+        if (lengths.length == 0) {
+            return 0;
+        }
+        int[] sorted = lengths.clone();
+        Arrays.sort(sorted);
+        long candidates = sorted[0];
+        long cost = candidates;
+        for (int i = 1; i < sorted.length && candidates > 0; i++) {
+            cost += Math.min(candidates + sorted[i], candidates * log2(sorted[i]));
+        }
+        return cost;
+    }
+
+    /**
+     * Returns true if probing a list of {@code otherSize} keys once for each of {@code candidates} keys reads fewer
+     * keys than merging the two.
+     */
+    private static boolean shouldProbe(long candidates, int otherSize) {
+        return candidates * log2(otherSize) < candidates + otherSize;
+    }
+
+    /**
+     * Returns the number of binary search steps in a list of {@code size} keys, which is at least 1.
+     */
+    private static int log2(int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Keeps the first {@code size} keys of {@code result} that {@code other} contains, found by binary search,
+     * and returns how many are kept.
+     */
+    private static int retainProbed(int[] result, int size, PostingList other) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (other.contains(result[i])) {
+                result[kept++] = result[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Keeps the first {@code size} keys of {@code result} that {@code other} contains, found by walking both lists
+     * in step, and returns how many are kept.
+     */
+    private static int retainMerged(int[] result, int size, PostingList other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < other.size; i++) {
+            while (j < other.size && other.keys[j] < result[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == result[i]) {
+                result[kept++] = result[i];
+                j++;
+            }
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of query results, keyed by the query and the version of the data it was resolved against.
+ * Queries are compared with {@code equals}, so equal queries share a result. The data version must change whenever
+ * the data changes, so that a result is never returned for data it was not resolved against. When the cache is
+ * full, the least recently used result is dropped to make room.
+ *
+ * @param <V> the type of the results
+ */
+public class QueryCache<V> {
+
+    private final int capacity;
+    private final Map<Key, V> results;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} results.
+     */
+    public QueryCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code query} against version {@code version} of the data, resolving it with
+     * {@code resolver} and caching it if it is not cached.
+     */
+    public V get(Object query, long version, Supplier<? extends V> resolver) {
+        requireNonNull(query);
+        requireNonNull(resolver);
+        Key key = new Key(query, version);
+        V result = results.get(key);
+        if (result != null) {
+            hitCount++;
+            return result;
+        }
+        missCount++;
+        result = requireNonNull(resolver.get());
+        results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Returns the hit and miss counts and the size of the cache so far.
+     */
+    public Stats getStats() {
+        return new Stats(hitCount, missCount, results.size(), capacity);
+    }
+
+    /**
+     * A query and the version of the data it was resolved against.
+     */
+    private static class Key {
+        private final Object query;
+        private final long version;
+
+        Key(Object query, long version) {
+            this.query = query;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key
+                    && version == ((Key) other).version
+                    && query.equals(((Key) other).query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, version);
+        }
+    }
+
+    /**
+     * The hit and miss counts and the size of a {@code QueryCache} at one point in time.
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+        private final int capacity;
+
+        /**
+         * Creates the stats of a cache with {@code size} of {@code capacity} results cached, which has answered
+         * {@code hitCount} queries from the cache and resolved {@code missCount}.
+         */
+        public Stats(long hitCount, long missCount, int size, int capacity) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Stats)) {
+                return false;
+            }
+
+            Stats otherStats = (Stats) other;
+            return hitCount == otherStats.hitCount
+                    && missCount == otherStats.missCount
+                    && size == otherStats.size
+                    && capacity == otherStats.capacity;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hitCount, missCount, size, capacity);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which indexes a filter should go through before its predicate is run on the remaining rows.
+ * The filter's criteria are split into the parts that an {@link IndexAccess} can answer and a residual predicate.
+ * Accesses are considered from the most selective down, and each is only used if looking it up is estimated to
+ * cost less than the residual tests it saves, treating the criteria as independent. If no access pays off, every
+ * row is a candidate, which is the same as a scan.
+ */
+public class QueryPlan {
+
+    private final int rowCount;
+    private final List<IndexAccess> accesses;
+    private final long estimatedRows;
+
+    private QueryPlan(int rowCount, List<IndexAccess> accesses, long estimatedRows) {
+        this.rowCount = rowCount;
+        this.accesses = accesses;
+        this.estimatedRows = estimatedRows;
+    }
+
+    /**
+     * Chooses the accesses among {@code candidates} that are worth using for a query over {@code rowCount} rows.
+     */
+    public static QueryPlan choose(int rowCount, List<IndexAccess> candidates) {
+        requireNonNull(candidates);
+        List<IndexAccess> bySelectivity = new ArrayList<>(candidates);
+        bySelectivity.sort(Comparator.comparingLong(IndexAccess::getEstimatedRows));
+
+        List<IndexAccess> chosen = new ArrayList<>();
+        double expectedRows = rowCount;
+        for (IndexAccess access : bySelectivity) {
+            double remainingRows = rowCount == 0 ? 0 : expectedRows * access.getEstimatedRows() / rowCount;
+            if (access.getEstimatedCost() < expectedRows - remainingRows) {
+                chosen.add(access);
+                expectedRows = remainingRows;
+            }
+        }
+        return new QueryPlan(rowCount, chosen, Math.round(expectedRows));
+    }
+
+    /**
+     * Returns true if no index is used, so that the residual predicate is run on every row.
+     */
+    public boolean isFullScan() {
+        return accesses.isEmpty();
+    }
+
+    /**
+     * Returns the accesses used, most selective first.
+     */
+    public List<IndexAccess> getAccesses() {
+        return List.copyOf(accesses);
+    }
+
+    public long getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    /**
+     * Looks up the chosen accesses and returns the rows that pass all of them, for the residual predicate to be
+     * run on. The most selective bitmaps are intersected first, and the remaining ones are skipped once no row is
+     * left. For a full scan, every row is returned.
+     */
+    public BitSet getCandidateRows() {
+        if (accesses.isEmpty()) {
+            BitSet allRows = new BitSet(rowCount);
+            allRows.set(0, rowCount);
+            return allRows;
+        }
+        BitSet rows = accesses.get(0).getRows();
+        for (int i = 1; i < accesses.size() && !rows.isEmpty(); i++) {
+            rows.and(accesses.get(i).getRows());
+        }
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        if (accesses.isEmpty()) {
+            return "full scan of " + rowCount + " rows";
+        }
+        return accesses.stream().map(IndexAccess::toString).collect(Collectors.joining(" AND "))
+                + ", then residual filter on ~" + estimatedRows + " rows";
+    }
+}
@@ -49,62 +49,62 @@ public class SampleDataUtil {
     @SuppressWarnings("checkstyle:Regexp")
     public static Contact[] getSampleContacts() {
         return new Contact[] {
-            new Contact(new Uuid(1, CONTACT), new Name("Alex Yeoh"), new Phone("87438807"),
+            new Contact(Uuid.of(1, CONTACT), new Name("Alex Yeoh"), new Phone("87438807"),
                         new Email("alexyeoh@example.com"),
                         new ContactAddress("Blk 30 Geylang Street 29, #06-40"), getTagSet("landlord"),
                         new BudgetMin("50000"), new BudgetMax("1000000"), new Notes("Prefers email contact"),
-                        new ContactStatus("Active"), EMPTY_BUYING_PROPERTY_ID_SET, Set.of(new Uuid(1, PROPERTY))),
+                        new ContactStatus("Active"), EMPTY_BUYING_PROPERTY_ID_SET, Set.of(Uuid.of(1, PROPERTY))),
 
-            new Contact(new Uuid(2, CONTACT), new Name("Bernice Yu"), new Phone("99272758"),
+            new Contact(Uuid.of(2, CONTACT), new Name("Bernice Yu"), new Phone("99272758"),
                         new Email("berniceyu@example.com"),
                         new ContactAddress("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), EMPTY_TAG_SET,
                         new BudgetMin("50000"), new BudgetMax("1000000"), new Notes("VIP client"),
                         new ContactStatus("Active"), EMPTY_BUYING_PROPERTY_ID_SET, EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(3, CONTACT), new Name("Charlotte Oliveiro"), new Phone("93210283"),
+            new Contact(Uuid.of(3, CONTACT), new Name("Charlotte Oliveiro"), new Phone("93210283"),
                         new Email("charlotte@example.com"),
                         new ContactAddress("Blk 11 Ang Mo Kio Street 74, #11-04"), EMPTY_TAG_SET,
                         new BudgetMin("70000"), new BudgetMax("1000000"), new Notes("Follow up in July"),
                         new ContactStatus("Inactive"), EMPTY_BUYING_PROPERTY_ID_SET, EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(4, CONTACT), new Name("David Li"), new Phone("91031282"),
+            new Contact(Uuid.of(4, CONTACT), new Name("David Li"), new Phone("91031282"),
                         new Email("lidavid@example.com"),
                         new ContactAddress("Blk 436 Serangoon Gardens Street 26, #16-43"), EMPTY_TAG_SET,
                         new BudgetMin("80000"), new BudgetMax("90000"), new Notes("Prefers phone calls"),
-                        new ContactStatus("Active"), Set.of(new Uuid(3, PROPERTY), new Uuid(5, PROPERTY)),
+                        new ContactStatus("Active"), Set.of(Uuid.of(3, PROPERTY), Uuid.of(5, PROPERTY)),
                         EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(5, CONTACT), new Name("Irfan Ibrahim"), new Phone("92492021"),
+            new Contact(Uuid.of(5, CONTACT), new Name("Irfan Ibrahim"), new Phone("92492021"),
                         new Email("irfan@example.com"),
                         new ContactAddress("Blk 47 Tampines Street 20, #17-35"), EMPTY_TAG_SET,
                         new BudgetMin("80000"), new BudgetMax("90000"), new Notes("Interested in workshops"),
                         new ContactStatus("Inactive"), EMPTY_BUYING_PROPERTY_ID_SET, EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(6, CONTACT), new Name("Roy Balakrishnan"), new Phone("92624417"),
+            new Contact(Uuid.of(6, CONTACT), new Name("Roy Balakrishnan"), new Phone("92624417"),
                         new Email("royb@example.com"),
                         new ContactAddress("Blk 45 Aljunied Street 85, #11-31"), EMPTY_TAG_SET,
                         new BudgetMin("50000"), new BudgetMax("500000"), new Notes("VIP"),
                         new ContactStatus("Active"), EMPTY_BUYING_PROPERTY_ID_SET, EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(7, CONTACT), new Name("Gyuri Kim"), new Phone("91119911"),
+            new Contact(Uuid.of(7, CONTACT), new Name("Gyuri Kim"), new Phone("91119911"),
                         new Email("gyuri.kim@test.com.sg"), new ContactAddress("Blk 10 Punggol Field, #02-11"),
                         getTagSet("tenant"), new BudgetMin("800000"), new BudgetMax("900000"),
                         new Notes("New arrival"), new ContactStatus("Active"),
-                        Set.of(new Uuid(2, PROPERTY)), EMPTY_SELLING_PROPERTY_ID_SET),
+                        Set.of(Uuid.of(2, PROPERTY)), EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(8, CONTACT), new Name("Tan Wei Ming"), new Phone("98765544"),
+            new Contact(Uuid.of(8, CONTACT), new Name("Tan Wei Ming"), new Phone("98765544"),
                         new Email("weiming.tan@example.sg"), new ContactAddress("Blk 53 Bishan St 13, #09-22"),
                         getTagSet("buyer"), new BudgetMin("200000"), new BudgetMax("300000"),
                         new Notes("Prefers city area"), new ContactStatus("Inactive"),
-                        Set.of(new Uuid(6, PROPERTY)), EMPTY_SELLING_PROPERTY_ID_SET),
+                        Set.of(Uuid.of(6, PROPERTY)), EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(9, CONTACT), new Name("Priya Raj"), new Phone("93334444"),
+            new Contact(Uuid.of(9, CONTACT), new Name("Priya Raj"), new Phone("93334444"),
                         new Email("priya.raj@example.com"), new ContactAddress("Blk 88 Toa Payoh Central, #20-02"),
                         getTagSet("seller"), new BudgetMin("200000"), new BudgetMax("900000"),
                         new Notes("Wants fast deal"), new ContactStatus("Active"),
                         EMPTY_BUYING_PROPERTY_ID_SET, EMPTY_SELLING_PROPERTY_ID_SET),
 
-            new Contact(new Uuid(10, CONTACT), new Name("Jonathan Lim"), new Phone("91237654"),
+            new Contact(Uuid.of(10, CONTACT), new Name("Jonathan Lim"), new Phone("91237654"),
                         new Email("jon.lim@example.com"), new ContactAddress("21 Orchard Boulevard, #23-01"),
                         getTagSet("landlord", "buyer"), new BudgetMin("3500"), new BudgetMax("4500"),
                         new Notes("Looking for luxury"), new ContactStatus("Active"),
@@ -114,52 +114,52 @@ public class SampleDataUtil {
 
     public static Property[] getSampleProperties() {
         return new Property[] {
-            new Property(new Uuid(1, PROPERTY), new PropertyAddress("123 Yishun Road"), new Bathroom("2"),
+            new Property(Uuid.of(1, PROPERTY), new PropertyAddress("123 Yishun Road"), new Bathroom("2"),
                     new Bedroom("3"), new FloorArea("100"), new Listing("sale"), new Postal("545603"),
                     new Price("310000"), new Status("available"), new Type("HDB"),
-                    new Owner("1"), EMPTY_BUYING_CONTACT_ID_SET, Set.of(new Uuid(1, CONTACT))),
+                    new Owner("1"), EMPTY_BUYING_CONTACT_ID_SET, Set.of(Uuid.of(1, CONTACT))),
 
-            new Property(new Uuid(2, PROPERTY), new PropertyAddress("15 Bukit Timah Avenue"), new Bathroom("1"),
+            new Property(Uuid.of(2, PROPERTY), new PropertyAddress("15 Bukit Timah Avenue"), new Bathroom("1"),
                     new Bedroom("2"), new FloorArea("76"), new Listing("rent"), new Postal("529126"),
                     new Price("2000"), new Status("available"), new Type("Condo"),
-                    new Owner("7"), Set.of(new Uuid(7, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
+                    new Owner("7"), Set.of(Uuid.of(7, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(3, PROPERTY), new PropertyAddress("456 Sengkang East Way"), new Bathroom("2"),
+            new Property(Uuid.of(3, PROPERTY), new PropertyAddress("456 Sengkang East Way"), new Bathroom("2"),
                     new Bedroom("4"), new FloorArea("123"), new Listing("sale"), new Postal("272822"),
                     new Price("450000"), new Status("available"), new Type("HDB"),
-                    new Owner("2"), Set.of(new Uuid(4, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
+                    new Owner("2"), Set.of(Uuid.of(4, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(4, PROPERTY), new PropertyAddress("89 Pasir Ris Drive 1"), new Bathroom("2"),
+            new Property(Uuid.of(4, PROPERTY), new PropertyAddress("89 Pasir Ris Drive 1"), new Bathroom("2"),
                     new Bedroom("3"), new FloorArea("95"), new Listing("sale"), new Postal("510089"),
                     new Price("320000"), new Status("unavailable"), new Type("office"),
                     new Owner("4"), EMPTY_BUYING_CONTACT_ID_SET, EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(5, PROPERTY), new PropertyAddress("77 Holland Road"), new Bathroom("2"),
+            new Property(Uuid.of(5, PROPERTY), new PropertyAddress("77 Holland Road"), new Bathroom("2"),
                     new Bedroom("2"), new FloorArea("85"), new Listing("rent"), new Postal("229999"),
                     new Price("3300"), new Status("available"), new Type("apartment"),
-                    new Owner("8"), Set.of(new Uuid(4, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
+                    new Owner("8"), Set.of(Uuid.of(4, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(6, PROPERTY), new PropertyAddress("56 Jurong West St 61"), new Bathroom("1"),
+            new Property(Uuid.of(6, PROPERTY), new PropertyAddress("56 Jurong West St 61"), new Bathroom("1"),
                     new Bedroom("3"), new FloorArea("92"), new Listing("sale"), new Postal("640056"),
                     new Price("285000"), new Status("available"), new Type("HDB"),
-                    new Owner("6"), Set.of(new Uuid(8, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
+                    new Owner("6"), Set.of(Uuid.of(8, CONTACT)), EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(7, PROPERTY), new PropertyAddress("35 Ghim Moh Road"), new Bathroom("3"),
+            new Property(Uuid.of(7, PROPERTY), new PropertyAddress("35 Ghim Moh Road"), new Bathroom("3"),
                     new Bedroom("5"), new FloorArea("180"), new Listing("sale"), new Postal("270035"),
                     new Price("900000"), new Status("available"), new Type("Landed"),
                     new Owner("9"), EMPTY_BUYING_CONTACT_ID_SET, EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(8, PROPERTY), new PropertyAddress("44 Marine Parade"), new Bathroom("2"),
+            new Property(Uuid.of(8, PROPERTY), new PropertyAddress("44 Marine Parade"), new Bathroom("2"),
                     new Bedroom("4"), new FloorArea("120"), new Listing("rent"), new Postal("449000"),
                     new Price("4000"), new Status("unavailable"), new Type("Condo"),
                     new Owner("1"), EMPTY_BUYING_CONTACT_ID_SET, EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(9, PROPERTY), new PropertyAddress("18 Ardmore Park"), new Bathroom("4"),
+            new Property(Uuid.of(9, PROPERTY), new PropertyAddress("18 Ardmore Park"), new Bathroom("4"),
                     new Bedroom("5"), new FloorArea("320"), new Listing("sale"), new Postal("259955"),
                     new Price("5000000"), new Status("available"), new Type("condo"),
                     new Owner("10"), EMPTY_BUYING_CONTACT_ID_SET, EMPTY_SELLING_CONTACT_ID_SET),
 
-            new Property(new Uuid(10, PROPERTY), new PropertyAddress("99 Keppel Bay View"), new Bathroom("3"),
+            new Property(Uuid.of(10, PROPERTY), new PropertyAddress("99 Keppel Bay View"), new Bathroom("3"),
                     new Bedroom("4"), new FloorArea("150"), new Listing("rent"), new Postal("098405"),
                     new Price("9000"), new Status("available"), new Type("hdb"),
                     new Owner("3"), EMPTY_BUYING_CONTACT_ID_SET, EMPTY_SELLING_CONTACT_ID_SET)
@@ -199,7 +199,7 @@ public class SampleDataUtil {
     public static Set<Uuid> getUuidSet(StoredItem itemType, int ... ids) {
         return Arrays.stream(ids)
                 .boxed()
-                .map(id -> new Uuid(id, itemType))
+                .map(id -> Uuid.of(id, itemType))
                 .collect(Collectors.toSet());
     }
 
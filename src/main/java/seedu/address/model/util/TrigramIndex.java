@@ -0,0 +1,130 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes a text field of the rows of a list by the trigrams (runs of three characters) of its lower-case value,
+ * so that a case-insensitive substring search need not lower-case and search every row.
+ * A row containing a keyword must contain every trigram of the keyword, so intersecting the posting lists of those
+ * trigrams gives a superset of the matching rows, which the caller verifies. Keywords shorter than a trigram
+ * cannot be answered by the index.
+ * Most trigrams occur in only a few rows, so each posting list is a sorted {@link PostingList} of rows rather than
+ * a bitmap as wide as the list, and a lookup reads no more than the posting lists of the keyword's trigrams.
+ */
+public class TrigramIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private static final PostingList NO_ROWS = new PostingList();
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Returns the rows whose text may contain {@code keyword} in increasing order, ignoring case and surrounding
+     * whitespace in the keyword, or null if the keyword is too short to be looked up. The posting lists of the
+     * keyword's trigrams are intersected from the shortest up. The returned array may be modified freely.
+     */
+    public int[] getCandidateRows(String keyword) {
+        List<PostingList> keywordPostings = getPostings(keyword);
+        return keywordPostings == null ? null : PostingList.intersect(keywordPostings);
+    }
+
+    /**
+     * Returns an upper bound on the number of rows {@link #getCandidateRows(String)} returns for {@code keyword},
+     * namely the size of the smallest posting list among its trigrams, without intersecting them. Returns -1 if
+     * the keyword is too short to be looked up.
+     */
+    public int estimateCandidateRows(String keyword) {
+        String normalized = keyword.trim().toLowerCase();
+        if (normalized.length() < TRIGRAM_LENGTH) {
+            return -1;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalized.length() && estimate > 0; i++) {
+            estimate = Math.min(estimate, postings.getOrDefault(trigramAt(normalized, i), NO_ROWS).size());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns an estimate of the cost of {@link #getCandidateRows(String)} for {@code keyword}, counting one for
+     * each trigram looked up and each posting entry read, from the lengths of the posting lists of its trigrams.
+     * Returns -1 if the keyword is too short to be looked up.
+     */
+    public long estimateLookupCost(String keyword) {
+        List<PostingList> keywordPostings = getPostings(keyword);
+        if (keywordPostings == null) {
+            return -1;
+        }
+        return keywordPostings.size()
+                + PostingList.estimateIntersectCost(keywordPostings.stream().mapToInt(PostingList::size).toArray());
+    }
+
+    /**
+     * Indexes {@code text} as the text of row {@code row}. Text that is already in lower case is not copied.
+     */
+    public void add(int row, String text) {
+        String normalized = text.toLowerCase();
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalized.length(); i++) {
+            postings.computeIfAbsent(trigramAt(normalized, i), unused -> new PostingList()).add(row);
+        }
+    }
+
+    /**
+     * Stops indexing {@code text}, which was added as the text of row {@code row}.
+     */
+    public void remove(int row, String text) {
+        String normalized = text.toLowerCase();
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalized.length(); i++) {
+            long trigram = trigramAt(normalized, i);
+            PostingList rows = postings.get(trigram);
+            if (rows == null) {
+                continue;
+            }
+            rows.remove(row);
+            if (rows.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Drops every row.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the posting lists of the distinct trigrams of {@code keyword}, ignoring case and surrounding
+     * whitespace, or null if the keyword is too short to be looked up. A trigram that no row contains has an empty
+     * posting list.
+     */
+    private List<PostingList> getPostings(String keyword) {
+        String normalized = keyword.trim().toLowerCase();
+        if (normalized.length() < TRIGRAM_LENGTH) {
+            return null;
+        }
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalized.length(); i++) {
+            trigrams.add(trigramAt(normalized, i));
+        }
+        List<PostingList> keywordPostings = new ArrayList<>(trigrams.size());
+        trigrams.forEach(trigram -> keywordPostings.add(postings.getOrDefault(trigram, NO_ROWS)));
+        return keywordPostings;
+    }
+
+    /**
+     * Packs the three characters of {@code text} starting at {@code start} into one key.
+     */
+    private static long trigramAt(String text, int start) {
+        return ((long) text.charAt(start) << (2 * Character.SIZE))
+                | ((long) text.charAt(start + 1) << Character.SIZE)
+                | text.charAt(start + 2);
+    }
+}
@@ -0,0 +1,6 @@
+package seedu.address.model.util.exceptions;
+
+/**
+ * Signals that a page cursor no longer refers to a place in the list it was taken from.
+ */
+public class StaleCursorException extends RuntimeException {}
@@ -0,0 +1,198 @@
+package seedu.address.model.uuid;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.uuid.Uuid.StoredItem;
+
+/**
+ * An immutable set of UUID values, stored as a sorted {@code int} array and searched with binary search.
+ * Links between contacts and properties are held in these sets rather than in {@code HashSet<Uuid>}s, as most
+ * entities have few links or none and all empty sets share {@link #EMPTY}.
+ * {@link #asUuidSet(StoredItem)} provides a read-only {@code Set<Uuid>} view for callers that work with UUIDs.
+ */
+public final class IdSet {
+
+    public static final IdSet EMPTY = new IdSet(new int[0]);
+
+    private final int[] ids;
+
+    private IdSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns an {@code IdSet} holding the values of {@code uuids}.
+     */
+    public static IdSet of(Collection<Uuid> uuids) {
+        requireNonNull(uuids);
+        if (uuids instanceof UuidView) {
+            return ((UuidView) uuids).idSet;
+        }
+        return of(uuids.stream().mapToInt(Uuid::getValue).toArray());
+    }
+
+    /**
+     * Returns an {@code IdSet} holding {@code ids}. Repeated values are kept once.
+     */
+    public static IdSet of(int... ids) {
+        requireNonNull(ids);
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+        int[] sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        int distinctCount = 1;
+        for (int i = 1; i < sortedIds.length; i++) {
+            if (sortedIds[i] != sortedIds[distinctCount - 1]) {
+                sortedIds[distinctCount++] = sortedIds[i];
+            }
+        }
+        return new IdSet(distinctCount == sortedIds.length ? sortedIds : Arrays.copyOf(sortedIds, distinctCount));
+    }
+
+    /**
+     * Returns true if this set holds {@code id}.
+     */
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Returns the values in this set in ascending order.
+     */
+    public int[] toArray() {
+        return ids.clone();
+    }
+
+    /**
+     * Returns a read-only view of this set as UUIDs of items of type {@code itemType}.
+     * The view throws {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public Set<Uuid> asUuidSet(StoredItem itemType) {
+        requireNonNull(itemType);
+        return new UuidView(this, itemType);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdSet)) {
+            return false;
+        }
+
+        IdSet otherIdSet = (IdSet) other;
+        return Arrays.equals(ids, otherIdSet.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+
+    /**
+     * A read-only {@code Set<Uuid>} backed by an {@code IdSet}.
+     */
+    private static class UuidView extends AbstractSet<Uuid> {
+        private final IdSet idSet;
+        private final StoredItem itemType;
+
+        UuidView(IdSet idSet, StoredItem itemType) {
+            this.idSet = idSet;
+            this.itemType = itemType;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Uuid)) {
+                return false;
+            }
+            Uuid uuid = (Uuid) o;
+            return uuid.getItemType() == itemType && idSet.contains(uuid.getValue());
+        }
+
+        @Override
+        public int size() {
+            return idSet.ids.length;
+        }
+
+        @Override
+        public Iterator<Uuid> iterator() {
+            return new Iterator<>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < idSet.ids.length;
+                }
+
+                @Override
+                public Uuid next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return Uuid.of(idSet.ids[index++], itemType);
+                }
+            };
+        }
+
+        @Override
+        public boolean add(Uuid uuid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Uuid> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Uuid> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
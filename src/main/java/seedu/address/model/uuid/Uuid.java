@@ -3,6 +3,7 @@ package seedu.address.model.uuid;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -14,6 +15,11 @@ public class Uuid {
 
     public static final String MESSAGE_CONSTRAINTS = "UUID should be a positive integer.";
 
+    /** UUIDs with values up to this are shared by {@link #of(int, StoredItem)}. */
+    private static final int MAX_SHARED_VALUE = 1 << 18;
+    /** The shared UUIDs, indexed by the ordinal of their item type and then by their value. */
+    private static final Uuid[][] SHARED_UUIDS = new Uuid[StoredItem.values().length][0];
+
     private final int value;
     private final StoredItem itemType;
 
@@ -31,22 +37,41 @@ public class Uuid {
      * @param uuid A valid UUID integer.
      * @param itemType The stored item the ID is attached to.
      */
-    public Uuid(int uuid, StoredItem itemType) {
-        requireNonNull(uuid);
+    private Uuid(int uuid, StoredItem itemType) {
         checkArgument(isValidUuid(uuid), MESSAGE_CONSTRAINTS);
         value = uuid;
         this.itemType = itemType;
     }
 
     /**
-     * Constructor that duplicates {@code Uuid}.
+     * Returns a {@code Uuid} for {@code uuid}, sharing a single instance per value and item type so that
+     * repeatedly parsed or loaded IDs do not each take up memory.
      *
-     * @param uuid A {@code Uuid}
+     * @param uuid A valid UUID integer.
+     * @param itemType The stored item the ID is attached to.
      */
-    public Uuid(Uuid uuid) {
-        requireNonNull(uuid);
-        this.value = uuid.value;
-        this.itemType = uuid.itemType;
+    public static Uuid of(int uuid, StoredItem itemType) {
+        requireNonNull(itemType);
+        checkArgument(isValidUuid(uuid), MESSAGE_CONSTRAINTS);
+        if (uuid > MAX_SHARED_VALUE) {
+            return new Uuid(uuid, itemType);
+        }
+
+        // The cache is read and filled without locking. Threads that race may each create an instance for the
+        // same ID, or drop each other's entries while growing the array, which only costs some sharing: a Uuid
+        // has only final fields, so every instance a thread sees is fully constructed, and equality is by value.
+        Uuid[] sharedUuids = SHARED_UUIDS[itemType.ordinal()];
+        if (uuid < sharedUuids.length && sharedUuids[uuid] != null) {
+            return sharedUuids[uuid];
+        }
+        if (uuid >= sharedUuids.length) {
+            sharedUuids = Arrays.copyOf(sharedUuids, Math.min(MAX_SHARED_VALUE + 1,
+                    Math.max(uuid + 1, sharedUuids.length * 2)));
+            SHARED_UUIDS[itemType.ordinal()] = sharedUuids;
+        }
+        Uuid created = new Uuid(uuid, itemType);
+        sharedUuids[uuid] = created;
+        return created;
     }
 
     /**
@@ -63,6 +88,10 @@ public class Uuid {
         return value;
     }
 
+    public StoredItem getItemType() {
+        return itemType;
+    }
+
     public static String getGuiSetDisplayAsString(Set<Uuid> uuids) {
         return uuids.stream().map(id -> id.getValue() + "").sorted().collect(Collectors.joining(", "));
     }
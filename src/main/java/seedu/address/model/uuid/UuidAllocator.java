@@ -0,0 +1,92 @@
+package seedu.address.model.uuid;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.model.uuid.Uuid.StoredItem;
+
+/**
+ * Hands out {@code Uuid}s for one kind of stored item without scanning the items that already exist.
+ * The allocator keeps a high-water mark that is always greater than every ID in use, and hands out the mark itself.
+ */
+public class UuidAllocator {
+
+    public static final String MESSAGE_UUIDS_EXHAUSTED = "No more UUIDs are available.";
+    public static final String MESSAGE_INVALID_RESERVATION = "Number of UUIDs to reserve should be positive.";
+
+    private final StoredItem itemType;
+    // Kept as a long so that marking the largest possible ID as used does not wrap the mark around
+    private long highWaterMark = 1;
+
+    /**
+     * Constructs an empty {@code UuidAllocator} for items of type {@code itemType}.
+     */
+    public UuidAllocator(StoredItem itemType) {
+        requireNonNull(itemType);
+        this.itemType = itemType;
+    }
+
+    /**
+     * Returns the ID the next new item should take. The ID is not taken until it is passed to
+     * {@link #markUsed(Uuid)}, so asking again before then returns the same ID.
+     *
+     * @throws IllegalStateException if the largest possible ID is already in use.
+     */
+    public Uuid peekNext() {
+        if (highWaterMark > Integer.MAX_VALUE) {
+            throw new IllegalStateException(MESSAGE_UUIDS_EXHAUSTED);
+        }
+        return Uuid.of((int) highWaterMark, itemType);
+    }
+
+    /**
+     * Records that {@code uuid} is now in use, so that it is never handed out again.
+     * A {@code null} ID is ignored.
+     */
+    public void markUsed(Uuid uuid) {
+        if (uuid == null) {
+            return;
+        }
+        highWaterMark = Math.max(highWaterMark, uuid.getValue() + 1L);
+    }
+
+    /**
+     * Reserves {@code count} consecutive IDs above every ID handed out so far, e.g. for a bulk import, and returns
+     * the first of them. The block is taken at once, so none of its IDs is returned by {@link #peekNext()}.
+     *
+     * @throws IllegalStateException if there are fewer than {@code count} IDs left.
+     */
+    public Uuid reserve(int count) {
+        checkArgument(count > 0, MESSAGE_INVALID_RESERVATION);
+        if (highWaterMark + count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalStateException(MESSAGE_UUIDS_EXHAUSTED);
+        }
+        Uuid first = Uuid.of((int) highWaterMark, itemType);
+        highWaterMark += count;
+        return first;
+    }
+
+    /**
+     * Returns the high-water mark, i.e. the smallest ID above every ID handed out so far.
+     * Once every ID has been handed out, the largest possible ID is returned; the mark is recovered from the
+     * items themselves when they are loaded again.
+     */
+    public int getHighWaterMark() {
+        return (int) Math.min(highWaterMark, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Raises the high-water mark to {@code highWaterMark}, e.g. when restoring the mark from storage.
+     * The mark is never lowered, so that IDs already in use are not handed out again.
+     */
+    public void raiseHighWaterMark(int highWaterMark) {
+        this.highWaterMark = Math.max(this.highWaterMark, highWaterMark);
+    }
+
+    /**
+     * Forgets every ID handed out so far.
+     */
+    public void clear() {
+        highWaterMark = 1;
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookData;
+import seedu.address.model.PropertyBookData;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Property;
+
+/**
+ * Saves the address book and the property book on a background thread, so that saving does not hold up the
+ * commands that changed them.
+ * Each save takes a snapshot of the books, which is cheap because contacts and properties are immutable, and
+ * writes it later. Saves that arrive while a write is waiting replace its snapshot, so a burst of commands is
+ * written to disk once, with the data after the last of them.
+ * A book is only snapshotted and written if its version has changed since it was last saved, so commands that only
+ * read the books, or only change one of them, do not rewrite the files of the books they left alone.
+ */
+public class AsyncBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncBookWriter.class);
+    private static final long UNSAVED = -1;
+
+    private final Storage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "book-writer");
+        // Data still waiting to be written is flushed when the app stops, so the thread must not keep the app alive
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The snapshots waiting to be written, or null for a book with nothing to write. Guarded by this.
+    private AddressBookData pendingAddressBook;
+    private PropertyBookData pendingPropertyBook;
+    // The version of each book when it was last saved, or UNSAVED if it has to be written. Guarded by this.
+    private long savedAddressBookVersion = UNSAVED;
+    private long savedPropertyBookVersion = UNSAVED;
+
+    /**
+     * Creates a writer that saves to {@code storage} and reports each write that fails to {@code failureHandler}.
+     * The handler is called on the background thread.
+     */
+    public AsyncBookWriter(Storage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves the current contents of {@code addressBook} and {@code propertyBook} in the background, skipping a book
+     * that has not changed since it was last saved.
+     * Later changes to the books are not saved by this call.
+     */
+    public void save(ReadOnlyAddressBook addressBook, ReadOnlyPropertyBook propertyBook) {
+        requireAllNonNull(addressBook, propertyBook);
+        synchronized (this) {
+            boolean isWriteQueued = pendingAddressBook != null || pendingPropertyBook != null;
+            if (addressBook.getVersion() != savedAddressBookVersion) {
+                pendingAddressBook = new AddressBookSnapshot(addressBook);
+                savedAddressBookVersion = addressBook.getVersion();
+            }
+            if (propertyBook.getVersion() != savedPropertyBookVersion) {
+                pendingPropertyBook = new PropertyBookSnapshot(propertyBook);
+                savedPropertyBookVersion = propertyBook.getVersion();
+            }
+            boolean hasWrite = pendingAddressBook != null || pendingPropertyBook != null;
+            if (isWriteQueued || !hasWrite) {
+                return;
+            }
+        }
+        executor.execute(this::writePending);
+    }
+
+    /**
+     * Records that {@code addressBook} is already saved as it is, e.g. because it was just read from storage, so
+     * that it is not written until it changes.
+     */
+    public synchronized void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        savedAddressBookVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Records that {@code propertyBook} is already saved as it is, e.g. because it was just read from storage, so
+     * that it is not written until it changes.
+     */
+    public synchronized void markSaved(ReadOnlyPropertyBook propertyBook) {
+        requireNonNull(propertyBook);
+        savedPropertyBookVersion = propertyBook.getVersion();
+    }
+
+    /**
+     * Waits until every save made so far has been written, or has failed.
+     */
+    public void flush() {
+        try {
+            // The executor runs one task at a time in order, so this task runs after every write queued before it
+            executor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Waits until every save made so far has been written, then writes on the calling thread each of
+     * {@code addressBook} and {@code propertyBook} that is not saved as it is, such as a book whose last write
+     * failed. Meant for when the app stops, as the background thread does not outlive it.
+     *
+     * @throws IOException if a book cannot be written. Both books are attempted before it is thrown.
+     */
+    public void saveNow(ReadOnlyAddressBook addressBook, ReadOnlyPropertyBook propertyBook) throws IOException {
+        requireAllNonNull(addressBook, propertyBook);
+        flush();
+        boolean isAddressBookUnsaved;
+        boolean isPropertyBookUnsaved;
+        synchronized (this) {
+            isAddressBookUnsaved = addressBook.getVersion() != savedAddressBookVersion;
+            isPropertyBookUnsaved = propertyBook.getVersion() != savedPropertyBookVersion;
+        }
+
+        IOException failure = null;
+        if (isAddressBookUnsaved) {
+            try {
+                storage.saveAddressBook(addressBook);
+                synchronized (this) {
+                    savedAddressBookVersion = addressBook.getVersion();
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (isPropertyBookUnsaved) {
+            try {
+                storage.savePropertyBook(propertyBook);
+                synchronized (this) {
+                    savedPropertyBookVersion = propertyBook.getVersion();
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writePending() {
+        AddressBookData addressBook;
+        PropertyBookData propertyBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            propertyBook = pendingPropertyBook;
+            pendingAddressBook = null;
+            pendingPropertyBook = null;
+        }
+
+        if (addressBook != null) {
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                synchronized (this) {
+                    savedAddressBookVersion = UNSAVED;
+                }
+                reportFailure(e);
+            }
+        }
+        if (propertyBook != null) {
+            try {
+                storage.savePropertyBook(propertyBook);
+            } catch (IOException e) {
+                synchronized (this) {
+                    savedPropertyBookVersion = UNSAVED;
+                }
+                reportFailure(e);
+            }
+        }
+    }
+
+    private void reportFailure(IOException e) {
+        logger.warning("Failed to save data " + StringUtil.getDetails(e));
+        failureHandler.accept(e);
+    }
+
+    /**
+     * An unchanging copy of the data of an address book that is saved.
+     */
+    private static class AddressBookSnapshot implements AddressBookData {
+        private final ObservableList<Contact> contacts;
+        private final int nextUuid;
+
+        AddressBookSnapshot(AddressBookData source) {
+            contacts = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(source.getContactList())));
+            nextUuid = source.getNextUuid();
+        }
+
+        @Override
+        public ObservableList<Contact> getContactList() {
+            return contacts;
+        }
+
+        @Override
+        public int getNextUuid() {
+            return nextUuid;
+        }
+    }
+
+    /**
+     * An unchanging copy of the data of a property book that is saved.
+     */
+    private static class PropertyBookSnapshot implements PropertyBookData {
+        private final ObservableList<Property> properties;
+        private final int nextUuid;
+
+        PropertyBookSnapshot(PropertyBookData source) {
+            properties = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(source.getPropertyList())));
+            nextUuid = source.getNextUuid();
+        }
+
+        @Override
+        public ObservableList<Property> getPropertyList() {
+            return properties;
+        }
+
+        @Override
+        public int getNextUuid() {
+            return nextUuid;
+        }
+    }
+}
@@ -125,7 +125,7 @@ class JsonAdaptedContact {
         if (uuid == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Uuid"));
         }
-        final Uuid modelUuid = new Uuid(uuid, CONTACT);
+        final Uuid modelUuid = Uuid.of(uuid, CONTACT);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -191,20 +191,20 @@ class JsonAdaptedContact {
         if (!ContactStatus.isValidStatus(status)) {
             throw new IllegalValueException(ContactStatus.MESSAGE_CONSTRAINTS);
         }
-        final ContactStatus modelStatus = new ContactStatus(status);
+        final ContactStatus modelStatus = ContactStatus.of(status);
 
         final Set<Tag> modelTags = new HashSet<>(contactTags);
 
 
         final List<Uuid> tempBuyingPropertyIds = new ArrayList<>();
         for (Integer id : this.buyingPropertyIds) {
-            tempBuyingPropertyIds.add(new Uuid(id, PROPERTY));
+            tempBuyingPropertyIds.add(Uuid.of(id, PROPERTY));
         }
         final Set<Uuid> modelBuyingPropertyIds = new HashSet<>(tempBuyingPropertyIds);
 
         final List<Uuid> tempSellingPropertyIds = new ArrayList<>();
         for (Integer id : this.sellingPropertyIds) {
-            tempSellingPropertyIds.add(new Uuid(id, PROPERTY));
+            tempSellingPropertyIds.add(Uuid.of(id, PROPERTY));
         }
         final Set<Uuid> modelSellingPropertyIds = new HashSet<>(tempSellingPropertyIds);
 
@@ -120,7 +120,7 @@ class JsonAdaptedProperty {
         if (uuid == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Uuid"));
         }
-        final Uuid modelUuid = new Uuid(uuid, PROPERTY);
+        final Uuid modelUuid = Uuid.of(uuid, PROPERTY);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -138,7 +138,7 @@ class JsonAdaptedProperty {
         if (!Bathroom.isValidBathroom(bathroom)) {
             throw new IllegalValueException(Bathroom.MESSAGE_CONSTRAINTS);
         }
-        final Bathroom modelBathroom = new Bathroom(bathroom);
+        final Bathroom modelBathroom = Bathroom.of(bathroom);
 
         if (bedroom == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -147,7 +147,7 @@ class JsonAdaptedProperty {
         if (!Bedroom.isValidBedroom(bedroom)) {
             throw new IllegalValueException(Bedroom.MESSAGE_CONSTRAINTS);
         }
-        final Bedroom modelBedroom = new Bedroom(bedroom);
+        final Bedroom modelBedroom = Bedroom.of(bedroom);
 
         if (floorArea == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -165,7 +165,7 @@ class JsonAdaptedProperty {
         if (!Listing.isValidListing(trimmedListing)) {
             throw new IllegalValueException(Listing.MESSAGE_CONSTRAINTS);
         }
-        final Listing modelListing = new Listing(trimmedListing);
+        final Listing modelListing = Listing.of(trimmedListing);
         if (postal == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Postal.class.getSimpleName()));
@@ -189,7 +189,7 @@ class JsonAdaptedProperty {
         if (!Status.isValidStatus(status)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        final Status modelStatus = new Status(status);
+        final Status modelStatus = Status.of(status);
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Type.class.getSimpleName()));
@@ -197,7 +197,7 @@ class JsonAdaptedProperty {
         if (!Type.isValidType(type)) {
             throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
         }
-        final Type modelType = new Type(type);
+        final Type modelType = Type.of(type);
         if (owner == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Owner.class.getSimpleName()));
@@ -209,13 +209,13 @@ class JsonAdaptedProperty {
 
         final List<Uuid> tempBuyingContactIds = new ArrayList<>();
         for (Integer id : this.buyingContactIds) {
-            tempBuyingContactIds.add(new Uuid(id, CONTACT));
+            tempBuyingContactIds.add(Uuid.of(id, CONTACT));
         }
         final Set<Uuid> modelBuyingContactIds = new HashSet<>(tempBuyingContactIds);
 
         final List<Uuid> tempSellingContactIds = new ArrayList<>();
         for (Integer id : this.sellingContactIds) {
-            tempSellingContactIds.add(new Uuid(id, CONTACT));
+            tempSellingContactIds.add(Uuid.of(id, CONTACT));
         }
         final Set<Uuid> modelSellingContactIds = new HashSet<>(tempSellingContactIds);
 
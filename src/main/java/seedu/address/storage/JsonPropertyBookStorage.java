@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.ReadOnlyPropertyBook;
 
 /**
@@ -60,16 +61,16 @@ public class JsonPropertyBookStorage implements PropertyBookStorage {
     }
 
     @Override
-    public void savePropertyBook(ReadOnlyPropertyBook propertyBook) throws IOException {
+    public void savePropertyBook(PropertyBookData propertyBook) throws IOException {
         savePropertyBook(propertyBook, filePath);
     }
 
     /**
-     * Similar to {@link #savePropertyBook(ReadOnlyPropertyBook)}.
+     * Similar to {@link #savePropertyBook(PropertyBookData)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void savePropertyBook(ReadOnlyPropertyBook propertyBook, Path filePath) throws IOException {
+    public void savePropertyBook(PropertyBookData propertyBook, Path filePath) throws IOException {
         requireNonNull(propertyBook);
         requireNonNull(filePath);
 
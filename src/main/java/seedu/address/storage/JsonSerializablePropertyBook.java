@@ -10,7 +10,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.PropertyBook;
-import seedu.address.model.ReadOnlyPropertyBook;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.property.Property;
 
 /**
@@ -37,11 +37,11 @@ class JsonSerializablePropertyBook {
     }
 
     /**
-     * Converts a given {@code ReadOnlyPropertyBook} into this class for Jackson use.
+     * Converts a given {@code PropertyBookData} into this class for Jackson use.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializablePropertyBook}.
      */
-    public JsonSerializablePropertyBook(ReadOnlyPropertyBook source) {
+    public JsonSerializablePropertyBook(PropertyBookData source) {
         properties.addAll(source.getPropertyList().stream().map(JsonAdaptedProperty::new).collect(Collectors.toList()));
         nextUuid = source.getNextUuid();
     }
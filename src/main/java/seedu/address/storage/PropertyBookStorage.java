@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.ReadOnlyPropertyBook;
 
 /**
@@ -31,15 +32,15 @@ public interface PropertyBookStorage {
     Optional<ReadOnlyPropertyBook> readPropertyBook(Path filePath) throws DataLoadingException;
 
     /**
-     * Saves the given {@link ReadOnlyPropertyBook} to the storage.
+     * Saves the given {@link PropertyBookData} to the storage.
      * @param property cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
-    void savePropertyBook(ReadOnlyPropertyBook property) throws IOException;
+    void savePropertyBook(PropertyBookData property) throws IOException;
 
     /**
-     * @see #savePropertyBook(ReadOnlyPropertyBook)
+     * @see #savePropertyBook(PropertyBookData)
      */
-    void savePropertyBook(ReadOnlyPropertyBook property, Path filePath) throws IOException;
+    void savePropertyBook(PropertyBookData property, Path filePath) throws IOException;
 
 }
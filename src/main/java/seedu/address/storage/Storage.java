@@ -5,6 +5,8 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookData;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -28,7 +30,7 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, PropertyB
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
     @Override
-    void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+    void saveAddressBook(AddressBookData addressBook) throws IOException;
 
     @Override
     Path getPropertyBookFilePath();
@@ -37,5 +39,5 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, PropertyB
     Optional<ReadOnlyPropertyBook> readPropertyBook() throws DataLoadingException;
 
     @Override
-    void savePropertyBook(ReadOnlyPropertyBook propertyBook) throws IOException;
+    void savePropertyBook(PropertyBookData propertyBook) throws IOException;
 }
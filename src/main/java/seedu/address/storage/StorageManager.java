@@ -7,6 +7,8 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookData;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -69,12 +71,12 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+    public void saveAddressBook(AddressBookData addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public void saveAddressBook(AddressBookData addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
@@ -98,12 +100,12 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void savePropertyBook(ReadOnlyPropertyBook propertyBook) throws IOException {
+    public void savePropertyBook(PropertyBookData propertyBook) throws IOException {
         savePropertyBook(propertyBook, propertyBookStorage.getPropertyBookFilePath());
     }
 
     @Override
-    public void savePropertyBook(ReadOnlyPropertyBook propertyBook, Path filePath) throws IOException {
+    public void savePropertyBook(PropertyBookData propertyBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         propertyBookStorage.savePropertyBook(propertyBook, filePath);
     }
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -129,6 +131,23 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    //---------------- Tests for normalizeKeyword --------------------------------------
+
+    @Test
+    public void normalizeKeyword_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.normalizeKeyword(null));
+    }
+
+    @Test
+    public void normalizeKeyword_validKeyword_trimmedLowerCase() {
+        assertEquals("alice", StringUtil.normalizeKeyword("  ALice "));
+        assertEquals("", StringUtil.normalizeKeyword("   "));
+
+        // already normalized -> same string
+        String normalized = "alice";
+        assertSame(normalized, StringUtil.normalizeKeyword(normalized));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -23,7 +25,10 @@ import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,11 +40,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookData;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.PropertyBook;
+import seedu.address.model.PropertyBookData;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.property.Property;
@@ -80,7 +86,7 @@ public class LogicManagerTest {
                 new JsonPropertyBookStorage(temporaryFolder.resolve("propertyBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, propertyBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, true, true);
     }
 
     @Test
@@ -102,17 +108,52 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_savesNothing() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void execute_readOnlyCommandOnBooksNotLoaded_savesBooks() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonPropertyBookStorage(temporaryFolder.resolve("propertyBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, true, false);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertTrue(Files.exists(temporaryFolder.resolve("propertyBook.json")));
+    }
+
+    @Test
+    public void execute_validCommand_savedAfterFlush() throws Exception {
+        logic.execute(AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        logic.flush();
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(model.getAddressBook().getContactList(), saved.getContactList());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -174,17 +215,19 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command should succeed, and the failure to save its data should be reported afterwards.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+            public void saveAddressBook(AddressBookData addressBook, Path filePath)
                     throws IOException {
                 throw e;
             }
@@ -196,7 +239,7 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, propertyBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, true, true);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -204,17 +247,18 @@ public class LogicManagerTest {
         Contact expectedContact = new ContactBuilderUtil(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addContact(expectedContact);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertSaveFailureReported(addCommand, expectedMessage, expectedModel);
     }
 
-    private void assertPropertyCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertPropertyCommandSaveFailureReportedForExceptionFromStorage(IOException e,
+            String expectedMessage) throws CommandException, ParseException {
         Path addressPath = temporaryFolder.resolve("PropertyCommandAddressBook.json");
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressPath);
 
         Path propertyPath = temporaryFolder.resolve("PropertyCommandPropertyBook.json");
         JsonPropertyBookStorage propertyBookStorage = new JsonPropertyBookStorage(propertyPath) {
             @Override
-            public void savePropertyBook(ReadOnlyPropertyBook propertyBook, Path filePath) throws IOException {
+            public void savePropertyBook(PropertyBookData propertyBook, Path filePath) throws IOException {
                 throw e;
             }
         };
@@ -223,11 +267,27 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(prefsPath);
         StorageManager storage = new StorageManager(addressBookStorage, propertyBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, true, true);
 
         ModelManager expectedModel = new ModelManager();
         expectedModel.addProperty(buildDefaultProperty());
-        assertCommandFailure(ADD_PROPERTY_COMMAND, CommandException.class, expectedMessage, expectedModel);
+        assertSaveFailureReported(ADD_PROPERTY_COMMAND, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Executes the command and confirms that it succeeds, that {@code expectedMessage} is reported once its data has
+     * failed to save, and that the internal model manager state is the same as that in {@code expectedModel}.
+     */
+    private void assertSaveFailureReported(String inputCommand, String expectedMessage, Model expectedModel)
+            throws CommandException, ParseException {
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
+
+        logic.execute(inputCommand);
+        logic.flush();
+
+        assertEquals(List.of(expectedMessage), reportedMessages);
+        assertEquals(expectedModel, model);
     }
 
     private Property buildDefaultProperty() {
@@ -25,8 +25,17 @@ import seedu.address.model.PropertyBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Transaction;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.ContactBuilderUtil;
 import seedu.address.testutil.PropertyBuilderUtil;
@@ -162,11 +171,31 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteContactsCascading(List<Contact> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setContact(Contact target, Contact editedContact) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit(Transaction transaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Contact> getFilteredContactList() {
             throw new AssertionError("This method should not be called.");
@@ -177,6 +206,16 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Predicate<Contact> predicate, List<Contact> contacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredContactList(ContactSortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -207,6 +246,11 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePropertyCascading(Property target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addProperty(Property property) {
             throw new AssertionError("This method should not be called.");
@@ -217,6 +261,11 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setProperties(List<Property> targets, List<Property> editedProperties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
@@ -227,10 +276,67 @@ class AddPropertyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPropertyList(Predicate<Property> predicate, List<Property> properties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPropertyList(PropertySortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContacts(FilterContactPredicate predicate, int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContactsAfter(FilterContactPredicate predicate, PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingProperties(PropertyMatchesFilterPredicate predicate, int offset,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingPropertiesAfter(PropertyMatchesFilterPredicate predicate,
+                PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countMatchingProperties(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryCache.Stats getQueryCacheStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Property getPropertyById(Uuid id) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Contact getFilteredContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Property getFilteredPropertyById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyLinkGraph getLinkGraph() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private static class ModelStubWithProperty extends ModelStub {
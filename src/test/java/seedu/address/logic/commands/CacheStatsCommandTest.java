@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+
+public class CacheStatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
+
+    @Test
+    public void execute_afterRepeatedFilter_showsHitsAndMisses() throws Exception {
+        PropertyMatchesFilterPredicate forRent = new PropertyMatchesFilterPredicate.Builder().withListing("rent")
+                .build();
+        new FilterPropertyCommand(forRent, 10, 0).execute(model);
+        new ListCommand().execute(model);
+        new FilterPropertyCommand(forRent, 10, 0).execute(model);
+
+        CommandResult result = new CacheStatsCommand().execute(model);
+
+        // Each filter counts its matches and then pages them, and only the first count searches the properties
+        assertEquals(String.format(CacheStatsCommand.MESSAGE_SUCCESS, 3, 1, 1, 32), result.getFeedbackToUser());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_ID;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_ID;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedContacts;
+import static seedu.address.logic.commands.CommandUtil.getDisplayedProperties;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.uuid.Uuid;
+
+public class CommandUtilTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
+
+    @Test
+    public void getDisplayedContacts_displayedIds_returnsContactsInOrder() throws CommandException {
+        assertEquals(List.of(BENSON, ALICE),
+                getDisplayedContacts(model, List.of(BENSON.getUuid(), ALICE.getUuid())));
+    }
+
+    @Test
+    public void getDisplayedContacts_unknownId_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_INVALID_CONTACT_DISPLAYED_ID, () ->
+                getDisplayedContacts(model, List.of(ALICE.getUuid(), Uuid.of(999999, CONTACT))));
+    }
+
+    @Test
+    public void getDisplayedContacts_hiddenId_throwsCommandException() {
+        model.updateFilteredContactList(contact -> !contact.equals(ALICE));
+        assertThrows(CommandException.class, MESSAGE_INVALID_CONTACT_DISPLAYED_ID, () ->
+                getDisplayedContacts(model, List.of(ALICE.getUuid())));
+    }
+
+    @Test
+    public void getDisplayedProperties_displayedIds_returnsPropertiesInOrder() throws CommandException {
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA),
+                getDisplayedProperties(model, List.of(PROPERTY_BETA.getUuid(), PROPERTY_ALPHA.getUuid())));
+    }
+
+    @Test
+    public void getDisplayedProperties_hiddenId_throwsCommandException() {
+        model.updateFilteredPropertyList(property -> !property.equals(PROPERTY_ALPHA));
+        assertThrows(CommandException.class, MESSAGE_INVALID_PROPERTY_DISPLAYED_ID, () ->
+                getDisplayedProperties(model, List.of(PROPERTY_ALPHA.getUuid(), Uuid.of(999999, PROPERTY))));
+    }
+}
@@ -2,10 +2,15 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.DeleteContactCommand.MESSAGE_CONTACT_NOT_FOUND;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,7 +20,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.PropertyBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.property.Owner;
+import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -43,13 +51,78 @@ public class DeleteContactCommandTest {
 
     @Test
     public void execute_invalidUuidUnfilteredList_throwsCommandException() {
-        Uuid invalidUuid = new Uuid(999999, Uuid.StoredItem.CONTACT); // Non-existent UUID
+        Uuid invalidUuid = Uuid.of(999999, Uuid.StoredItem.CONTACT); // Non-existent UUID
         DeleteContactCommand deleteContactCommand = new DeleteContactCommand(invalidUuid);
 
         assertCommandFailure(deleteContactCommand, model,
                 String.format(MESSAGE_CONTACT_NOT_FOUND, invalidUuid.getValue()));
     }
 
+    @Test
+    public void execute_uuidNotInFilteredList_throwsCommandException() {
+        Contact hiddenContact = model.getFilteredContactList().get(0);
+        model.updateFilteredContactList(contact -> contact != hiddenContact);
+        DeleteContactCommand deleteContactCommand = new DeleteContactCommand(hiddenContact.getUuid());
+
+        assertCommandFailure(deleteContactCommand, model,
+                String.format(MESSAGE_CONTACT_NOT_FOUND, hiddenContact.getUuid().getValue()));
+    }
+
+    @Test
+    public void execute_multipleValidUuids_success() {
+        Contact firstContact = model.getFilteredContactList().get(0);
+        Contact secondContact = model.getFilteredContactList().get(1);
+        DeleteContactCommand deleteContactCommand =
+                new DeleteContactCommand(List.of(firstContact.getUuid(), secondContact.getUuid()));
+
+        String expectedMessage = String.format(DeleteContactCommand.MESSAGE_DELETE_CONTACTS_SUCCESS, 2,
+                Messages.format(firstContact) + "\n" + Messages.format(secondContact));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(),
+                new PropertyBook(model.getPropertyBook()), new UserPrefs());
+        expectedModel.deleteContact(firstContact);
+        expectedModel.deleteContact(secondContact);
+
+        assertCommandSuccess(deleteContactCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneInvalidUuidAmongMany_noContactDeleted() {
+        Uuid validUuid = model.getFilteredContactList().get(0).getUuid();
+        Uuid invalidUuid = Uuid.of(999999, Uuid.StoredItem.CONTACT);
+        DeleteContactCommand deleteContactCommand = new DeleteContactCommand(List.of(validUuid, invalidUuid));
+
+        assertCommandFailure(deleteContactCommand, model,
+                String.format(MESSAGE_CONTACT_NOT_FOUND, invalidUuid.getValue()));
+    }
+
+    @Test
+    public void execute_linkedContact_removesReferencesFromProperties() {
+        Contact contactToDelete = model.getFilteredContactList().get(0);
+        int contactId = contactToDelete.getUuid().getValue();
+        Property linkedProperty = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(contactId).withOwner(String.valueOf(contactId)).build();
+        Property otherProperty = new PropertyBuilderUtil(PROPERTY_BETA).withSellingContactIds(contactId).build();
+        model.addProperty(linkedProperty);
+        model.addProperty(otherProperty);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(),
+                new PropertyBook(model.getPropertyBook()), new UserPrefs());
+        expectedModel.deleteContact(contactToDelete);
+        expectedModel.setProperty(linkedProperty, new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withOwner(Owner.NO_OWNER_ID).build());
+        expectedModel.setProperty(otherProperty, PROPERTY_BETA);
+
+        String expectedMessage = String.format(DeleteContactCommand.MESSAGE_DELETE_CONTACT_SUCCESS,
+                Messages.format(contactToDelete));
+        assertCommandSuccess(new DeleteContactCommand(contactToDelete.getUuid()), model, expectedMessage,
+                expectedModel);
+        assertTrue(model.getLinkGraph().getPropertyIds(contactToDelete.getUuid()).isEmpty());
+        assertTrue(model.getPropertyById(PROPERTY_ALPHA.getUuid()).getBuyingContactIds().isEmpty());
+        assertEquals(Owner.NO_OWNER_ID, model.getPropertyById(PROPERTY_ALPHA.getUuid()).getOwner().value);
+        assertTrue(model.getPropertyById(PROPERTY_BETA.getUuid()).getSellingContactIds().isEmpty());
+    }
+
     @Test
     public void equals() {
         Uuid firstUuid = model.getFilteredContactList().get(0).getUuid();
@@ -79,7 +152,7 @@ public class DeleteContactCommandTest {
     public void toStringMethod() {
         Uuid targetUuid = model.getFilteredContactList().get(0).getUuid();
         DeleteContactCommand deleteContactCommand = new DeleteContactCommand(targetUuid);
-        String expected = DeleteContactCommand.class.getCanonicalName() + "{targetUuid=" + targetUuid + "}";
+        String expected = DeleteContactCommand.class.getCanonicalName() + "{targetUuids=[" + targetUuid + "]}";
         assertEquals(expected, deleteContactCommand.toString());
     }
 }
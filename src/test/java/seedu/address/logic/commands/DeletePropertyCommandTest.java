@@ -76,8 +76,8 @@ class DeletePropertyCommandTest {
 
     @Test
     void equals() {
-        DeletePropertyCommand deleteAlpha = new DeletePropertyCommand(new Uuid(1, PROPERTY));
-        DeletePropertyCommand deleteBeta = new DeletePropertyCommand(new Uuid(2, PROPERTY));
+        DeletePropertyCommand deleteAlpha = new DeletePropertyCommand(Uuid.of(1, PROPERTY));
+        DeletePropertyCommand deleteBeta = new DeletePropertyCommand(Uuid.of(2, PROPERTY));
 
         assertTrue(deleteAlpha.equals(deleteAlpha));
         assertFalse(deleteAlpha.equals(1));
@@ -86,14 +86,14 @@ class DeletePropertyCommandTest {
 
     @Test
     void toStringMethod() {
-        Uuid id = new Uuid(1, PROPERTY);
+        Uuid id = Uuid.of(1, PROPERTY);
         DeletePropertyCommand command = new DeletePropertyCommand(id);
         String expected = DeletePropertyCommand.class.getCanonicalName() + "{targetPropertyId=" + id + "}";
         assertEquals(expected, command.toString());
     }
 
     private static Property buildProperty(String address) {
-        return new Property(new Uuid(1, PROPERTY), new PropertyAddress(address), new Bathroom("2"), new Bedroom("3"),
+        return new Property(Uuid.of(1, PROPERTY), new PropertyAddress(address), new Bathroom("2"), new Bedroom("3"),
                 new FloorArea("120"), new Listing("sale"), new Postal("123456"), new Price("500000"),
                 new Status("unavailable"), new Type("HDB"), new Owner("owner123"), new HashSet<>(), new HashSet<>());
     }
@@ -102,6 +102,6 @@ class DeletePropertyCommandTest {
         requireNonNull(propertyId);
         int candidate = propertyId.getValue();
         int replacement = candidate + 1;
-        return new Uuid(replacement, PROPERTY);
+        return Uuid.of(replacement, PROPERTY);
     }
 }
@@ -102,7 +102,7 @@ public class EditContactCommandTest {
 
     @Test
     public void execute_invalidUuid_failure() {
-        Uuid invalidUuid = new Uuid(999, Uuid.StoredItem.CONTACT);
+        Uuid invalidUuid = Uuid.of(999, Uuid.StoredItem.CONTACT);
         EditContactCommand.EditContactDescriptor descriptor =
                 new EditContactDescriptorBuilder().withName(VALID_NAME_BOB).build();
         EditContactCommand command = new EditContactCommand(invalidUuid, descriptor);
@@ -12,6 +12,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.PropertyBook;
@@ -72,7 +73,7 @@ public class FilterContactCommandTest {
     }
 
     @Test
-    public void execute_multipleFilters_multipleContactsFound() {
+    public void execute_multipleFilters_multipleContactsFound() throws CommandException {
         FilterContactPredicate predicate = new FilterContactPredicate(
                 Optional.of(Arrays.asList("Kurz", "Elle", "Kunz")),
                 Optional.empty(), Optional.empty(),
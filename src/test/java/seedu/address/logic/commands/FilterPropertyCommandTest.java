@@ -3,16 +3,20 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PropertyBook;
 import seedu.address.model.property.Bathroom;
 import seedu.address.model.property.Bedroom;
 import seedu.address.model.property.FloorArea;
@@ -25,6 +29,8 @@ import seedu.address.model.property.PropertyAddress;
 import seedu.address.model.property.Status;
 import seedu.address.model.property.Type;
 import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
 
 
 /**
@@ -203,6 +209,36 @@ public class FilterPropertyCommandTest {
         assertEquals("2 properties matched (showing 2–2)", result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_filterWithCursor_continuesAfterCursor() throws CommandException {
+        PropertyMatchesFilterPredicate predicate = new PropertyMatchesFilterPredicate.Builder().build();
+
+        CommandResult firstResult = new FilterPropertyCommand(predicate, 1, 0).execute(model);
+        assertEquals(List.of(p1), model.getFilteredPropertyList());
+        String firstMessage = firstResult.getFeedbackToUser();
+        String cursor = firstMessage.substring(firstMessage.indexOf("after/") + "after/".length()).split(" ")[0];
+
+        model.deleteProperty(p1);
+        CommandResult secondResult = new FilterPropertyCommand(predicate, 1, 0,
+                Optional.of(PageCursor.parse(cursor))).execute(model);
+
+        assertEquals(List.of(p2), model.getFilteredPropertyList());
+        assertTrue(secondResult.getFeedbackToUser().startsWith(
+                String.format(FilterPropertyCommand.MESSAGE_CURSOR_PAGE, 1, cursor)));
+        assertTrue(secondResult.getFeedbackToUser().contains("after/"));
+    }
+
+    @Test
+    public void execute_staleCursor_throwsCommandException() throws CommandException {
+        PropertyMatchesFilterPredicate predicate = new PropertyMatchesFilterPredicate.Builder().build();
+        Page<Property> firstPage = model.getMatchingProperties(predicate, 0, 1);
+
+        model.setPropertyBook(new PropertyBook(model.getPropertyBook()));
+
+        assertCommandFailure(new FilterPropertyCommand(predicate, 1, 0, firstPage.getNextCursor()), model,
+                Messages.MESSAGE_STALE_CURSOR);
+    }
+
     @Test
     public void equals() {
         PropertyMatchesFilterPredicate firstPredicate =
@@ -24,33 +24,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.LinkCommand.LinkDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.link.LinkGraph;
 import seedu.address.model.property.Property;
 import seedu.address.testutil.LinkDescriptorBuilder;
 
 public class LinkDescriptorTest {
 
-    @Test
-    public void getContactsInList_duplicateContactIds_throwsCommandException() {
-
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
-        contactList.add(ALICE);
-        LinkDescriptor linkDescriptor = new LinkDescriptorBuilder()
-                .withContactIds(Set.of(ALICE.getUuid())).build();
-
-        assertThrows(CommandException.class, () -> linkDescriptor.getContactsInList(contactList));
-    }
-
-    @Test
-    public void getPropertiesInList_duplicatePropertyIds_throwsCommandException() {
-
-        List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        propertyList.add(PROPERTY_ALPHA);
-        LinkDescriptor linkDescriptor = new LinkDescriptorBuilder()
-                .withPropertyIds(Set.of(PROPERTY_ALPHA.getUuid())).build();
-
-        assertThrows(CommandException.class, () -> linkDescriptor.getPropertiesInList(propertyList));
-    }
-
     @Test
     public void getUpdatedContacts_unknownRelationship_throwsCommandException() {
 
@@ -78,41 +57,34 @@ public class LinkDescriptorTest {
     @Test
     public void throwExceptionIfLinked_linkedAsBuyer_throwsCommandException() {
         List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
 
         propertyList.set(propertyList.indexOf(PROPERTY_ALPHA),
                 PROPERTY_ALPHA.duplicateWithNewBuyingContactIds(Set.of(ALICE.getUuid())));
-        contactList.set(contactList.indexOf(ALICE),
-                ALICE.duplicateWithNewBuyingPropertyIds(Set.of(PROPERTY_ALPHA.getUuid())));
 
         LinkDescriptor linkDescriptor = new LinkDescriptor(LINK_DESC_ALICE_BUYER_PROPERTY_ALPHA);
 
-        assertThrows(CommandException.class, () -> linkDescriptor.throwExceptionIfLinked(contactList, propertyList));
+        assertThrows(CommandException.class, () -> linkDescriptor.throwExceptionIfLinked(linkGraphOf(propertyList)));
     }
 
     @Test
     public void throwExceptionIfLinked_linkedAsSeller_throwsCommandException() {
         List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
 
         propertyList.set(propertyList.indexOf(PROPERTY_BETA),
                 PROPERTY_BETA.duplicateWithNewSellingContactIds(Set.of(BENSON.getUuid())));
-        contactList.set(contactList.indexOf(BENSON),
-                BENSON.duplicateWithNewSellingPropertyIds(Set.of(PROPERTY_BETA.getUuid())));
 
         LinkDescriptor linkDescriptor = new LinkDescriptor(LINK_DESC_BENSON_SELLER_PROPERTY_BETA);
 
-        assertThrows(CommandException.class, () -> linkDescriptor.throwExceptionIfLinked(contactList, propertyList));
+        assertThrows(CommandException.class, () -> linkDescriptor.throwExceptionIfLinked(linkGraphOf(propertyList)));
     }
 
     @Test
     public void throwExceptionIfLinked_unlinked_noException() {
         List<Property> propertyList = new ArrayList<>(getTypicalProperties());
-        List<Contact> contactList = new ArrayList<>(getTypicalContacts());
 
         LinkDescriptor linkDescriptor = new LinkDescriptor(LINK_DESC_ALICE_BUYER_PROPERTY_ALPHA);
 
-        assertDoesNotThrow(() -> linkDescriptor.throwExceptionIfLinked(contactList, propertyList));
+        assertDoesNotThrow(() -> linkDescriptor.throwExceptionIfLinked(linkGraphOf(propertyList)));
     }
 
     @Test
@@ -158,4 +130,10 @@ public class LinkDescriptorTest {
                 + ", propertyIds=" + descriptor.getPropertyIds() + "}";
         assertTrue(descriptor.toString().equals(expectedString));
     }
+
+    private static LinkGraph linkGraphOf(List<Property> properties) {
+        LinkGraph linkGraph = new LinkGraph();
+        properties.forEach(linkGraph::addProperty);
+        return linkGraph;
+    }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -20,9 +21,18 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Transaction;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
 import seedu.address.model.property.Status;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.PropertyBuilderUtil;
 
@@ -68,7 +78,7 @@ public class MarkSoldCommandTest {
 
     @Test
     public void execute_invalidId_throwsCommandException() {
-        Uuid invalidId = new Uuid(999999, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId = Uuid.of(999999, Uuid.StoredItem.PROPERTY);
         Set<Uuid> ids = Set.of(invalidId);
         MarkSoldCommand command = new MarkSoldCommand(ids);
 
@@ -78,8 +88,8 @@ public class MarkSoldCommandTest {
 
     @Test
     public void execute_mixedValidAndInvalidIds_throwsCommandExceptionWithAllInvalids() {
-        Uuid invalidId1 = new Uuid(999999, Uuid.StoredItem.PROPERTY);
-        Uuid invalidId2 = new Uuid(999998, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId1 = Uuid.of(999999, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId2 = Uuid.of(999998, Uuid.StoredItem.PROPERTY);
         Set<Uuid> ids = Set.of(property1.getUuid(), invalidId1, invalidId2);
         MarkSoldCommand command = new MarkSoldCommand(ids);
 
@@ -111,6 +121,21 @@ public class MarkSoldCommandTest {
             return propertyMap.get(id);
         }
 
+        @Override
+        public Contact getFilteredContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Property getFilteredPropertyById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyLinkGraph getLinkGraph() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -137,6 +162,13 @@ public class MarkSoldCommandTest {
             propertyMap.put(id, updatedWithSameId);
         }
 
+        @Override
+        public void setProperties(List<Property> targets, List<Property> editedProperties) {
+            for (int i = 0; i < targets.size(); i++) {
+                setProperty(targets.get(i), editedProperties.get(i));
+            }
+        }
+
         @Override
         public ReadOnlyUserPrefs getUserPrefs() {
             throw new AssertionError("This method should not be called.");
@@ -187,11 +219,31 @@ public class MarkSoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteContactsCascading(List<Contact> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setContact(Contact target, Contact editedContact) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit(Transaction transaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Contact> getFilteredContactList() {
             throw new AssertionError("This method should not be called.");
@@ -202,6 +254,16 @@ public class MarkSoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Predicate<Contact> predicate, List<Contact> contacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredContactList(ContactSortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -232,6 +294,11 @@ public class MarkSoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePropertyCascading(Property target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
@@ -241,5 +308,47 @@ public class MarkSoldCommandTest {
         public void updateFilteredPropertyList(Predicate<Property> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPropertyList(Predicate<Property> predicate, List<Property> properties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPropertyList(PropertySortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContacts(FilterContactPredicate predicate, int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContactsAfter(FilterContactPredicate predicate, PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingProperties(PropertyMatchesFilterPredicate predicate, int offset,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingPropertiesAfter(PropertyMatchesFilterPredicate predicate,
+                PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countMatchingProperties(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryCache.Stats getQueryCacheStats() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -20,9 +21,18 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPropertyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Transaction;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.link.ReadOnlyLinkGraph;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
 import seedu.address.model.property.Status;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.PropertyBuilderUtil;
 
@@ -57,7 +67,7 @@ public class MarkUnsoldCommandTest {
 
     @Test
     public void execute_invalidId_throwsCommandException() {
-        Uuid invalidId = new Uuid(999999, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId = Uuid.of(999999, Uuid.StoredItem.PROPERTY);
         Set<Uuid> ids = Set.of(invalidId);
         MarkUnsoldCommand command = new MarkUnsoldCommand(ids);
 
@@ -67,8 +77,8 @@ public class MarkUnsoldCommandTest {
 
     @Test
     public void execute_mixedValidAndInvalidIds_throwsCommandExceptionWithAllInvalids() {
-        Uuid invalidId1 = new Uuid(999999, Uuid.StoredItem.PROPERTY);
-        Uuid invalidId2 = new Uuid(999998, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId1 = Uuid.of(999999, Uuid.StoredItem.PROPERTY);
+        Uuid invalidId2 = Uuid.of(999998, Uuid.StoredItem.PROPERTY);
         Set<Uuid> ids = Set.of(property1.getUuid(), invalidId1, invalidId2);
         MarkUnsoldCommand command = new MarkUnsoldCommand(ids);
 
@@ -96,6 +106,21 @@ public class MarkUnsoldCommandTest {
             return propertyMap.get(id);
         }
 
+        @Override
+        public Contact getFilteredContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Property getFilteredPropertyById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyLinkGraph getLinkGraph() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setProperty(Property target, Property editedProperty) {
             Uuid id = target.getUuid();
@@ -117,6 +142,13 @@ public class MarkUnsoldCommandTest {
             propertyMap.put(id, updatedWithSameId);
         }
 
+        @Override
+        public void setProperties(List<Property> targets, List<Property> editedProperties) {
+            for (int i = 0; i < targets.size(); i++) {
+                setProperty(targets.get(i), editedProperties.get(i));
+            }
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -172,11 +204,31 @@ public class MarkUnsoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteContactsCascading(List<Contact> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setContact(Contact target, Contact editedContact) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setContacts(List<Contact> targets, List<Contact> editedContacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit(Transaction transaction) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Contact getContactById(Uuid id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Contact> getFilteredContactList() {
             throw new AssertionError("This method should not be called.");
@@ -187,6 +239,16 @@ public class MarkUnsoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Predicate<Contact> predicate, List<Contact> contacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredContactList(ContactSortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getPropertyBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -217,6 +279,11 @@ public class MarkUnsoldCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePropertyCascading(Property target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
@@ -226,5 +293,47 @@ public class MarkUnsoldCommandTest {
         public void updateFilteredPropertyList(Predicate<Property> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPropertyList(Predicate<Property> predicate, List<Property> properties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPropertyList(PropertySortKey sortKey) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContacts(FilterContactPredicate predicate, int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Contact> getMatchingContactsAfter(FilterContactPredicate predicate, PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingProperties(PropertyMatchesFilterPredicate predicate, int offset,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Property> getMatchingPropertiesAfter(PropertyMatchesFilterPredicate predicate,
+                PageCursor after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countMatchingProperties(PropertyMatchesFilterPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryCache.Stats getQueryCacheStats() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
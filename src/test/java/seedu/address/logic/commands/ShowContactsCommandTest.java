@@ -6,15 +6,22 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 public class ShowContactsCommandTest {
 
@@ -22,7 +29,7 @@ public class ShowContactsCommandTest {
 
     @Test
     public void execute_validProperty_success() throws Exception {
-        Uuid validUuid = new Uuid(1, PROPERTY);
+        Uuid validUuid = Uuid.of(1, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(validUuid);
         CommandResult result = command.execute(model);
         assertTrue(result.getFeedbackToUser().contains("Listed")
@@ -31,23 +38,38 @@ public class ShowContactsCommandTest {
 
     @Test
     public void execute_noContactsFound_showsMessage() throws Exception {
-        Uuid uuidWithNoContacts = new Uuid(999, PROPERTY);
+        Uuid uuidWithNoContacts = Uuid.of(999, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(uuidWithNoContacts);
         CommandResult result = command.execute(model);
         assertTrue(result.getFeedbackToUser().contains("No contacts found")
                 || result.getFeedbackToUser().contains("No contacts"));
     }
 
+    @Test
+    public void execute_linkedProperty_listsOnlyLinkedContacts() throws Exception {
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(ALICE.getUuid().getValue())
+                .withSellingContactIds(BENSON.getUuid().getValue())
+                .build();
+        model.setProperty(PROPERTY_ALPHA, linkedAlpha);
+
+        CommandResult result = new ShowContactsCommand(PROPERTY_ALPHA.getUuid()).execute(model);
+
+        assertEquals(String.format(ShowContactsCommand.MESSAGE_SUCCESS, PROPERTY_ALPHA.getUuid(), 2, "s"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredContactList());
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
-        Uuid uuid = new Uuid(1, PROPERTY);
+        Uuid uuid = Uuid.of(1, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(uuid);
         assertEquals(command, command);
     }
 
     @Test
     public void equals_sameValues_returnsTrue() {
-        Uuid uuid = new Uuid(1, PROPERTY);
+        Uuid uuid = Uuid.of(1, PROPERTY);
         ShowContactsCommand command1 = new ShowContactsCommand(uuid);
         ShowContactsCommand command2 = new ShowContactsCommand(uuid);
         assertEquals(command1, command2);
@@ -55,39 +77,39 @@ public class ShowContactsCommandTest {
 
     @Test
     public void equals_differentValues_returnsFalse() {
-        ShowContactsCommand c1 = new ShowContactsCommand(new Uuid(1, PROPERTY));
-        ShowContactsCommand c2 = new ShowContactsCommand(new Uuid(2, PROPERTY));
+        ShowContactsCommand c1 = new ShowContactsCommand(Uuid.of(1, PROPERTY));
+        ShowContactsCommand c2 = new ShowContactsCommand(Uuid.of(2, PROPERTY));
         assertNotEquals(c1, c2);
     }
 
     @Test
     public void equals_differentType_returnsFalse() {
-        ShowContactsCommand command = new ShowContactsCommand(new Uuid(1, PROPERTY));
+        ShowContactsCommand command = new ShowContactsCommand(Uuid.of(1, PROPERTY));
         assertNotEquals("string", command);
     }
 
     @Test
     public void equals_null_returnsFalse() {
-        ShowContactsCommand command = new ShowContactsCommand(new Uuid(1, PROPERTY));
+        ShowContactsCommand command = new ShowContactsCommand(Uuid.of(1, PROPERTY));
         assertNotEquals(null, command);
     }
 
     @Test
     public void toString_containsUuid() {
-        Uuid uuid = new Uuid(1, PROPERTY);
+        Uuid uuid = Uuid.of(1, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(uuid);
         assertTrue(command.toString().contains("propertyUuid"));
     }
 
     @Test
     public void execute_nullModel_throwsCommandException() {
-        ShowContactsCommand command = new ShowContactsCommand(new Uuid(1, PROPERTY));
+        ShowContactsCommand command = new ShowContactsCommand(Uuid.of(1, PROPERTY));
         assertThrows(NullPointerException.class, () -> command.execute(null));
     }
 
     @Test
     public void execute_noContactsFound_returnsNoContactsMessage() throws Exception {
-        Uuid propertyUuid = new Uuid(999, PROPERTY);
+        Uuid propertyUuid = Uuid.of(999, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(propertyUuid);
         CommandResult result = command.execute(model);
         assertTrue(result.getFeedbackToUser().contains("No contacts found"));
@@ -101,13 +123,13 @@ public class ShowContactsCommandTest {
 
     @Test
     public void execute_nullModel_throwsNullPointerException() {
-        ShowContactsCommand command = new ShowContactsCommand(new Uuid(1, PROPERTY));
+        ShowContactsCommand command = new ShowContactsCommand(Uuid.of(1, PROPERTY));
         assertThrows(NullPointerException.class, () -> command.execute(null));
     }
 
     @Test
     public void execute_propertyExistsButNoLinkedContacts_showsNoContactsMessage() throws Exception {
-        Uuid existingPropertyUuid = new Uuid(1, PROPERTY);
+        Uuid existingPropertyUuid = Uuid.of(1, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(existingPropertyUuid);
 
         CommandResult result = command.execute(model);
@@ -117,7 +139,7 @@ public class ShowContactsCommandTest {
 
     @Test
     public void execute_nonPropertyUuid_showsNoContactsFound() throws Exception {
-        Uuid contactUuid = new Uuid(1, CONTACT); // wrong type
+        Uuid contactUuid = Uuid.of(1, CONTACT); // wrong type
         ShowContactsCommand command = new ShowContactsCommand(contactUuid);
 
         CommandResult result = command.execute(model);
@@ -127,15 +149,15 @@ public class ShowContactsCommandTest {
 
     @Test
     public void equals_differentCommandType_returnsFalse() {
-        ShowContactsCommand showCommand = new ShowContactsCommand(new Uuid(1, PROPERTY));
-        ShowPropertiesCommand otherCommand = new ShowPropertiesCommand(new Uuid(1, CONTACT));
+        ShowContactsCommand showCommand = new ShowContactsCommand(Uuid.of(1, PROPERTY));
+        ShowPropertiesCommand otherCommand = new ShowPropertiesCommand(Uuid.of(1, CONTACT));
 
         assertNotEquals(showCommand, otherCommand);
     }
 
     @Test
     public void toString_includesUuidValue() {
-        Uuid uuid = new Uuid(5, PROPERTY);
+        Uuid uuid = Uuid.of(5, PROPERTY);
         ShowContactsCommand command = new ShowContactsCommand(uuid);
 
         String commandString = command.toString();
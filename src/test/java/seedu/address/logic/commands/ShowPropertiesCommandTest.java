@@ -23,7 +23,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void execute_validUuid_success() throws Exception {
-        Uuid validUuid = new Uuid(1, CONTACT);
+        Uuid validUuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(validUuid);
 
         CommandResult result = command.execute(model);
@@ -34,7 +34,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void execute_noPropertiesFound_showsMessage() throws Exception {
-        Uuid uuidWithNoProperties = new Uuid(999, CONTACT);
+        Uuid uuidWithNoProperties = Uuid.of(999, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(uuidWithNoProperties);
 
         CommandResult result = command.execute(model);
@@ -44,7 +44,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void equals_sameObject_returnsTrue() {
-        Uuid uuid = new Uuid(1, CONTACT);
+        Uuid uuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(uuid);
 
         assertEquals(command, command);
@@ -52,7 +52,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void equals_sameValues_returnsTrue() {
-        Uuid uuid = new Uuid(1, CONTACT);
+        Uuid uuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command1 = new ShowPropertiesCommand(uuid);
         ShowPropertiesCommand command2 = new ShowPropertiesCommand(uuid);
 
@@ -61,8 +61,8 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void equals_differentValues_returnsFalse() {
-        Uuid uuid1 = new Uuid(1, CONTACT);
-        Uuid uuid2 = new Uuid(2, CONTACT);
+        Uuid uuid1 = Uuid.of(1, CONTACT);
+        Uuid uuid2 = Uuid.of(2, CONTACT);
 
         ShowPropertiesCommand command1 = new ShowPropertiesCommand(uuid1);
         ShowPropertiesCommand command2 = new ShowPropertiesCommand(uuid2);
@@ -72,7 +72,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void equals_differentType_returnsFalse() {
-        Uuid uuid = new Uuid(1, CONTACT);
+        Uuid uuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(uuid);
 
         assertNotEquals("not a command", command);
@@ -80,7 +80,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void equals_null_returnsFalse() {
-        Uuid uuid = new Uuid(1, CONTACT);
+        Uuid uuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(uuid);
 
         assertNotEquals(null, command);
@@ -88,7 +88,7 @@ public class ShowPropertiesCommandTest {
 
     @Test
     public void toString_containsUuid() {
-        Uuid uuid = new Uuid(1, CONTACT);
+        Uuid uuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(uuid);
 
         String result = command.toString();
@@ -116,7 +116,7 @@ public class ShowPropertiesCommandTest {
         model.addProperty(propertyWithNumericOwner);
 
         // Search for properties owned by UUID 1
-        Uuid ownerUuid = new Uuid(1, CONTACT);
+        Uuid ownerUuid = Uuid.of(1, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(ownerUuid);
 
         CommandResult result = command.execute(model);
@@ -145,7 +145,7 @@ public class ShowPropertiesCommandTest {
         model.addProperty(property1);
         model.addProperty(property2);
 
-        Uuid ownerUuid = new Uuid(5, CONTACT);
+        Uuid ownerUuid = Uuid.of(5, CONTACT);
         ShowPropertiesCommand command = new ShowPropertiesCommand(ownerUuid);
 
         CommandResult result = command.execute(model);
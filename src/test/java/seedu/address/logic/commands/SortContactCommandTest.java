@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.CARL;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.ContactSortKey;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class SortContactCommandTest {
+
+    private final Model model = new ModelManager(
+            new AddressBookBuilder().withContact(CARL).withContact(ALICE).withContact(BENSON).build(),
+            getTypicalPropertyBook(), new UserPrefs());
+
+    @Test
+    public void execute_byName_sortsShownContacts() {
+        CommandResult result = new SortContactCommand(ContactSortKey.NAME).execute(model);
+
+        assertEquals(String.format(SortContactCommand.MESSAGE_SUCCESS, "name"), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getFilteredContactList());
+    }
+
+    @Test
+    public void equals() {
+        SortContactCommand sortByName = new SortContactCommand(ContactSortKey.NAME);
+
+        assertEquals(sortByName, sortByName);
+        assertEquals(sortByName, new SortContactCommand(ContactSortKey.NAME));
+        assertNotEquals(sortByName, new SortContactCommand(ContactSortKey.ID));
+        assertNotEquals(sortByName, null);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_GAMMA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.PropertySortKey;
+
+public class SortPropertyCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalPropertyBook(), new UserPrefs());
+
+    @Test
+    public void execute_byPrice_sortsShownProperties() {
+        CommandResult result = new SortPropertyCommand(PropertySortKey.PRICE).execute(model);
+
+        assertEquals(String.format(SortPropertyCommand.MESSAGE_SUCCESS, "price"), result.getFeedbackToUser());
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA, PROPERTY_GAMMA), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void equals() {
+        SortPropertyCommand sortByPrice = new SortPropertyCommand(PropertySortKey.PRICE);
+
+        assertEquals(sortByPrice, sortByPrice);
+        assertEquals(sortByPrice, new SortPropertyCommand(PropertySortKey.PRICE));
+        assertNotEquals(sortByPrice, new SortPropertyCommand(PropertySortKey.ID));
+        assertNotEquals(sortByPrice, null);
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.commands.EditContactCommand;
@@ -41,6 +42,11 @@ public class AddressBookParserTest {
         assertEquals(new AddContactCommand(contact), command);
     }
 
+    @Test
+    public void parseCommand_cacheStats() throws Exception {
+        assertTrue(parser.parseCommand(CacheStatsCommand.COMMAND_WORD) instanceof CacheStatsCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -51,7 +57,7 @@ public class AddressBookParserTest {
     public void parseCommand_delete() throws Exception {
         DeleteContactCommand command = (DeleteContactCommand) parser.parseCommand(
                 DeleteContactCommand.COMMAND_WORD + " 1");
-        assertEquals(new DeleteContactCommand(new Uuid(1, Uuid.StoredItem.CONTACT)), command);
+        assertEquals(new DeleteContactCommand(Uuid.of(1, Uuid.StoredItem.CONTACT)), command);
     }
 
     @Test
@@ -4,6 +4,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.DeleteContactCommand;
@@ -18,8 +20,19 @@ public class DeleteContactCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
-        assertParseSuccess(parser, "1", new DeleteContactCommand(new Uuid(1, Uuid.StoredItem.CONTACT)));
-        assertParseSuccess(parser, "42", new DeleteContactCommand(new Uuid(42, Uuid.StoredItem.CONTACT)));
+        assertParseSuccess(parser, "1", new DeleteContactCommand(Uuid.of(1, Uuid.StoredItem.CONTACT)));
+        assertParseSuccess(parser, "42", new DeleteContactCommand(Uuid.of(42, Uuid.StoredItem.CONTACT)));
+    }
+
+    @Test
+    public void parse_multipleIds_returnsDeleteCommand() {
+        DeleteContactCommand expectedCommand = new DeleteContactCommand(List.of(
+                Uuid.of(1, Uuid.StoredItem.CONTACT), Uuid.of(2, Uuid.StoredItem.CONTACT),
+                Uuid.of(3, Uuid.StoredItem.CONTACT)));
+        assertParseSuccess(parser, " 1 2  3 ", expectedCommand);
+
+        // repeated ids -> deleted once
+        assertParseSuccess(parser, "1 2 3 2", expectedCommand);
     }
 
     @Test
@@ -32,5 +45,8 @@ public class DeleteContactCommandParserTest {
 
         assertParseFailure(parser, "0",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE));
     }
 }
@@ -12,7 +12,7 @@ import seedu.address.model.uuid.Uuid;
 
 class DeletePropertyCommandParserTest {
 
-    private static final Uuid VALID_PROPERTY_ID = new Uuid(1, PROPERTY);
+    private static final Uuid VALID_PROPERTY_ID = Uuid.of(1, PROPERTY);
 
     private final DeletePropertyCommandParser parser = new DeletePropertyCommandParser();
 
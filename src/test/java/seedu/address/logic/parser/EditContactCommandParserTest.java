@@ -122,7 +122,7 @@ public class EditContactCommandParserTest {
                 .build();
 
         EditContactCommand expectedCommand = new EditContactCommand(
-                                    new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor);
+                                    Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
@@ -139,7 +139,7 @@ public class EditContactCommandParserTest {
                 .build();
 
         EditContactCommand expectedCommand = new EditContactCommand(
-                                    new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor);
+                                    Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
@@ -153,31 +153,31 @@ public class EditContactCommandParserTest {
         EditContactCommand.EditContactDescriptor descriptor =
                 new EditContactDescriptorBuilder().withName(VALID_NAME_AMY).build();
         assertParseSuccess(parser, userInput,
-                new EditContactCommand(new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor));
+                new EditContactCommand(Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor));
 
         // phone
         userInput = uuid + PHONE_DESC_AMY;
         descriptor = new EditContactDescriptorBuilder().withPhone(VALID_PHONE_AMY).build();
         assertParseSuccess(parser, userInput,
-                new EditContactCommand(new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor));
+                new EditContactCommand(Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor));
 
         // email
         userInput = uuid + EMAIL_DESC_AMY;
         descriptor = new EditContactDescriptorBuilder().withEmail(VALID_EMAIL_AMY).build();
         assertParseSuccess(parser, userInput,
-                new EditContactCommand(new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor));
+                new EditContactCommand(Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor));
 
         // address
         userInput = uuid + ADDRESS_DESC_AMY;
         descriptor = new EditContactDescriptorBuilder().withAddress(VALID_ADDRESS_AMY).build();
         assertParseSuccess(parser, userInput,
-                new EditContactCommand(new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor));
+                new EditContactCommand(Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor));
 
         // tags
         userInput = uuid + TAG_DESC_BUYER;
         descriptor = new EditContactDescriptorBuilder().withTags(VALID_TAG_BUYER).build();
         assertParseSuccess(parser, userInput,
-                new EditContactCommand(new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor));
+                new EditContactCommand(Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor));
     }
 
     @Test
@@ -220,7 +220,7 @@ public class EditContactCommandParserTest {
         String userInput = uuid + TAG_EMPTY;
         EditContactCommand.EditContactDescriptor descriptor = new EditContactDescriptorBuilder().withTags().build();
         EditContactCommand expectedCommand = new EditContactCommand(
-                                    new Uuid(uuid, Uuid.StoredItem.CONTACT), descriptor);
+                                    Uuid.of(uuid, Uuid.StoredItem.CONTACT), descriptor);
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -18,12 +18,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STATUS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -43,6 +45,7 @@ import seedu.address.model.contact.FilterContactPredicate;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
 import seedu.address.model.contact.Tag;
+import seedu.address.model.util.PageCursor;
 
 public class FilterContactCommandParserTest {
 
@@ -96,6 +99,31 @@ public class FilterContactCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterContactCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_mixedCaseKeywords_keywordsNormalized() throws Exception {
+        FilterContactCommand command = parser.parse(" " + PREFIX_NAME + "ALice BOB " + PREFIX_STATUS + "Active");
+
+        assertTrue(command.toString().contains("names=[alice, bob]"));
+        assertTrue(command.toString().contains("status=[active]"));
+    }
+
+    @Test
+    public void parse_cursor_success() {
+        FilterContactPredicate predicate = new FilterContactPredicate(
+                Optional.of(Arrays.asList("Bob")),
+                Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty()
+        );
+
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Bob " + PREFIX_AFTER + "3:7",
+                new FilterContactCommand(predicate, Optional.of(new PageCursor(3, 7))));
+        assertParseFailure(parser, " " + PREFIX_AFTER + "3-7", PageCursor.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_AFTER + "3:7 " + PREFIX_OFFSET + "1",
+                "Use either an offset or a cursor, not both.");
+    }
+
     @Test
     public void parseLimit_validValues_success() throws Exception {
         FilterContactCommandParser parser = new FilterContactCommandParser();
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ADDRESS;
@@ -15,11 +16,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.PageCursor;
 
 
 public class FilterPropertyCommandParserTest {
@@ -115,5 +119,19 @@ public class FilterPropertyCommandParserTest {
     public void parseInvalidListingThrowsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_PROPERTY_LISTING + "free"));
     }
-}
 
+    @Test
+    public void parseCursorSuccess() throws Exception {
+        FilterPropertyCommand expected = new FilterPropertyCommand(
+                new PropertyMatchesFilterPredicate.Builder().withType("hdb").build(), 5, 0,
+                Optional.of(new PageCursor(12, 34)));
+        assertEquals(expected, parser.parse(" " + PREFIX_PROPERTY_TYPE + "hdb " + PREFIX_LIMIT + "5 "
+                + PREFIX_AFTER + "12:34"));
+    }
+
+    @Test
+    public void parseInvalidCursorThrowsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_AFTER + "12"));
+        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_AFTER + "12:34 " + PREFIX_OFFSET + "1"));
+    }
+}
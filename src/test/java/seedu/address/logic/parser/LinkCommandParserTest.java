@@ -67,9 +67,9 @@ public class LinkCommandParserTest {
                 + PREFIX_CONTACT_ID + "5";
         assertParseSuccess(parser, userInput, new LinkCommand(
                 new LinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(1, PROPERTY)))
+                        .withPropertyIds(Set.of(Uuid.of(1, PROPERTY)))
                         .withRelationship("buyer")
-                        .withContactIds(Set.of(new Uuid(5, CONTACT)))
+                        .withContactIds(Set.of(Uuid.of(5, CONTACT)))
                         .build()));
 
         // valid input with extra spaces
@@ -77,9 +77,9 @@ public class LinkCommandParserTest {
                 + PREFIX_CONTACT_ID + "3  ";
         assertParseSuccess(parser, userInput, new LinkCommand(
                 new LinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(2, PROPERTY)))
+                        .withPropertyIds(Set.of(Uuid.of(2, PROPERTY)))
                         .withRelationship("seller")
-                        .withContactIds(Set.of(new Uuid(3, CONTACT)))
+                        .withContactIds(Set.of(Uuid.of(3, CONTACT)))
                         .build()));
 
         // valid input with multiple property ids and contact ids
@@ -88,9 +88,9 @@ public class LinkCommandParserTest {
                 + PREFIX_CONTACT_ID + "3 " + PREFIX_CONTACT_ID + "4";
         assertParseSuccess(parser, userInput, new LinkCommand(
                 new LinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(2, PROPERTY), new Uuid(3, PROPERTY)))
+                        .withPropertyIds(Set.of(Uuid.of(2, PROPERTY), Uuid.of(3, PROPERTY)))
                         .withRelationship("seller")
-                        .withContactIds(Set.of(new Uuid(3, CONTACT), new Uuid(4, CONTACT)))
+                        .withContactIds(Set.of(Uuid.of(3, CONTACT), Uuid.of(4, CONTACT)))
                         .build()));
     }
 
@@ -26,7 +26,7 @@ public class MarkSoldCommandParserTest {
     @Test
     public void parse_validSingleId_success() {
         String userInput = " " + PREFIX_PROPERTY_ID + "123";
-        Set<Uuid> expectedIds = Set.of(new Uuid(123, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(123, PROPERTY));
         MarkSoldCommand expectedCommand = new MarkSoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -34,7 +34,7 @@ public class MarkSoldCommandParserTest {
     @Test
     public void parse_validMultipleIds_success() {
         String userInput = " " + PREFIX_PROPERTY_ID + "10 " + PREFIX_PROPERTY_ID + "20 " + PREFIX_PROPERTY_ID + "30";
-        Set<Uuid> expectedIds = Set.of(new Uuid(10, PROPERTY), new Uuid(20, PROPERTY), new Uuid(30, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(10, PROPERTY), Uuid.of(20, PROPERTY), Uuid.of(30, PROPERTY));
         MarkSoldCommand expectedCommand = new MarkSoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -63,7 +63,7 @@ public class MarkSoldCommandParserTest {
     @Test
     public void parse_withExtraSpaces_success() {
         String userInput = "   " + PREFIX_PROPERTY_ID + "5    " + PREFIX_PROPERTY_ID + "42   ";
-        Set<Uuid> expectedIds = Set.of(new Uuid(5, PROPERTY), new Uuid(42, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(5, PROPERTY), Uuid.of(42, PROPERTY));
         MarkSoldCommand expectedCommand = new MarkSoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
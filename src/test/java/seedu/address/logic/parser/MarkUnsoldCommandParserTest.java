@@ -26,7 +26,7 @@ public class MarkUnsoldCommandParserTest {
     @Test
     public void parse_validSingleId_success() {
         String userInput = " " + PREFIX_PROPERTY_ID + "1";
-        Set<Uuid> expectedIds = Set.of(new Uuid(1, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(1, PROPERTY));
         MarkUnsoldCommand expectedCommand = new MarkUnsoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -34,7 +34,7 @@ public class MarkUnsoldCommandParserTest {
     @Test
     public void parse_validMultipleIds_success() {
         String userInput = " " + PREFIX_PROPERTY_ID + "100 " + PREFIX_PROPERTY_ID + "200";
-        Set<Uuid> expectedIds = Set.of(new Uuid(100, PROPERTY), new Uuid(200, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(100, PROPERTY), Uuid.of(200, PROPERTY));
         MarkUnsoldCommand expectedCommand = new MarkUnsoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -63,7 +63,7 @@ public class MarkUnsoldCommandParserTest {
     @Test
     public void parse_withExtraSpaces_success() {
         String userInput = "   " + PREFIX_PROPERTY_ID + "55   " + PREFIX_PROPERTY_ID + "77   ";
-        Set<Uuid> expectedIds = Set.of(new Uuid(55, PROPERTY), new Uuid(77, PROPERTY));
+        Set<Uuid> expectedIds = Set.of(Uuid.of(55, PROPERTY), Uuid.of(77, PROPERTY));
         MarkUnsoldCommand expectedCommand = new MarkUnsoldCommand(expectedIds);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
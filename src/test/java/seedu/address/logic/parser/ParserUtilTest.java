@@ -65,7 +65,7 @@ public class ParserUtilTest {
     private static final String VALID_FLOOR_AREA = "120";
     private static final String VALID_LISTING = "sale";
     private static final String VALID_OWNER = "owner123";
-    private static final Uuid VALID_PROPERTY_ID = new Uuid(1, PROPERTY);
+    private static final Uuid VALID_PROPERTY_ID = Uuid.of(1, PROPERTY);
 
     private static final String WHITESPACE = " \t\r\n";
 
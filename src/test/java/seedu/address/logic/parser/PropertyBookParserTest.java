@@ -59,7 +59,7 @@ class PropertyBookParserTest {
 
     @Test
     void parseCommand_deleteProperty() throws Exception {
-        DeletePropertyCommand expectedCommand = new DeletePropertyCommand(new Uuid(123, PROPERTY));
+        DeletePropertyCommand expectedCommand = new DeletePropertyCommand(Uuid.of(123, PROPERTY));
         DeletePropertyCommand command = (DeletePropertyCommand) parser.parseCommand(VALID_DELETE_PROPERTY_COMMAND);
         assertTrue(command.equals(expectedCommand));
     }
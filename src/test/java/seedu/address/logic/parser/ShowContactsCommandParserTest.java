@@ -16,13 +16,13 @@ public class ShowContactsCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsShowContactsCommand() {
-        Uuid expectedUuid = new Uuid(1, PROPERTY);
+        Uuid expectedUuid = Uuid.of(1, PROPERTY);
         assertParseSuccess(parser, " 1", new ShowContactsCommand(expectedUuid));
     }
 
     @Test
     public void parse_largeValidArgs_returnsShowContactsCommand() {
-        Uuid expectedUuid = new Uuid(999, PROPERTY);
+        Uuid expectedUuid = Uuid.of(999, PROPERTY);
         assertParseSuccess(parser, " 999", new ShowContactsCommand(expectedUuid));
     }
 
@@ -55,7 +55,7 @@ public class ShowContactsCommandParserTest {
 
     @Test
     public void parse_validArgsWithExtraWhitespace_returnsShowContactsCommand() {
-        Uuid expectedUuid = new Uuid(5, PROPERTY);
+        Uuid expectedUuid = Uuid.of(5, PROPERTY);
         assertParseSuccess(parser, "   5   ", new ShowContactsCommand(expectedUuid));
     }
 }
@@ -16,13 +16,13 @@ public class ShowPropertiesCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsShowPropertiesCommand() {
-        Uuid expectedUuid = new Uuid(1, CONTACT);
+        Uuid expectedUuid = Uuid.of(1, CONTACT);
         assertParseSuccess(parser, " 1", new ShowPropertiesCommand(expectedUuid));
     }
 
     @Test
     public void parse_validArgsLargeNumber_returnsShowPropertiesCommand() {
-        Uuid expectedUuid = new Uuid(123, CONTACT);
+        Uuid expectedUuid = Uuid.of(123, CONTACT);
         assertParseSuccess(parser, " 123", new ShowPropertiesCommand(expectedUuid));
     }
 
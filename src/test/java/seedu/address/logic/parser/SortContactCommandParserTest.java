@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortContactCommand;
+import seedu.address.model.contact.ContactSortKey;
+
+public class SortContactCommandParserTest {
+
+    private final SortContactCommandParser parser = new SortContactCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortContactCommand() {
+        assertParseSuccess(parser, " name", new SortContactCommand(ContactSortKey.NAME));
+        assertParseSuccess(parser, "  ID  ", new SortContactCommand(ContactSortKey.ID));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortContactCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " price", expectedMessage);
+        assertParseFailure(parser, " name id", expectedMessage);
+    }
+}
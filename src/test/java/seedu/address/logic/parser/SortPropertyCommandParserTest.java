@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortPropertyCommand;
+import seedu.address.model.property.PropertySortKey;
+
+public class SortPropertyCommandParserTest {
+
+    private final SortPropertyCommandParser parser = new SortPropertyCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortPropertyCommand() {
+        assertParseSuccess(parser, " price", new SortPropertyCommand(PropertySortKey.PRICE));
+        assertParseSuccess(parser, " FloorArea ", new SortPropertyCommand(PropertySortKey.FLOOR_AREA));
+        assertParseSuccess(parser, " id", new SortPropertyCommand(PropertySortKey.ID));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPropertyCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " name", expectedMessage);
+        assertParseFailure(parser, " floor area", expectedMessage);
+    }
+}
@@ -43,16 +43,16 @@ public class UnlinkCommandParserTest {
         String userInput = " " + PREFIX_PROPERTY_ID + "1 " + PREFIX_CONTACT_ID + "5";
         assertParseSuccess(parser, userInput, new UnlinkCommand(
                 new UnlinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(1, PROPERTY)))
-                        .withContactIds(Set.of(new Uuid(5, CONTACT)))
+                        .withPropertyIds(Set.of(Uuid.of(1, PROPERTY)))
+                        .withContactIds(Set.of(Uuid.of(5, CONTACT)))
                         .build()));
 
         // valid input with extra spaces
         userInput = " " + PREFIX_PROPERTY_ID + "2  " + PREFIX_CONTACT_ID + "3  ";
         assertParseSuccess(parser, userInput, new UnlinkCommand(
                 new UnlinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(2, PROPERTY)))
-                        .withContactIds(Set.of(new Uuid(3, CONTACT)))
+                        .withPropertyIds(Set.of(Uuid.of(2, PROPERTY)))
+                        .withContactIds(Set.of(Uuid.of(3, CONTACT)))
                         .build()));
 
         // valid input with multiple property ids and contact ids
@@ -60,8 +60,8 @@ public class UnlinkCommandParserTest {
                 + PREFIX_CONTACT_ID + "3 " + PREFIX_CONTACT_ID + "4";
         assertParseSuccess(parser, userInput, new UnlinkCommand(
                 new UnlinkDescriptorBuilder()
-                        .withPropertyIds(Set.of(new Uuid(2, PROPERTY), new Uuid(3, PROPERTY)))
-                        .withContactIds(Set.of(new Uuid(3, CONTACT), new Uuid(4, CONTACT)))
+                        .withPropertyIds(Set.of(Uuid.of(2, PROPERTY), Uuid.of(3, PROPERTY)))
+                        .withContactIds(Set.of(Uuid.of(3, CONTACT), Uuid.of(4, CONTACT)))
                         .build()));
     }
 }
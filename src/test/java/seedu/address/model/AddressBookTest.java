@@ -80,6 +80,19 @@ public class AddressBookTest {
         assertTrue(addressBook.hasContact(editedAlice));
     }
 
+    @Test
+    public void generateNextUuid_afterAddContact_returnsNextUuid() {
+        addressBook.addContact(new ContactBuilderUtil(ALICE).withUuid(4).build());
+        assertEquals(Uuid.of(5, CONTACT), addressBook.generateNextUuid());
+    }
+
+    @Test
+    public void setNextUuid_belowExistingUuid_existingUuidNotReused() {
+        addressBook.addContact(new ContactBuilderUtil(ALICE).withUuid(4).build());
+        addressBook.setNextUuid(2);
+        assertEquals(Uuid.of(5, CONTACT), addressBook.generateNextUuid());
+    }
+
     @Test
     public void getContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getContactList().remove(0));
@@ -108,13 +121,18 @@ public class AddressBookTest {
 
         @Override
         public Uuid generateNextUuid() {
-            return new Uuid(2, CONTACT);
+            return Uuid.of(2, CONTACT);
         }
 
         @Override
         public int getNextUuid() {
             return 1;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROPERTIES;
@@ -10,23 +11,45 @@ import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE;
 import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.BOB;
+import static seedu.address.testutil.TypicalContacts.CARL;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_GAMMA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactSortKey;
 import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.contact.exceptions.ContactNotFoundException;
+import seedu.address.model.contact.exceptions.DuplicateContactException;
+import seedu.address.model.contact.predicates.AssociatedWithPropertyPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertySortKey;
+import seedu.address.model.property.predicates.AssociatedWithContactPredicate;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.model.util.Page;
+import seedu.address.model.util.PageCursor;
+import seedu.address.model.util.QueryCache;
+import seedu.address.model.util.exceptions.StaleCursorException;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ContactBuilderUtil;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 public class ModelManagerTest {
 
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -48,7 +71,132 @@ public class ModelManagerTest {
 
     @Test
     public void getPropertyById_nonExistingId_returnsNull() {
-        assertNull(modelManager.getPropertyById(new Uuid(999999, PROPERTY)));
+        assertNull(modelManager.getPropertyById(Uuid.of(999999, PROPERTY)));
+    }
+
+    @Test
+    public void getContactById_existingId_returnsContact() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+
+        assertEquals(ALICE, modelManager.getContactById(ALICE.getUuid()));
+        assertEquals(BENSON, modelManager.getContactById(BENSON.getUuid()));
+    }
+
+    @Test
+    public void getContactById_deletedContact_returnsNull() {
+        modelManager.addContact(ALICE);
+        modelManager.deleteContact(ALICE);
+
+        assertNull(modelManager.getContactById(ALICE.getUuid()));
+    }
+
+    @Test
+    public void deletePropertyCascading_linkedProperty_removesPropertyFromContacts() {
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(ALICE.getUuid().getValue()).build();
+        modelManager.addContact(new ContactBuilderUtil(ALICE).withBuyingPropertyIds(PROPERTY_ALPHA.getUuid()).build());
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(linkedAlpha);
+
+        modelManager.deletePropertyCascading(linkedAlpha);
+
+        assertNull(modelManager.getPropertyById(PROPERTY_ALPHA.getUuid()));
+        assertTrue(modelManager.getContactById(ALICE.getUuid()).getBuyingPropertyIds().isEmpty());
+        assertTrue(modelManager.getLinkGraph().getPropertyIds(ALICE.getUuid()).isEmpty());
+    }
+
+    @Test
+    public void deleteContactsCascading_contactsSharingProperty_rewritesPropertyOnce() {
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(ALICE.getUuid().getValue())
+                .withSellingContactIds(BENSON.getUuid().getValue()).build();
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(linkedAlpha);
+
+        modelManager.deleteContactsCascading(List.of(ALICE, BENSON));
+
+        assertFalse(modelManager.hasContact(ALICE));
+        assertFalse(modelManager.hasContact(BENSON));
+        Property remainingAlpha = modelManager.getPropertyById(PROPERTY_ALPHA.getUuid());
+        assertTrue(remainingAlpha.getBuyingContactIds().isEmpty());
+        assertTrue(remainingAlpha.getSellingContactIds().isEmpty());
+        assertTrue(modelManager.getLinkGraph().getContactIds(PROPERTY_ALPHA.getUuid()).isEmpty());
+    }
+
+    @Test
+    public void commit_changeCannotBeMade_undoesEarlierChanges() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(ALICE.getUuid().getValue()).build();
+        Contact duplicateOfBenson = new ContactBuilderUtil(BENSON).withUuid(ALICE.getUuid().getValue()).build();
+
+        // The properties are replaced first, and then replacing the contacts fails
+        assertThrows(DuplicateContactException.class, () -> modelManager.commit(new Transaction()
+                .setProperty(PROPERTY_ALPHA, linkedAlpha)
+                .setContact(ALICE, duplicateOfBenson)));
+
+        // Edited entries are equal to the originals, so only their identity tells that they were put back
+        assertSame(PROPERTY_ALPHA, modelManager.getPropertyById(PROPERTY_ALPHA.getUuid()));
+        assertSame(ALICE, modelManager.getContactById(ALICE.getUuid()));
+        assertTrue(modelManager.getLinkGraph().getPropertyIds(ALICE.getUuid()).isEmpty());
+    }
+
+    @Test
+    public void commit_removalOfMissingContact_undoesReplacements() {
+        modelManager.addContact(ALICE);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        Property editedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withPrice("1").build();
+
+        assertThrows(ContactNotFoundException.class, () -> modelManager.commit(new Transaction()
+                .setProperty(PROPERTY_ALPHA, editedAlpha)
+                .removeContact(BENSON)));
+
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getContactList());
+        assertEquals(PROPERTY_ALPHA, modelManager.getPropertyById(PROPERTY_ALPHA.getUuid()));
+    }
+
+    @Test
+    public void commit_replacementsAndRemovals_allMade() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withBuyingPropertyIds(PROPERTY_ALPHA.getUuid()).build();
+
+        modelManager.commit(new Transaction()
+                .setContact(ALICE, editedAlice)
+                .removeContact(BENSON)
+                .removeProperty(PROPERTY_ALPHA));
+
+        assertEquals(List.of(editedAlice), modelManager.getAddressBook().getContactList());
+        assertTrue(modelManager.getPropertyBook().getPropertyList().isEmpty());
+    }
+
+    @Test
+    public void commit_linkAndUnlink_updatesAssociatedViews() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.updateFilteredContactList(
+                new AssociatedWithPropertyPredicate(PROPERTY_ALPHA.getUuid(), modelManager.getLinkGraph()));
+        modelManager.updateFilteredPropertyList(
+                new AssociatedWithContactPredicate(ALICE.getUuid(), modelManager.getLinkGraph()));
+        assertTrue(modelManager.getFilteredContactList().isEmpty());
+        assertTrue(modelManager.getFilteredPropertyList().isEmpty());
+
+        Contact linkedAlice = new ContactBuilderUtil(ALICE).withBuyingPropertyIds(PROPERTY_ALPHA.getUuid()).build();
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withBuyingContactIds(ALICE.getUuid().getValue()).build();
+        modelManager.commit(new Transaction().setContact(ALICE, linkedAlice).setProperty(PROPERTY_ALPHA, linkedAlpha));
+        assertEquals(List.of(linkedAlice), modelManager.getFilteredContactList());
+        assertEquals(List.of(linkedAlpha), modelManager.getFilteredPropertyList());
+
+        modelManager.commit(new Transaction().setContact(linkedAlice, ALICE).setProperty(linkedAlpha, PROPERTY_ALPHA));
+        assertTrue(modelManager.getFilteredContactList().isEmpty());
+        assertTrue(modelManager.getFilteredPropertyList().isEmpty());
     }
 
     @Test
@@ -148,6 +296,318 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPropertyList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPropertyList_pageAfterPage_predicatesNotStacked() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        PropertyMatchesFilterPredicate forRent = new PropertyMatchesFilterPredicate.Builder().withListing("rent")
+                .build();
+        PropertyMatchesFilterPredicate forSale = new PropertyMatchesFilterPredicate.Builder().withListing("sale")
+                .build();
+        modelManager.updateFilteredPropertyList(forRent, modelManager.getMatchingProperties(forRent, 0, 1).getItems());
+        modelManager.updateFilteredPropertyList(forSale, modelManager.getMatchingProperties(forSale, 0, 1).getItems());
+
+        // A new property is shown if it matches the last page's filter, whatever the pages before it showed
+        Property newForSale = new PropertyBuilderUtil().withUuid(4).withPropertyAddress("4 Sale Road")
+                .withListing("sale").build();
+        modelManager.addProperty(newForSale);
+        assertEquals(List.of(PROPERTY_ALPHA, newForSale), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void updateFilteredPropertyList_page_keptUpToDateThroughEdits() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        modelManager.addProperty(PROPERTY_GAMMA);
+        PropertyMatchesFilterPredicate forRent = new PropertyMatchesFilterPredicate.Builder().withListing("rent")
+                .build();
+        modelManager.updateFilteredPropertyList(forRent, modelManager.getMatchingProperties(forRent, 0, 1).getItems());
+        assertEquals(List.of(PROPERTY_BETA), modelManager.getFilteredPropertyList());
+
+        // An edited property stays shown while it matches, and a match left out of the page stays out
+        Property repricedBeta = new PropertyBuilderUtil(PROPERTY_BETA).withPrice("3800").build();
+        modelManager.setProperty(PROPERTY_BETA, repricedBeta);
+        modelManager.setProperty(PROPERTY_GAMMA, new PropertyBuilderUtil(PROPERTY_GAMMA).withPrice("760000").build());
+        assertEquals(List.of(repricedBeta), modelManager.getFilteredPropertyList());
+
+        // The filter survives adds, and new properties are shown only if they match it
+        Property newForRent = new PropertyBuilderUtil().withUuid(4).withPropertyAddress("4 Rent Road")
+                .withListing("rent").build();
+        Property newForSale = new PropertyBuilderUtil().withUuid(5).withPropertyAddress("5 Sale Road")
+                .withListing("sale").build();
+        modelManager.addProperty(newForRent);
+        modelManager.addProperty(newForSale);
+        assertEquals(List.of(repricedBeta, newForRent), modelManager.getFilteredPropertyList());
+
+        modelManager.setProperty(repricedBeta, new PropertyBuilderUtil(repricedBeta).withListing("sale").build());
+        assertEquals(List.of(newForRent), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void sortFilteredPropertyList_byPrice_staysSortedThroughEdits() {
+        modelManager.addProperty(PROPERTY_GAMMA);
+        modelManager.addProperty(PROPERTY_ALPHA);
+
+        modelManager.sortFilteredPropertyList(PropertySortKey.PRICE);
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_GAMMA), modelManager.getFilteredPropertyList());
+
+        modelManager.addProperty(PROPERTY_BETA);
+        Property repricedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withPrice("900000").build();
+        modelManager.setProperty(PROPERTY_ALPHA, repricedAlpha);
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_GAMMA, repricedAlpha), modelManager.getFilteredPropertyList());
+
+        modelManager.sortFilteredPropertyList(PropertySortKey.FLOOR_AREA);
+        assertEquals(List.of(PROPERTY_BETA, repricedAlpha, PROPERTY_GAMMA), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void sortFilteredContactList_byName_staysSortedThroughFilterAndEdits() {
+        modelManager.addContact(CARL);
+        modelManager.addContact(BENSON);
+        modelManager.addContact(ALICE);
+
+        modelManager.sortFilteredContactList(ContactSortKey.NAME);
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredContactList());
+
+        modelManager.updateFilteredContactList(contact -> contact != BENSON);
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredContactList());
+
+        Contact renamedAlice = new ContactBuilderUtil(ALICE).withName("Zoe Pauline").build();
+        modelManager.setContact(ALICE, renamedAlice);
+        assertEquals(List.of(CARL, renamedAlice), modelManager.getFilteredContactList());
+
+        modelManager.sortFilteredContactList(ContactSortKey.ID);
+        assertEquals(List.of(renamedAlice, CARL), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void getMatchingProperties_filteredPropertyList_onlyMatchesShownProperties() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        PropertyMatchesFilterPredicate unavailable = new PropertyMatchesFilterPredicate.Builder()
+                .withStatus("unavailable").build();
+
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_BETA),
+                modelManager.getMatchingProperties(unavailable, 0, NO_LIMIT).getItems());
+
+        modelManager.updateFilteredPropertyList(property -> property.equals(PROPERTY_BETA));
+        assertEquals(List.of(PROPERTY_BETA),
+                modelManager.getMatchingProperties(unavailable, 0, NO_LIMIT).getItems());
+    }
+
+    @Test
+    public void getMatchingProperties_indexedFilters_matchesScan() {
+        modelManager.addProperty(PROPERTY_GAMMA);
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        List<PropertyMatchesFilterPredicate> predicates = List.of(
+                new PropertyMatchesFilterPredicate.Builder().withPrice("500,000").build(),
+                new PropertyMatchesFilterPredicate.Builder().withPrice("500000").withType("apartment").build(),
+                new PropertyMatchesFilterPredicate.Builder().withPrice("abc").build(),
+                new PropertyMatchesFilterPredicate.Builder().withFloorArea("150").build(),
+                new PropertyMatchesFilterPredicate.Builder().withFloorArea("150").withPrice("3500").build(),
+                new PropertyMatchesFilterPredicate.Builder().withFloorArea("99999999999").build(),
+                new PropertyMatchesFilterPredicate.Builder().withListing("rent").withStatus("unavailable").build(),
+                new PropertyMatchesFilterPredicate.Builder().withType("condo").withBedroom("4").build(),
+                new PropertyMatchesFilterPredicate.Builder().withType("villa").build(),
+                new PropertyMatchesFilterPredicate.Builder().withBathroom("99999999999").build());
+
+        for (PropertyMatchesFilterPredicate predicate : predicates) {
+            List<Property> expected = modelManager.getFilteredPropertyList().stream().filter(predicate).toList();
+            assertEquals(expected, modelManager.getMatchingProperties(predicate, 0, NO_LIMIT).getItems());
+        }
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_BETA),
+                modelManager.getMatchingProperties(predicates.get(0), 0, NO_LIMIT).getItems());
+    }
+
+    @Test
+    public void getMatchingProperties_largePropertyBook_matchesScan() {
+        String[] types = {"HDB", "Condo", "Landed", "Apartment"};
+        for (int i = 1; i <= 500; i++) {
+            modelManager.addProperty(new PropertyBuilderUtil().withUuid(i).withPropertyAddress(i + " Planner Road")
+                    .withPrice(String.valueOf(i * 1000)).withFloorArea(String.valueOf(50 + i % 40))
+                    .withType(types[i % types.length]).withBedroom(String.valueOf(i % 5))
+                    .withListing(i % 3 == 0 ? "rent" : "sale").build());
+        }
+        modelManager.updateFilteredPropertyList(property -> !property.getPropertyAddress().toString().startsWith("7"));
+        List<PropertyMatchesFilterPredicate> predicates = List.of(
+                new PropertyMatchesFilterPredicate.Builder().withPrice("20000").build(),
+                new PropertyMatchesFilterPredicate.Builder().withFloorArea("61").withListing("sale").build(),
+                new PropertyMatchesFilterPredicate.Builder().withType("condo").withBedroom("2").withPrice("300000")
+                        .build(),
+                new PropertyMatchesFilterPredicate.Builder().withListing("rent").withAddress("1").build(),
+                new PropertyMatchesFilterPredicate.Builder().withAddress("12 PLANNER").build(),
+                new PropertyMatchesFilterPredicate.Builder().withOwner("123").withType("hdb").build());
+
+        for (PropertyMatchesFilterPredicate predicate : predicates) {
+            List<Property> expected = modelManager.getFilteredPropertyList().stream().filter(predicate).toList();
+            assertEquals(expected, modelManager.getMatchingProperties(predicate, 0, NO_LIMIT).getItems());
+            assertEquals(expected.size(), modelManager.countMatchingProperties(predicate));
+        }
+    }
+
+    @Test
+    public void getMatchingProperties_page_stopsAtLimit() {
+        for (int i = 1; i <= 50; i++) {
+            modelManager.addProperty(new PropertyBuilderUtil().withUuid(i).withPropertyAddress(i + " Page Road")
+                    .withPrice(String.valueOf(i * 1000)).build());
+        }
+        PropertyMatchesFilterPredicate cheap = new PropertyMatchesFilterPredicate.Builder().withPrice("30000")
+                .build();
+        List<Property> matches = modelManager.getMatchingProperties(cheap, 0, NO_LIMIT).getItems();
+
+        assertEquals(30, modelManager.countMatchingProperties(cheap));
+        assertEquals(matches.subList(10, 15), modelManager.getMatchingProperties(cheap, 10, 5).getItems());
+        assertEquals(matches.subList(25, 30), modelManager.getMatchingProperties(cheap, 25, 20).getItems());
+        assertEquals(List.of(), modelManager.getMatchingProperties(cheap, 40, 5).getItems());
+        assertEquals(matches.subList(29, 30), modelManager.getMatchingProperties(cheap, 29, NO_LIMIT).getItems());
+        assertTrue(modelManager.getMatchingProperties(cheap, 10, 5).getNextCursor().isPresent());
+        assertFalse(modelManager.getMatchingProperties(cheap, 25, 5).getNextCursor().isPresent());
+    }
+
+    @Test
+    public void getMatchingPropertiesAfter_pageShown_servedFromCache() {
+        for (int i = 1; i <= 10; i++) {
+            modelManager.addProperty(new PropertyBuilderUtil().withUuid(i).withPropertyAddress(i + " Cache Road")
+                    .build());
+        }
+        PropertyMatchesFilterPredicate all = new PropertyMatchesFilterPredicate.Builder().build();
+        Page<Property> firstPage = modelManager.getMatchingProperties(all, 0, 3);
+        modelManager.updateFilteredPropertyList(all, firstPage.getItems());
+
+        modelManager.getMatchingPropertiesAfter(all, firstPage.getNextCursor().get(), 3);
+        assertEquals(new QueryCache.Stats(1, 1, 1, 32), modelManager.getQueryCacheStats());
+    }
+
+    @Test
+    public void getMatchingProperties_repeatedQuery_servedFromCacheUntilDataChanges() {
+        modelManager.addProperty(PROPERTY_ALPHA);
+        modelManager.addProperty(PROPERTY_BETA);
+        PropertyMatchesFilterPredicate forRent = new PropertyMatchesFilterPredicate.Builder().withListing("rent")
+                .build();
+
+        assertEquals(List.of(PROPERTY_BETA), modelManager.getMatchingProperties(forRent, 0, NO_LIMIT).getItems());
+        assertEquals(1, modelManager.countMatchingProperties(
+                new PropertyMatchesFilterPredicate.Builder().withListing("rent").build()));
+        assertEquals(1, modelManager.getQueryCacheStats().getHitCount());
+
+        modelManager.addProperty(PROPERTY_GAMMA);
+        assertEquals(2, modelManager.countMatchingProperties(forRent));
+        assertEquals(2, modelManager.getQueryCacheStats().getMissCount());
+
+        // A filtered list that no longer shows everything is a different query
+        modelManager.updateFilteredPropertyList(property -> property != PROPERTY_GAMMA);
+        assertEquals(1, modelManager.countMatchingProperties(forRent));
+        modelManager.updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
+        assertEquals(2, modelManager.countMatchingProperties(forRent));
+        assertEquals(new QueryCache.Stats(2, 3, 3, 32), modelManager.getQueryCacheStats());
+    }
+
+    @Test
+    public void getMatchingPropertiesAfter_mutationsBetweenPages_pageDoesNotShift() {
+        for (int i = 1; i <= 10; i++) {
+            modelManager.addProperty(new PropertyBuilderUtil().withUuid(i).withPropertyAddress(i + " Cursor Road")
+                    .build());
+        }
+        PropertyMatchesFilterPredicate all = new PropertyMatchesFilterPredicate.Builder().build();
+        Page<Property> firstPage = modelManager.getMatchingProperties(all, 0, 3);
+        List<Property> properties = List.copyOf(modelManager.getFilteredPropertyList());
+        PageCursor cursor = firstPage.getNextCursor().get();
+
+        // Removing a property shown earlier and adding one at the end does not shift the next page
+        modelManager.deleteProperty(properties.get(0));
+        modelManager.addProperty(new PropertyBuilderUtil().withUuid(11).withPropertyAddress("11 Cursor Road").build());
+        Page<Property> secondPage = modelManager.getMatchingPropertiesAfter(all, cursor, 3);
+        assertEquals(properties.subList(3, 6), secondPage.getItems());
+
+        // Removing the last property shown does not lose the cursor's place either
+        modelManager.deleteProperty(properties.get(5));
+        assertEquals(properties.subList(6, 9),
+                modelManager.getMatchingPropertiesAfter(all, secondPage.getNextCursor().get(), 3).getItems());
+    }
+
+    @Test
+    public void getMatchingPropertiesAfter_staleCursor_throwsStaleCursorException() {
+        modelManager.setPropertyBook(getTypicalPropertyBook());
+        PropertyMatchesFilterPredicate all = new PropertyMatchesFilterPredicate.Builder().build();
+        PageCursor cursor = modelManager.getMatchingProperties(all, 0, 1).getNextCursor().get();
+
+        // A cursor whose UUID is not that of the property at its place
+        assertThrows(StaleCursorException.class, () -> modelManager.getMatchingPropertiesAfter(all,
+                new PageCursor(cursor.getSortKey(), cursor.getUuid() + 1), 1));
+
+        // A cursor from before the property book was replaced
+        modelManager.setPropertyBook(getTypicalPropertyBook());
+        assertThrows(StaleCursorException.class, () -> modelManager.getMatchingPropertiesAfter(all, cursor, 1));
+    }
+
+    @Test
+    public void getMatchingContactsAfter_pageShown_searchesWholeList() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addContact(CARL);
+        FilterContactPredicate all = new FilterContactPredicate(Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        Page<Contact> firstPage = modelManager.getMatchingContacts(all, 0, 1);
+        modelManager.updateFilteredContactList(all, firstPage.getItems());
+
+        assertEquals(List.of(BENSON, CARL),
+                modelManager.getMatchingContactsAfter(all, firstPage.getNextCursor().get(), 2).getItems());
+    }
+
+    @Test
+    public void getMatchingContacts_tagOrStatusFilter_matchesScan() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addContact(CARL);
+        List<FilterContactPredicate> predicates = List.of(
+                new FilterContactPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(List.of("sell")), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.empty(), Optional.empty()),
+                new FilterContactPredicate(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                        Optional.of(List.of("inactive", "ACTIVE")), Optional.empty(), Optional.empty()),
+                new FilterContactPredicate(Optional.of(List.of("meier")), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.of(List.of("buyer")), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.of(List.of("active")), Optional.empty(), Optional.empty()),
+                new FilterContactPredicate(Optional.of(List.of("MEIER", "alice")), Optional.empty(),
+                        Optional.of(List.of("example.com")), Optional.of(List.of("street", "ave")), Optional.empty(),
+                        Optional.empty(), Optional.empty(), Optional.of(List.of("no")), Optional.empty(),
+                        Optional.empty(), Optional.empty()));
+
+        for (FilterContactPredicate predicate : predicates) {
+            List<Contact> expected = modelManager.getFilteredContactList().stream().filter(predicate).toList();
+            assertEquals(expected, modelManager.getMatchingContacts(predicate, 0, NO_LIMIT).getItems());
+        }
+        assertEquals(List.of(BENSON),
+                modelManager.getMatchingContacts(predicates.get(0), 0, NO_LIMIT).getItems());
+
+        modelManager.updateFilteredContactList(contact -> !contact.equals(ALICE));
+        assertEquals(List.of(BENSON, CARL),
+                modelManager.getMatchingContacts(predicates.get(1), 0, NO_LIMIT).getItems());
+        assertEquals(List.of(CARL), modelManager.getMatchingContacts(predicates.get(1), 1, 1).getItems());
+    }
+
+    @Test
+    public void getMatchingContactsAfter_mutationsBetweenPages_pageDoesNotShift() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addContact(CARL);
+        FilterContactPredicate all = new FilterContactPredicate(Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+        Page<Contact> firstPage = modelManager.getMatchingContacts(all, 0, 1);
+        assertEquals(List.of(ALICE), firstPage.getItems());
+
+        modelManager.deleteContact(ALICE);
+        modelManager.addContact(BOB);
+        Page<Contact> secondPage = modelManager.getMatchingContactsAfter(all, firstPage.getNextCursor().get(), 2);
+        assertEquals(List.of(BENSON, CARL), secondPage.getItems());
+        assertEquals(List.of(BOB),
+                modelManager.getMatchingContactsAfter(all, secondPage.getNextCursor().get(), 2).getItems());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withContact(ALICE).withContact(BENSON).build();
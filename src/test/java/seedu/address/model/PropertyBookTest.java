@@ -101,12 +101,17 @@ public class PropertyBookTest {
 
         @Override
         public Uuid generateNextUuid() {
-            return new Uuid(1, PROPERTY);
+            return Uuid.of(1, PROPERTY);
         }
 
         @Override
         public int getNextUuid() {
             return 1;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
@@ -40,4 +40,11 @@ public class BudgetMaxTest {
         assertNotEquals("string", b1);
         assertNotEquals(new BudgetMax("1000"), b1);
     }
+
+    @Test
+    public void getNumericValue() {
+        assertEquals(7890, new BudgetMax("7890").getNumericValue());
+        assertEquals(Long.MAX_VALUE, new BudgetMax("").getNumericValue());
+        assertEquals(Long.MAX_VALUE, new BudgetMax("99999999999999999999").getNumericValue());
+    }
 }
@@ -40,4 +40,11 @@ public class BudgetMinTest {
         assertNotEquals("string", b1);
         assertNotEquals(new BudgetMin("200"), b1);
     }
+
+    @Test
+    public void getNumericValue() {
+        assertEquals(7890, new BudgetMin("7890").getNumericValue());
+        assertEquals(0, new BudgetMin("").getNumericValue());
+        assertEquals(Long.MAX_VALUE, new BudgetMin("99999999999999999999").getNumericValue());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.contact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -67,6 +68,43 @@ public class ContactTest {
         assertNotEquals(ALICE, editedAlice);
     }
 
+    @Test
+    public void getIdentityKey_matchesEquals() {
+        // same name in a different case and same phone -> same key
+        Contact editedBob = new ContactBuilderUtil(BOB).withName(VALID_NAME_BOB.toLowerCase()).build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different phone -> different key
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertNotEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // different name -> different key
+        editedAlice = new ContactBuilderUtil(ALICE).withName(VALID_NAME_BOB).build();
+        assertNotEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+    }
+
+    @Test
+    public void hashCode_equalContacts_match() {
+        // same name in a different case and same phone, but other fields different -> same hash code
+        Contact editedBob = new ContactBuilderUtil(BOB).withName(VALID_NAME_BOB.toLowerCase())
+                .withAddress(VALID_ADDRESS_BOB + " 2").withTags().build();
+        assertEquals(BOB, editedBob);
+        assertEquals(BOB.hashCode(), editedBob.hashCode());
+    }
+
+    @Test
+    public void getNormalizedFields_lowerCaseAndCached() {
+        Contact contact = new ContactBuilderUtil().withName("Alice Pauline").withEmail("Alice@Example.com")
+                .withAddress("Jurong West").withNotes("Prefers EAST").withStatus("ACTIVE").build();
+
+        assertEquals("alice pauline", contact.getNormalizedName());
+        assertEquals("alice@example.com", contact.getNormalizedEmail());
+        assertEquals("jurong west", contact.getNormalizedAddress());
+        assertEquals("prefers east", contact.getNormalizedNotes());
+        assertEquals("active", contact.getNormalizedStatus());
+        assertSame(contact.getNormalizedName(), contact.getNormalizedName());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Contact.class.getCanonicalName()
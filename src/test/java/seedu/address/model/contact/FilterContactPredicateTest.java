@@ -44,6 +44,16 @@ public class FilterContactPredicateTest {
 
         assertTrue(firstPredicate.equals(firstPredicateCopy));
 
+        // keywords differing only in case and surrounding whitespace -> returns true
+        FilterContactPredicate firstPredicateOtherCase = new FilterContactPredicate(
+                Optional.of(Collections.singletonList(" aLICE ")),
+                Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        assertTrue(firstPredicate.equals(firstPredicateOtherCase));
+
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
 
@@ -3,6 +3,7 @@ package seedu.address.model.contact;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -73,4 +74,11 @@ public class TagTest {
         assertEquals("seller", new Tag("Seller").toString());
         assertEquals("", new Tag("").toString());
     }
+
+    @Test
+    public void of_differentCase_returnsSameInstance() {
+        assertSame(Tag.of("buyer"), Tag.of("BUYER"));
+        assertEquals(new Tag("buyer"), Tag.of("Buyer"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("agent"));
+    }
 }
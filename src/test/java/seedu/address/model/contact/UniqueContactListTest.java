@@ -2,19 +2,25 @@ package seedu.address.model.contact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BUYER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE;
 import static seedu.address.testutil.TypicalContacts.BOB;
+import static seedu.address.testutil.TypicalContacts.CARL;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
 import seedu.address.testutil.ContactBuilderUtil;
@@ -47,6 +53,20 @@ public class UniqueContactListTest {
         assertTrue(uniqueContactList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_contactWithDifferentNameCase_returnsTrue() {
+        uniqueContactList.add(BOB);
+        Contact editedBob = new ContactBuilderUtil(BOB).withName(VALID_NAME_BOB.toUpperCase()).build();
+        assertTrue(uniqueContactList.contains(editedBob));
+    }
+
+    @Test
+    public void contains_removedContact_returnsFalse() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.remove(ALICE);
+        assertFalse(uniqueContactList.contains(ALICE));
+    }
+
     @Test
     public void add_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.add(null));
@@ -109,6 +129,41 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContact(ALICE, BOB));
     }
 
+    @Test
+    public void setContacts_swappedIdentities_replacesAsOneChange() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        int[] changeCount = new int[1];
+        uniqueContactList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Contact>) change -> changeCount[0]++);
+
+        uniqueContactList.setContacts(List.of(ALICE, BOB), List.of(BOB, ALICE));
+
+        assertEquals(List.of(BOB, ALICE), uniqueContactList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+    }
+
+    @Test
+    public void setContacts_oneEditedContactHasNonUniqueIdentity_replacesNothing() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        uniqueContactList.add(CARL);
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicateContactException.class, () ->
+                uniqueContactList.setContacts(List.of(ALICE, CARL), List.of(editedAlice, BOB)));
+        assertEquals(List.of(ALICE, BOB, CARL), uniqueContactList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setContacts_targetNotInList_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE);
+        assertThrows(ContactNotFoundException.class, () ->
+                uniqueContactList.setContacts(List.of(ALICE, BOB), List.of(ALICE, BOB)));
+    }
+
     @Test
     public void remove_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.remove(null));
@@ -127,6 +182,33 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void getById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueContactList.getById(null));
+    }
+
+    @Test
+    public void getById_afterAddSetAndRemove_tracksList() {
+        uniqueContactList.add(ALICE);
+        assertEquals(ALICE, uniqueContactList.getById(ALICE.getUuid()));
+
+        Contact editedAlice = new ContactBuilderUtil(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueContactList.setContact(ALICE, editedAlice);
+        assertEquals(VALID_ADDRESS_BOB, uniqueContactList.getById(ALICE.getUuid()).getAddress().value);
+
+        uniqueContactList.remove(editedAlice);
+        assertNull(uniqueContactList.getById(ALICE.getUuid()));
+    }
+
+    @Test
+    public void getById_afterSetContacts_indexesNewContents() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.setContacts(Collections.singletonList(BOB));
+
+        assertNull(uniqueContactList.getById(ALICE.getUuid()));
+        assertEquals(BOB, uniqueContactList.getById(BOB.getUuid()));
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -168,6 +250,33 @@ public class UniqueContactListTest {
             -> uniqueContactList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getAttributeIndex_followsAddSetAndRemove() {
+        ContactAttributeIndex index = uniqueContactList.getAttributeIndex();
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+
+        assertEquals(BitSet.valueOf(new long[] {0b11}), index.getRowsWithTag("Buyer"));
+        assertEquals(BitSet.valueOf(new long[] {0b10}), index.getRowsWithTag("tenant"));
+        assertEquals(BitSet.valueOf(new long[] {0b01}), index.getRowsWithStatus(" active "));
+
+        uniqueContactList.setContact(ALICE, new ContactBuilderUtil(ALICE).withStatus("Inactive").withTags().build());
+        assertEquals(BitSet.valueOf(new long[] {0b10}), index.getRowsWithTag("buyer"));
+        assertTrue(index.getRowsWithStatus("active").isEmpty());
+
+        uniqueContactList.remove(ALICE);
+        assertEquals(BitSet.valueOf(new long[] {0b01}), index.getRowsWithTag("buyer"));
+        assertEquals(BitSet.valueOf(new long[] {0b01}), index.getRowsWithStatus("inactive"));
+        assertTrue(index.getCandidateRowsByName("alice").isEmpty());
+
+        uniqueContactList.setContacts(List.of(ALICE));
+        assertEquals(Set.of("buyer"), index.getTagNames());
+        assertEquals(BitSet.valueOf(new long[] {0b1}), index.getCandidateRowsByName("pauline"));
+        assertEquals(BitSet.valueOf(new long[] {0b1}), index.getCandidateRowsByEmail("example"));
+        assertEquals(BitSet.valueOf(new long[] {0b1}), index.getCandidateRowsByAddress("jurong"));
+        assertEquals(BitSet.valueOf(new long[] {0b1}), index.getCandidateRowsByNotes("notes"));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueContactList.asUnmodifiableObservableList().toString(), uniqueContactList.toString());
@@ -0,0 +1,109 @@
+package seedu.address.model.contact.predicates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.link.LinkGraph;
+import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.ContactBuilderUtil;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+/**
+ * Compares the cost of filtering contacts with {@link AssociatedWithPropertyPredicate} against the previous
+ * approach, which looked the target property up again for every contact tested.
+ * This is not part of the test suite. Run it with optional arguments {@code CONTACTS PROPERTIES}, e.g.
+ * {@code 50000 200000}; the defaults are kept small so that the previous approach finishes quickly.
+ */
+public class AssociatedWithPropertyPredicateBenchmark {
+
+    private static final int DEFAULT_CONTACT_COUNT = 5_000;
+    private static final int DEFAULT_PROPERTY_COUNT = 20_000;
+    private static final int LINKED_CONTACT_COUNT = 50;
+
+    /**
+     * Runs the benchmark and prints the time taken by each approach.
+     */
+    public static void main(String[] args) {
+        int contactCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONTACT_COUNT;
+        int propertyCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PROPERTY_COUNT;
+
+        List<Contact> contacts = buildContacts(contactCount);
+        List<Property> properties = buildProperties(propertyCount);
+        // The last property is the worst case for the previous approach
+        Uuid targetUuid = properties.get(properties.size() - 1).getUuid();
+
+        LinkGraph linkGraph = new LinkGraph();
+        properties.forEach(linkGraph::addProperty);
+
+        long nestedScanNanos = time(contacts, new NestedScanPredicate(targetUuid, properties));
+        long lookupNanos = time(contacts, new AssociatedWithPropertyPredicate(targetUuid, linkGraph));
+
+        System.out.printf("%d contacts x %d properties%n", contactCount, propertyCount);
+        System.out.printf("  nested scan:      %,d us%n", nestedScanNanos / 1_000);
+        System.out.printf("  link lookup:      %,d us%n", lookupNanos / 1_000);
+        System.out.printf("  speedup:          %.1fx%n", (double) nestedScanNanos / Math.max(lookupNanos, 1));
+    }
+
+    private static long time(List<Contact> contacts, Predicate<Contact> predicate) {
+        long start = System.nanoTime();
+        long matches = contacts.stream().filter(predicate).count();
+        long elapsed = System.nanoTime() - start;
+        if (matches != LINKED_CONTACT_COUNT) {
+            throw new IllegalStateException("Expected " + LINKED_CONTACT_COUNT + " matches but got " + matches);
+        }
+        return elapsed;
+    }
+
+    private static List<Contact> buildContacts(int count) {
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            contacts.add(new ContactBuilderUtil().withUuid(i).withPhone(String.valueOf(10_000_000 + i)).build());
+        }
+        return contacts;
+    }
+
+    private static List<Property> buildProperties(int count) {
+        int[] linkedContactIds = new int[LINKED_CONTACT_COUNT];
+        for (int i = 0; i < LINKED_CONTACT_COUNT; i++) {
+            linkedContactIds[i] = i + 1;
+        }
+        List<Property> properties = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            PropertyBuilderUtil builder = new PropertyBuilderUtil()
+                    .withUuid(i)
+                    .withPropertyAddress(i + " Benchmark Street")
+                    .withPostal(String.format("%06d", i % 1_000_000));
+            if (i == count) {
+                builder.withBuyingContactIds(linkedContactIds);
+            }
+            properties.add(builder.build());
+        }
+        return properties;
+    }
+
+    /**
+     * The previous implementation, which scans the properties on every test.
+     */
+    private static class NestedScanPredicate implements Predicate<Contact> {
+        private final Uuid propertyUuid;
+        private final Iterable<Property> allProperties;
+
+        NestedScanPredicate(Uuid propertyUuid, Iterable<Property> allProperties) {
+            this.propertyUuid = propertyUuid;
+            this.allProperties = allProperties;
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            for (Property property : allProperties) {
+                if (property.getUuid().equals(propertyUuid)) {
+                    return property.isAssociatedWith(contact.getUuid());
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -9,11 +9,10 @@ import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
 
-import java.util.List;
-
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.contact.Contact;
+import seedu.address.model.link.LinkGraph;
 import seedu.address.model.property.Property;
 import seedu.address.model.uuid.Uuid;
 import seedu.address.testutil.ContactBuilderUtil;
@@ -24,10 +23,10 @@ import seedu.address.testutil.PropertyBuilderUtil;
  */
 public class AssociatedWithPropertyPredicateTest {
 
-    private static final Uuid PROPERTY_UUID_1 = new Uuid(1, PROPERTY);
-    private static final Uuid PROPERTY_UUID_2 = new Uuid(2, PROPERTY);
-    private static final Uuid CONTACT_UUID_1 = new Uuid(10, CONTACT);
-    private static final Uuid CONTACT_UUID_2 = new Uuid(11, CONTACT);
+    private static final Uuid PROPERTY_UUID_1 = Uuid.of(1, PROPERTY);
+    private static final Uuid PROPERTY_UUID_2 = Uuid.of(2, PROPERTY);
+    private static final Uuid CONTACT_UUID_1 = Uuid.of(10, CONTACT);
+    private static final Uuid CONTACT_UUID_2 = Uuid.of(11, CONTACT);
 
     @Test
     public void test_contactIsOwner_returnsTrue() {
@@ -39,7 +38,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertTrue(predicate.test(contact));
     }
@@ -54,7 +53,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertTrue(predicate.test(contact));
     }
@@ -69,7 +68,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertTrue(predicate.test(contact));
     }
@@ -86,7 +85,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertTrue(predicate.test(contact));
     }
@@ -101,7 +100,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertFalse(predicate.test(contact));
     }
@@ -116,7 +115,56 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
+
+        assertFalse(predicate.test(contact));
+    }
+
+    @Test
+    public void test_linkGraphNeighbour_returnsTrue() {
+        Property property = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withUuid(PROPERTY_UUID_1.getValue())
+                .withSellingContactIds(CONTACT_UUID_1)
+                .build();
+        LinkGraph linkGraph = new LinkGraph();
+        linkGraph.addProperty(property);
+
+        AssociatedWithPropertyPredicate predicate = new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, linkGraph);
+
+        assertTrue(predicate.test(new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build()));
+        assertFalse(predicate.test(new ContactBuilderUtil().withUuid(CONTACT_UUID_2.getValue()).build()));
+    }
+
+    @Test
+    public void test_linkedAfterCreation_followsLinkGraph() {
+        Property property = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withUuid(PROPERTY_UUID_1.getValue())
+                .withBuyingContactIds(CONTACT_UUID_1)
+                .build();
+        LinkGraph linkGraph = new LinkGraph();
+        Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
+
+        AssociatedWithPropertyPredicate predicate = new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, linkGraph);
+        assertFalse(predicate.test(contact));
+
+        linkGraph.addProperty(property);
+        assertTrue(predicate.test(contact));
+
+        linkGraph.removeProperty(property);
+        assertFalse(predicate.test(contact));
+    }
+
+    @Test
+    public void test_ownerWithLeadingZeros_returnsFalse() {
+        Property property = new PropertyBuilderUtil(PROPERTY_ALPHA)
+                .withUuid(PROPERTY_UUID_1.getValue())
+                .withOwner("0" + CONTACT_UUID_1.getValue())
+                .build();
+
+        Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
+
+        AssociatedWithPropertyPredicate predicate =
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertFalse(predicate.test(contact));
     }
@@ -128,7 +176,7 @@ public class AssociatedWithPropertyPredicateTest {
                 .build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertFalse(predicate.test(null));
     }
@@ -136,39 +184,39 @@ public class AssociatedWithPropertyPredicateTest {
     @Test
     public void equals_sameObject_returnsTrue() {
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         assertEquals(predicate, predicate);
     }
 
     @Test
     public void equals_sameValues_returnsTrue() {
         AssociatedWithPropertyPredicate first =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         AssociatedWithPropertyPredicate second =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         assertEquals(first, second);
     }
 
     @Test
     public void equals_differentUuid_returnsFalse() {
         AssociatedWithPropertyPredicate first =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         AssociatedWithPropertyPredicate second =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_2, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_2, graphOf());
         assertNotEquals(first, second);
     }
 
     @Test
     public void equals_differentType_returnsFalse() {
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         assertNotEquals("not a predicate", predicate);
     }
 
     @Test
     public void equals_null_returnsFalse() {
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
         assertNotEquals(null, predicate);
     }
 
@@ -177,7 +225,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
 
         assertFalse(predicate.test(contact));
     }
@@ -191,7 +239,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact contact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(property));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(property));
 
         assertFalse(predicate.test(contact));
     }
@@ -206,7 +254,7 @@ public class AssociatedWithPropertyPredicateTest {
         Contact unrelatedContact = new ContactBuilderUtil().withUuid(CONTACT_UUID_1.getValue()).build();
 
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of(unrelatedProperty));
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf(unrelatedProperty));
 
         assertFalse(predicate.test(unrelatedContact));
     }
@@ -214,10 +262,21 @@ public class AssociatedWithPropertyPredicateTest {
     @Test
     public void toString_containsUuid() {
         AssociatedWithPropertyPredicate predicate =
-                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, List.of());
+                new AssociatedWithPropertyPredicate(PROPERTY_UUID_1, graphOf());
 
         String result = predicate.toString();
 
         assertTrue(result.contains(PROPERTY_UUID_1.toString()));
     }
+
+    /**
+     * Returns a link graph of the links recorded by {@code properties}.
+     */
+    private static LinkGraph graphOf(Property... properties) {
+        LinkGraph linkGraph = new LinkGraph();
+        for (Property property : properties) {
+            linkGraph.addProperty(property);
+        }
+        return linkGraph;
+    }
 }
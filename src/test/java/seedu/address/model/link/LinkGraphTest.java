@@ -0,0 +1,118 @@
+package seedu.address.model.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Property;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class LinkGraphTest {
+
+    private static final Uuid CONTACT_ONE = Uuid.of(1, CONTACT);
+    private static final Uuid CONTACT_TWO = Uuid.of(2, CONTACT);
+    private static final Uuid CONTACT_THREE = Uuid.of(3, CONTACT);
+
+    private final Property alpha = new PropertyBuilderUtil(PROPERTY_ALPHA)
+            .withBuyingContactIds(1, 2).withSellingContactIds(3).withOwner("1").build();
+    private final Property beta = new PropertyBuilderUtil(PROPERTY_BETA)
+            .withBuyingContactIds(2).withSellingContactIds().build();
+
+    private LinkGraph linkGraph;
+
+    @BeforeEach
+    public void setUp() {
+        linkGraph = new LinkGraph();
+    }
+
+    @Test
+    public void addProperty_nullProperty_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> linkGraph.addProperty(null));
+    }
+
+    @Test
+    public void addProperty_linkedProperty_indexesBothDirections() {
+        linkGraph.addProperty(alpha);
+
+        assertTrue(linkGraph.hasLink(CONTACT_ONE, alpha.getUuid(), LinkType.BUYER));
+        assertTrue(linkGraph.hasLink(CONTACT_ONE, alpha.getUuid(), LinkType.OWNER));
+        assertTrue(linkGraph.hasLink(CONTACT_THREE, alpha.getUuid(), LinkType.SELLER));
+        assertFalse(linkGraph.hasLink(CONTACT_THREE, alpha.getUuid(), LinkType.BUYER));
+
+        assertEquals(Set.of(CONTACT_ONE, CONTACT_TWO, CONTACT_THREE), linkGraph.getContactIds(alpha.getUuid()));
+        assertEquals(Set.of(CONTACT_ONE, CONTACT_TWO), linkGraph.getContactIds(alpha.getUuid(), LinkType.BUYER));
+        assertEquals(Set.of(alpha.getUuid()), linkGraph.getPropertyIds(CONTACT_ONE));
+        assertEquals(Set.of(alpha.getUuid()), linkGraph.getPropertyIds(CONTACT_ONE, LinkType.OWNER));
+    }
+
+    @Test
+    public void addProperty_nonNumericOwner_ownerNotLinked() {
+        linkGraph.addProperty(PROPERTY_ALPHA);
+
+        assertTrue(linkGraph.getContactIds(PROPERTY_ALPHA.getUuid()).isEmpty());
+    }
+
+    @Test
+    public void isLinked_anyRelationship_returnsTrue() {
+        linkGraph.addProperty(alpha);
+
+        assertTrue(linkGraph.isLinked(CONTACT_ONE, alpha.getUuid()));
+        assertTrue(linkGraph.isLinked(CONTACT_THREE, alpha.getUuid()));
+        assertFalse(linkGraph.isLinked(CONTACT_TWO, beta.getUuid()));
+
+        linkGraph.removeProperty(alpha);
+        assertFalse(linkGraph.isLinked(CONTACT_ONE, alpha.getUuid()));
+    }
+
+    @Test
+    public void getPropertyIds_contactLinkedToSeveralProperties_returnsAll() {
+        linkGraph.addProperty(alpha);
+        linkGraph.addProperty(beta);
+
+        assertEquals(Set.of(alpha.getUuid(), beta.getUuid()), linkGraph.getPropertyIds(CONTACT_TWO));
+        assertEquals(Set.of(alpha.getUuid(), beta.getUuid()), linkGraph.getPropertyIds(CONTACT_TWO, LinkType.BUYER));
+        assertTrue(linkGraph.getPropertyIds(CONTACT_TWO, LinkType.SELLER).isEmpty());
+    }
+
+    @Test
+    public void removeProperty_linkedProperty_removesOnlyItsLinks() {
+        linkGraph.addProperty(alpha);
+        linkGraph.addProperty(beta);
+        linkGraph.removeProperty(alpha);
+
+        assertTrue(linkGraph.getContactIds(alpha.getUuid()).isEmpty());
+        assertTrue(linkGraph.getPropertyIds(CONTACT_ONE).isEmpty());
+        assertEquals(Set.of(beta.getUuid()), linkGraph.getPropertyIds(CONTACT_TWO));
+    }
+
+    @Test
+    public void getContactIds_unknownProperty_returnsEmptySet() {
+        assertTrue(linkGraph.getContactIds(Uuid.of(999, PROPERTY)).isEmpty());
+    }
+
+    @Test
+    public void getContactIds_modifySet_throwsUnsupportedOperationException() {
+        linkGraph.addProperty(alpha);
+        assertThrows(UnsupportedOperationException.class, () -> linkGraph.getContactIds(alpha.getUuid()).clear());
+    }
+
+    @Test
+    public void clear_nonEmptyGraph_removesAllLinks() {
+        linkGraph.addProperty(alpha);
+        linkGraph.clear();
+
+        assertFalse(linkGraph.hasLink(CONTACT_ONE, alpha.getUuid(), LinkType.BUYER));
+        assertTrue(linkGraph.getPropertyIds(CONTACT_ONE).isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_GAMMA;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilderUtil;
+
+class PropertyRangeIndexTest {
+
+    private UniquePropertyList uniquePropertyList;
+    private PropertyRangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        uniquePropertyList = new UniquePropertyList();
+        index = uniquePropertyList.getTable().getRangeIndex();
+    }
+
+    @Test
+    void getByPrice_sortedByPrice() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_GAMMA, PROPERTY_ALPHA, PROPERTY_BETA));
+
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA, PROPERTY_GAMMA), index.getByPrice(0, Long.MAX_VALUE));
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA), index.getByPrice(0, 500000));
+        assertEquals(List.of(PROPERTY_ALPHA), index.getByPrice(500000, 500000));
+        assertTrue(index.getByPrice(500001, 749999).isEmpty());
+        assertTrue(index.getByPrice(10, 1).isEmpty());
+    }
+
+    @Test
+    void getByPriceInListOrder_keepsListOrder() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_GAMMA, PROPERTY_ALPHA, PROPERTY_BETA));
+
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_BETA), index.getByPriceInListOrder(0, 500000));
+    }
+
+    @Test
+    void getByPrice_samePrice_tiesInListOrder() {
+        Property first = new PropertyBuilderUtil().withUuid(10).withPropertyAddress("1 Tie Road")
+                .withPrice("1000").build();
+        Property second = new PropertyBuilderUtil().withUuid(11).withPropertyAddress("2 Tie Road")
+                .withPrice("1000").build();
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.add(first);
+        uniquePropertyList.add(second);
+
+        assertEquals(List.of(first, second, PROPERTY_ALPHA), index.getByPrice(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void getByFloorArea_matchesRange() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+
+        assertEquals(List.of(PROPERTY_ALPHA), index.getByFloorArea(120, 120));
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA), index.getByFloorArea(0, 149));
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_BETA), index.getByFloorAreaInListOrder(0, 149));
+    }
+
+    @Test
+    void setProperty_reindexesEditedProperty() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA));
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, PROPERTY_ALPHA_VARIANT);
+
+        assertTrue(index.getByPrice(500000, 500000).isEmpty());
+        assertEquals(List.of(PROPERTY_ALPHA_VARIANT), index.getByPrice(510000, 510000));
+        // The edited property keeps its place in the list
+        assertEquals(List.of(PROPERTY_ALPHA_VARIANT, PROPERTY_BETA), index.getByPriceInListOrder(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void remove_property_dropsEntries() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+        uniquePropertyList.remove(PROPERTY_BETA);
+        uniquePropertyList.add(PROPERTY_BETA);
+
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_GAMMA, PROPERTY_BETA),
+                index.getByPriceInListOrder(0, Long.MAX_VALUE));
+        uniquePropertyList.remove(PROPERTY_GAMMA);
+        assertEquals(List.of(PROPERTY_ALPHA), index.getByFloorArea(100, 200));
+    }
+
+    @Test
+    void setProperties_replacesAllEntries() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA));
+        uniquePropertyList.setProperties(List.of(PROPERTY_GAMMA));
+
+        assertEquals(List.of(PROPERTY_GAMMA), index.getByPrice(0, Long.MAX_VALUE));
+        assertEquals(List.of(PROPERTY_GAMMA), index.getByFloorArea(0, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilderUtil;
+
+public class PropertyRegistryTest {
+
+    private PropertyRegistry propertyRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        propertyRegistry = new PropertyRegistry();
+    }
+
+    @Test
+    public void addProperty_nullProperty_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> propertyRegistry.addProperty(null));
+    }
+
+    @Test
+    public void addProperty_newProperty_success() {
+        propertyRegistry.addProperty(PROPERTY_ALPHA);
+        assertTrue(propertyRegistry.containsId(PROPERTY_ALPHA.getUuid().getValue()));
+        assertEquals(PROPERTY_ALPHA, propertyRegistry.getProperty(PROPERTY_ALPHA.getUuid().getValue()));
+    }
+
+    @Test
+    public void addProperty_duplicateUuid_replacesOldProperty() {
+        propertyRegistry.addProperty(PROPERTY_ALPHA);
+        Property newAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withPrice("600000").build();
+        propertyRegistry.addProperty(newAlpha);
+        assertEquals(newAlpha, propertyRegistry.getProperty(PROPERTY_ALPHA.getUuid().getValue()));
+    }
+
+    @Test
+    public void getProperty_nonExistingId_returnsNull() {
+        assertNull(propertyRegistry.getProperty(999));
+    }
+
+    @Test
+    public void containsId_nonExistingId_returnsFalse() {
+        propertyRegistry.addProperty(PROPERTY_BETA);
+        assertFalse(propertyRegistry.containsId(999));
+    }
+
+    @Test
+    public void removeProperty_existingId_removesProperty() {
+        propertyRegistry.addProperty(PROPERTY_ALPHA);
+        propertyRegistry.removeProperty(PROPERTY_ALPHA.getUuid().getValue());
+        assertFalse(propertyRegistry.containsId(PROPERTY_ALPHA.getUuid().getValue()));
+    }
+
+    @Test
+    public void clear_nonEmptyRegistry_removesAllProperties() {
+        propertyRegistry.addProperty(PROPERTY_ALPHA);
+        propertyRegistry.addProperty(PROPERTY_BETA);
+        propertyRegistry.clear();
+        assertFalse(propertyRegistry.containsId(PROPERTY_ALPHA.getUuid().getValue()));
+        assertFalse(propertyRegistry.containsId(PROPERTY_BETA.getUuid().getValue()));
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_GAMMA;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilderUtil;
+
+class PropertyTableTest {
+
+    private UniquePropertyList uniquePropertyList;
+    private PropertyTable table;
+
+    @BeforeEach
+    void setUp() {
+        uniquePropertyList = new UniquePropertyList();
+        table = uniquePropertyList.getTable();
+    }
+
+    @Test
+    void add_property_columnsHoldFields() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+
+        assertEquals(1, table.size());
+        assertSame(PROPERTY_ALPHA, table.getProperty(0));
+        assertEquals(500000, table.getPrice(0));
+        assertEquals(120, table.getFloorArea(0));
+        assertEquals(123456, table.getPostal(0));
+        assertEquals(3, table.getBedrooms(0));
+        assertEquals(2, table.getBathrooms(0));
+        assertEquals(Type.ordinalOf("hdb"), table.getTypeOrdinal(0));
+        assertEquals(Status.ordinalOf("unavailable"), table.getStatusOrdinal(0));
+        assertEquals(Listing.ordinalOf("sale"), table.getListingOrdinal(0));
+    }
+
+    @Test
+    void add_beyondInitialCapacity_keepsAllRows() {
+        for (int i = 1; i <= 40; i++) {
+            uniquePropertyList.add(new PropertyBuilderUtil().withUuid(i)
+                    .withPropertyAddress(i + " Capacity Road").withPrice(String.valueOf(i * 1000)).build());
+        }
+
+        assertEquals(40, table.size());
+        assertEquals(40000, table.getPrice(39));
+    }
+
+    @Test
+    void setProperty_replacesRow() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.add(PROPERTY_BETA);
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, PROPERTY_ALPHA_VARIANT);
+
+        assertSame(PROPERTY_ALPHA_VARIANT, table.getProperty(0));
+        assertEquals(510000, table.getPrice(0));
+        assertEquals(Listing.ordinalOf("rent"), table.getListingOrdinal(0));
+        assertSame(PROPERTY_BETA, table.getProperty(1));
+    }
+
+    @Test
+    void remove_property_shiftsLaterRows() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+        uniquePropertyList.remove(PROPERTY_BETA);
+
+        assertEquals(2, table.size());
+        assertSame(PROPERTY_ALPHA, table.getProperty(0));
+        assertSame(PROPERTY_GAMMA, table.getProperty(1));
+        assertEquals(750000, table.getPrice(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getProperty(2));
+    }
+
+    @Test
+    void getRowsWith_followsAddSetAndRemove() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+
+        assertEquals(BitSet.valueOf(new long[] {0b110}), table.getRowsWithListing(Listing.ordinalOf("rent")));
+        assertEquals(BitSet.valueOf(new long[] {0b001}), table.getRowsWithType(Type.ordinalOf("hdb")));
+        assertEquals(BitSet.valueOf(new long[] {0b111}), table.getRowsWithStatus(Status.ordinalOf("unavailable")));
+        assertEquals(BitSet.valueOf(new long[] {0b100}), table.getRowsWithBedrooms(4));
+        assertEquals(BitSet.valueOf(new long[] {0b010}), table.getRowsWithBathrooms(1));
+
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, PROPERTY_ALPHA_VARIANT);
+        assertEquals(BitSet.valueOf(new long[] {0b111}), table.getRowsWithListing(Listing.ordinalOf("rent")));
+        assertTrue(table.getRowsWithListing(Listing.ordinalOf("sale")).isEmpty());
+
+        uniquePropertyList.remove(PROPERTY_BETA);
+        assertEquals(BitSet.valueOf(new long[] {0b10}), table.getRowsWithBedrooms(4));
+        assertTrue(table.getRowsWithBathrooms(1).isEmpty());
+
+        // the removed row leaves a gap in the order keys, which must not shift the rows added after it
+        uniquePropertyList.add(PROPERTY_BETA);
+        assertEquals(BitSet.valueOf(new long[] {0b100}), table.getRowsWithBathrooms(1));
+        assertEquals(BitSet.valueOf(new long[] {0b10}), table.getRowsWithBedrooms(4));
+    }
+
+    @Test
+    void getRowsByPriceAndFloorArea_mapsIndexEntriesToRows() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+        uniquePropertyList.remove(PROPERTY_ALPHA);
+        uniquePropertyList.add(PROPERTY_ALPHA);
+
+        assertEquals(BitSet.valueOf(new long[] {0b101}), table.getRowsByPrice(0, 500000));
+        assertEquals(BitSet.valueOf(new long[] {0b010}), table.getRowsByFloorArea(150, 150));
+        assertTrue(table.getRowsByPrice(1, 0).isEmpty());
+    }
+
+    @Test
+    void estimateRows_smallTable_exactCount() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA, PROPERTY_GAMMA));
+
+        assertEquals(2, table.estimateRowsByPrice(0, 500000));
+        assertEquals(1, table.estimateRowsByFloorArea(80, 80));
+        assertEquals(0, new PropertyTable().estimateRowsByPrice(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void estimateRowsByPrice_largeTable_scalesSample() {
+        for (int i = 0; i < 1000; i++) {
+            uniquePropertyList.add(new PropertyBuilderUtil().withUuid(i + 1)
+                    .withPropertyAddress(i + " Sample Road").withPrice(String.valueOf(i + 1)).build());
+        }
+
+        long estimate = table.estimateRowsByPrice(1, 250);
+        assertTrue(estimate >= 200 && estimate <= 300, "estimate was " + estimate);
+    }
+
+    @Test
+    void setProperties_replacesAllRows() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA));
+        uniquePropertyList.setProperties(List.of(PROPERTY_GAMMA));
+
+        assertEquals(1, table.size());
+        assertSame(PROPERTY_GAMMA, table.getProperty(0));
+    }
+
+    @Test
+    void setProperties_orderKeysNotReused() {
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA));
+        uniquePropertyList.setProperties(List.of(PROPERTY_GAMMA));
+
+        assertEquals(2, table.getOrderKey(0));
+        assertFalse(table.isCurrentOrderKey(1));
+        assertTrue(table.isCurrentOrderKey(2));
+        assertFalse(table.isCurrentOrderKey(3));
+        assertEquals(0, table.getRowWithOrderKey(2));
+        assertEquals(-1, table.getRowWithOrderKey(1));
+        assertEquals(BitSet.valueOf(new long[] {0b1}), table.getRowsWithType(table.getTypeOrdinal(0)));
+    }
+}
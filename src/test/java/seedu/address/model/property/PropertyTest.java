@@ -2,6 +2,8 @@ package seedu.address.model.property;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
@@ -13,6 +15,7 @@ import java.util.HashSet;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 class PropertyTest {
 
@@ -30,7 +33,7 @@ class PropertyTest {
         assertEquals(new Status("unavailable"), property.getStatus());
         assertEquals(new Type("HDB"), property.getType());
         assertEquals(new Owner("owner123"), property.getOwner());
-        assertEquals(new Uuid(1, PROPERTY), property.getUuid());
+        assertEquals(Uuid.of(1, PROPERTY), property.getUuid());
     }
 
     @Test
@@ -62,6 +65,13 @@ class PropertyTest {
         assertFalse(property.isSameProperty(differentProperty));
     }
 
+    @Test
+    void getIdentityKey_sameAddressAndPostal_returnsSameKey() {
+        Property duplicateIdentity = new PropertyBuilderUtil(PROPERTY_ALPHA).withPrice("600000").withUuid(9).build();
+        assertEquals(PROPERTY_ALPHA.getIdentityKey(), duplicateIdentity.getIdentityKey());
+        assertNotEquals(PROPERTY_ALPHA.getIdentityKey(), PROPERTY_BETA.getIdentityKey());
+    }
+
     @Test
     void equals_sameValues_returnsTrue() {
         Property property = PROPERTY_ALPHA;
@@ -99,6 +109,13 @@ class PropertyTest {
         assertTrue(representation.contains("Price=500000"));
     }
 
+    @Test
+    public void getNormalizedFields_lowerCaseAndCached() {
+        assertEquals(PROPERTY_BETA.getPropertyAddress().toString().toLowerCase(), PROPERTY_BETA.getNormalizedAddress());
+        assertEquals("owner456", PROPERTY_BETA.getNormalizedOwner());
+        assertSame(PROPERTY_BETA.getNormalizedAddress(), PROPERTY_BETA.getNormalizedAddress());
+    }
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Property property = PROPERTY_ALPHA;
@@ -3,6 +3,7 @@ package seedu.address.model.property;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -184,6 +185,26 @@ class PropertyValueObjectsTest {
         assertFalse(type.equals(new Type("condo")));
     }
 
+    @Test
+    void of_equivalentValues_returnsSameInstance() {
+        assertSame(Type.of("hdb"), Type.of(" HDB "));
+        assertSame(Status.of("available"), Status.of("Available"));
+        assertSame(Listing.of("rent"), Listing.of("RENT"));
+        assertSame(Bedroom.of("3"), Bedroom.of(" 3"));
+        assertSame(Bathroom.of("2"), Bathroom.of("2 "));
+        assertEquals(new Type("condo"), Type.of("Condo"));
+        assertThrows(IllegalArgumentException.class, () -> Type.of("castle"));
+        assertThrows(NullPointerException.class, () -> Listing.of(null));
+    }
+
+    @Test
+    void getNumericValue_parsedOnce() {
+        assertEquals(1_000_000_000_000L, new Price("1000000000000").getNumericValue());
+        assertEquals(100000, new FloorArea(" 100000 ").getNumericValue());
+        assertEquals(20, new Bedroom("20").getNumericValue());
+        assertEquals(0, new Bathroom("0").getNumericValue());
+    }
+
     @Test
     void owner_validation() {
         assertThrows(NullPointerException.class, () -> new Owner(null));
@@ -2,17 +2,24 @@ package seedu.address.model.property;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA_VARIANT;
 import static seedu.address.testutil.TypicalProperties.PROPERTY_BETA;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.link.LinkType;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
+import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 class UniquePropertyListTest {
 
@@ -45,6 +52,22 @@ class UniquePropertyListTest {
         assertTrue(uniquePropertyList.contains(PROPERTY_ALPHA_VARIANT));
     }
 
+    @Test
+    void contains_removedProperty_returnsFalse() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.remove(PROPERTY_ALPHA);
+        assertFalse(uniquePropertyList.contains(PROPERTY_ALPHA_VARIANT));
+    }
+
+    @Test
+    void setProperty_changedIdentity_releasesOldIdentity() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, PROPERTY_BETA);
+        assertFalse(uniquePropertyList.contains(PROPERTY_ALPHA));
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        assertTrue(uniquePropertyList.contains(PROPERTY_ALPHA));
+    }
+
     @Test
     void add_nullProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePropertyList.add(null));
@@ -71,6 +94,33 @@ class UniquePropertyListTest {
                 uniquePropertyList.setProperty(PROPERTY_BETA, PROPERTY_ALPHA_VARIANT));
     }
 
+    @Test
+    void setProperties_swappedIdentities_replacesAsOneChange() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.add(PROPERTY_BETA);
+        int[] changeCount = new int[1];
+        uniquePropertyList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Property>) change -> changeCount[0]++);
+
+        uniquePropertyList.setProperties(List.of(PROPERTY_ALPHA, PROPERTY_BETA),
+                List.of(PROPERTY_BETA, PROPERTY_ALPHA));
+
+        assertEquals(List.of(PROPERTY_BETA, PROPERTY_ALPHA), uniquePropertyList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(PROPERTY_ALPHA, uniquePropertyList.getById(PROPERTY_ALPHA.getUuid()));
+        assertEquals(PROPERTY_BETA, uniquePropertyList.getTable().getProperty(0));
+    }
+
+    @Test
+    void setProperties_duplicateIdentity_replacesNothing() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.add(PROPERTY_BETA);
+
+        assertThrows(DuplicatePropertyException.class, () ->
+                uniquePropertyList.setProperties(List.of(PROPERTY_BETA), List.of(PROPERTY_ALPHA_VARIANT)));
+        assertEquals(List.of(PROPERTY_ALPHA, PROPERTY_BETA), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
     @Test
     void remove_missingProperty_throwsPropertyNotFoundException() {
         uniquePropertyList.add(PROPERTY_ALPHA);
@@ -78,6 +128,41 @@ class UniquePropertyListTest {
         assertThrows(PropertyNotFoundException.class, () -> uniquePropertyList.remove(PROPERTY_BETA));
     }
 
+    @Test
+    void getById_afterAddSetAndRemove_tracksList() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        assertEquals(PROPERTY_ALPHA, uniquePropertyList.getById(PROPERTY_ALPHA.getUuid()));
+
+        Property editedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withPrice("600000").build();
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, editedAlpha);
+        assertEquals("600000", uniquePropertyList.getById(PROPERTY_ALPHA.getUuid()).getPrice().value);
+
+        uniquePropertyList.remove(editedAlpha);
+        assertNull(uniquePropertyList.getById(PROPERTY_ALPHA.getUuid()));
+    }
+
+    @Test
+    void getById_afterSetProperties_indexesNewContents() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        uniquePropertyList.setProperties(List.of(PROPERTY_BETA));
+
+        assertNull(uniquePropertyList.getById(PROPERTY_ALPHA.getUuid()));
+        assertEquals(PROPERTY_BETA, uniquePropertyList.getById(PROPERTY_BETA.getUuid()));
+    }
+
+    @Test
+    void getLinkGraph_afterSetProperty_reflectsEditedLinks() {
+        uniquePropertyList.add(PROPERTY_ALPHA);
+        Property linkedAlpha = new PropertyBuilderUtil(PROPERTY_ALPHA).withBuyingContactIds(4).build();
+        uniquePropertyList.setProperty(PROPERTY_ALPHA, linkedAlpha);
+
+        Uuid buyerId = Uuid.of(4, Uuid.StoredItem.CONTACT);
+        assertTrue(uniquePropertyList.getLinkGraph().hasLink(buyerId, PROPERTY_ALPHA.getUuid(), LinkType.BUYER));
+
+        uniquePropertyList.remove(linkedAlpha);
+        assertTrue(uniquePropertyList.getLinkGraph().getPropertyIds(buyerId).isEmpty());
+    }
+
     @Test
     void equals_sameInstance_returnsTrue() {
         assertTrue(uniquePropertyList.equals(uniquePropertyList));
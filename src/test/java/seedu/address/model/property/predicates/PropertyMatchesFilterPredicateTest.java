@@ -1,10 +1,12 @@
 package seedu.address.model.property.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
 
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,9 +19,12 @@ import seedu.address.model.property.Postal;
 import seedu.address.model.property.Price;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.PropertyAddress;
+import seedu.address.model.property.PropertyTable;
 import seedu.address.model.property.Status;
 import seedu.address.model.property.Type;
+import seedu.address.model.property.UniquePropertyList;
 import seedu.address.model.uuid.Uuid;
+import seedu.address.testutil.PropertyBuilderUtil;
 
 
 /**
@@ -28,7 +33,7 @@ import seedu.address.model.uuid.Uuid;
 public class PropertyMatchesFilterPredicateTest {
 
     private Property condoProperty = new Property(
-            new Uuid(1, PROPERTY),
+            Uuid.of(1, PROPERTY),
             new PropertyAddress("123 Orchard Road"),
             new Bathroom("2"),
             new Bedroom("3"),
@@ -43,7 +48,7 @@ public class PropertyMatchesFilterPredicateTest {
             new HashSet<>()
     );
     private Property hdbProperty = new Property(
-            new Uuid(2, PROPERTY),
+            Uuid.of(2, PROPERTY),
             new PropertyAddress("456 Bukit Timah"),
             new Bathroom("1"),
             new Bedroom("2"),
@@ -121,6 +126,37 @@ public class PropertyMatchesFilterPredicateTest {
         assertFalse(predicate.test(condoProperty));
     }
 
+    @Test
+    public void testMatchesPriceAboveIntegerRangeSuccess() {
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withPrice("3,000,000,000").build();
+        assertTrue(predicate.test(condoProperty));
+        assertFalse(predicate.test(new PropertyBuilderUtil(condoProperty).withPrice("3000000001").build()));
+    }
+
+    @Test
+    public void testTableRow_agreesWithTestProperty() {
+        UniquePropertyList properties = new UniquePropertyList();
+        properties.setProperties(List.of(condoProperty, hdbProperty));
+        PropertyTable table = properties.getTable();
+
+        List<PropertyMatchesFilterPredicate> predicates = List.of(
+                new PropertyMatchesFilterPredicate.Builder().build(),
+                new PropertyMatchesFilterPredicate.Builder().withType("CONDO").build(),
+                new PropertyMatchesFilterPredicate.Builder().withPostal("123456").build(),
+                new PropertyMatchesFilterPredicate.Builder().withBedroom("2").withBathroom("1").build(),
+                new PropertyMatchesFilterPredicate.Builder().withFloorArea("120").build(),
+                new PropertyMatchesFilterPredicate.Builder().withPrice("500,000").build(),
+                new PropertyMatchesFilterPredicate.Builder().withStatus("Available").withListing("sale").build(),
+                new PropertyMatchesFilterPredicate.Builder().withAddress("orchard").withOwner("john").build(),
+                new PropertyMatchesFilterPredicate.Builder().withAddress("Orchard").withOwner("John").build(),
+                new PropertyMatchesFilterPredicate.Builder().withType("castle").build());
+        for (PropertyMatchesFilterPredicate predicate : predicates) {
+            for (int row = 0; row < table.size(); row++) {
+                assertEquals(predicate.test(table.getProperty(row)), predicate.test(table, row), predicate + " " + row);
+            }
+        }
+    }
+
     @Test
     public void testMatchesAddressSuccess() {
         var predicate = new PropertyMatchesFilterPredicate.Builder().withAddress("orchard").build();
@@ -128,6 +164,16 @@ public class PropertyMatchesFilterPredicateTest {
         assertFalse(predicate.test(hdbProperty));
     }
 
+    @Test
+    public void testMatchesMixedCaseAddressAndOwnerSuccess() {
+        Property kentRidgeProperty = new PropertyBuilderUtil(condoProperty)
+                .withPropertyAddress("123 Kent Ridge Road").build();
+        var predicate = new PropertyMatchesFilterPredicate.Builder().withAddress("Kent").withOwner(" JOHN ").build();
+        assertTrue(predicate.test(kentRidgeProperty));
+        assertFalse(predicate.test(condoProperty));
+        assertFalse(predicate.test(hdbProperty));
+    }
+
     @Test
     public void testMatchesMultipleCriteriaSuccess() {
         var predicate = new PropertyMatchesFilterPredicate.Builder()
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+
+    @Test
+    public void replaceAt_positions_replacesAsOneChange() {
+        list.addAll(List.of("alice", "bob", "carl", "dan"));
+        List<String> removed = new ArrayList<>();
+        int[] changeCount = new int[1];
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        List<String> replaced = list.replaceAt(new int[] {3, 0}, List.of("dave", "alicia"));
+
+        assertEquals(List.of("alicia", "bob", "carl", "dave"), list);
+        assertEquals(List.of("dan", "alice"), replaced);
+        assertEquals(1, changeCount[0]);
+        removed.sort(null);
+        assertEquals(List.of("alice", "dan"), removed);
+    }
+
+    @Test
+    public void replaceAt_positionWithoutReplacement_throwsIllegalArgumentException() {
+        list.add("alice");
+        assertThrows(IllegalArgumentException.class, () -> list.replaceAt(new int[] {0}, List.of()));
+    }
+
+    @Test
+    public void removeRange_range_removedAsOneSubChange() {
+        list.addAll(List.of("alice", "bob", "carl", "dan"));
+        List<List<String>> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.add(List.copyOf(change.getRemoved()));
+            }
+        });
+
+        list.subList(1, 3).clear();
+
+        assertEquals(List.of("alice", "dan"), list);
+        assertEquals(List.of(List.of("bob", "carl")), removed);
+    }
+
+    @Test
+    public void setAll_collection_replacesAsOneChange() {
+        list.addAll(List.of("alice", "bob", "carl"));
+        List<String> removed = new ArrayList<>();
+        int[] changeCount = new int[1];
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        list.setAll(List.of("dan", "elle"));
+
+        assertEquals(List.of("dan", "elle"), list);
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of("alice", "bob", "carl"), removed);
+    }
+}
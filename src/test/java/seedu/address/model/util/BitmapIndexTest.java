@@ -0,0 +1,76 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BitmapIndexTest {
+
+    private final BitmapIndex<String> index = new BitmapIndex<>();
+
+    @Test
+    public void getRows_unknownValue_returnsEmpty() {
+        assertTrue(index.getRows("hdb").isEmpty());
+    }
+
+    @Test
+    public void add_rowsUnderSeveralValues_indexedUnderEach() {
+        index.add("buyer", 0);
+        index.add("seller", 0);
+        index.add("buyer", 2);
+
+        assertEquals(bits(0, 2), index.getRows("buyer"));
+        assertEquals(bits(0), index.getRows("seller"));
+        assertEquals(Set.of("buyer", "seller"), index.getValues());
+    }
+
+    @Test
+    public void getRows_modifyResult_indexUnchanged() {
+        index.add("buyer", 1);
+        index.getRows("buyer").clear();
+
+        assertEquals(bits(1), index.getRows("buyer"));
+    }
+
+    @Test
+    public void countRows_followsAddAndRemove() {
+        index.add("buyer", 0);
+        index.add("buyer", 5);
+        index.remove("buyer", 0);
+
+        assertEquals(1, index.countRows("buyer"));
+        assertEquals(0, index.countRows("seller"));
+    }
+
+    @Test
+    public void remove_lastRowOfValue_dropsValue() {
+        index.add("buyer", 1);
+        index.add("seller", 1);
+        index.remove("buyer", 1);
+        index.remove("tenant", 1);
+
+        assertTrue(index.getRows("buyer").isEmpty());
+        assertEquals(Set.of("seller"), index.getValues());
+    }
+
+    @Test
+    public void clear_dropsAllRows() {
+        index.add("hdb", 0);
+        index.clear();
+
+        assertTrue(index.getValues().isEmpty());
+        assertTrue(index.getRows("hdb").isEmpty());
+    }
+
+    private static BitSet bits(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.FilterContactPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyMatchesFilterPredicate;
+import seedu.address.testutil.ContactBuilderUtil;
+import seedu.address.testutil.PropertyBuilderUtil;
+
+/**
+ * Compares the cost of testing contacts and properties with the compiled {@link FilterContactPredicate} and
+ * {@link PropertyMatchesFilterPredicate} against the previous implementations, which went through an
+ * {@code Optional} or a null check for every field on every test.
+ * This is not part of the test suite. Run it with optional arguments {@code COUNT ROUNDS}, e.g. {@code 200000 20}.
+ * Each approach is run for several rounds after a warm-up round, and the fastest round is reported.
+ */
+public class CompiledPredicateBenchmark {
+
+    private static final int DEFAULT_COUNT = 50_000;
+    private static final int DEFAULT_ROUNDS = 10;
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carl", "Daniel", "Elle", "Fiona", "George"};
+
+    /**
+     * Runs the benchmark and prints the time taken by each approach.
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        List<Contact> contacts = buildContacts(count);
+        Optional<List<String>> names = Optional.of(List.of("alice", "bob"));
+        Optional<Long> budgetMax = Optional.of(900_000L);
+        Optional<List<String>> status = Optional.of(List.of("active"));
+        FilterContactPredicate compiledContacts = new FilterContactPredicate(names, Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), budgetMax, Optional.empty(),
+                status, Optional.empty(), Optional.empty());
+        Predicate<Contact> previousContacts = new PreviousContactPredicate(names, budgetMax, status);
+        report("contacts", count, fastest(contacts, previousContacts, rounds),
+                fastest(contacts, compiledContacts, rounds));
+
+        List<Property> properties = buildProperties(count);
+        PropertyMatchesFilterPredicate compiledProperties = new PropertyMatchesFilterPredicate.Builder()
+                .withAddress("street 1").withType("hdb").withPrice("800000").withListing("sale").build();
+        Predicate<Property> previousProperties = new PreviousPropertyPredicate("street 1", "hdb", 800_000L, "sale");
+        report("properties", count, fastest(properties, previousProperties, rounds),
+                fastest(properties, compiledProperties, rounds));
+    }
+
+    private static void report(String label, int count, long previousNanos, long compiledNanos) {
+        System.out.printf("%,d %s%n", count, label);
+        System.out.printf("  previous: %,d us%n", previousNanos / 1_000);
+        System.out.printf("  compiled: %,d us%n", compiledNanos / 1_000);
+        System.out.printf("  speedup:  %.1fx%n", (double) previousNanos / Math.max(compiledNanos, 1));
+    }
+
+    private static <T> long fastest(List<T> values, Predicate<T> predicate, int rounds) {
+        long expected = count(values, predicate);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            long matches = count(values, predicate);
+            best = Math.min(best, System.nanoTime() - start);
+            if (matches != expected) {
+                throw new IllegalStateException("Expected " + expected + " matches but got " + matches);
+            }
+        }
+        return best;
+    }
+
+    private static <T> long count(List<T> values, Predicate<T> predicate) {
+        long matches = 0;
+        for (T value : values) {
+            if (predicate.test(value)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static List<Contact> buildContacts(int count) {
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            contacts.add(new ContactBuilderUtil().withUuid(i)
+                    .withName(FIRST_NAMES[i % FIRST_NAMES.length] + " Benchmark")
+                    .withPhone(String.valueOf(10_000_000 + i))
+                    .withBudgetMax(String.valueOf(500_000 + (i % 10) * 100_000))
+                    .withStatus(i % 3 == 0 ? "Inactive" : "Active").build());
+        }
+        return contacts;
+    }
+
+    private static List<Property> buildProperties(int count) {
+        List<Property> properties = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            properties.add(new PropertyBuilderUtil().withUuid(i)
+                    .withPropertyAddress(i + " Benchmark Street " + (i % 20))
+                    .withPostal(String.format("%06d", i % 1_000_000))
+                    .withType(i % 2 == 0 ? "HDB" : "Condo")
+                    .withPrice(String.valueOf(400_000 + (i % 10) * 100_000))
+                    .withListing(i % 4 == 0 ? "rent" : "sale").build());
+        }
+        return properties;
+    }
+
+    /**
+     * The previous contact filter, which went through an {@code Optional} for every field on every test.
+     */
+    private static class PreviousContactPredicate implements Predicate<Contact> {
+        private final Optional<List<String>> names;
+        private final Optional<Long> budgetMax;
+        private final Optional<List<String>> status;
+
+        PreviousContactPredicate(Optional<List<String>> names, Optional<Long> budgetMax,
+                Optional<List<String>> status) {
+            this.names = names;
+            this.budgetMax = budgetMax;
+            this.status = status;
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            Optional<List<String>> absent = Optional.empty();
+            Optional<Long> noBudget = Optional.empty();
+            return names.map(list -> list.stream().anyMatch(kw -> contact.getNormalizedName().contains(kw)))
+                    .orElse(true)
+                    && absent.map(list -> list.stream().anyMatch(kw -> contact.getPhone().value.contains(kw)))
+                    .orElse(true)
+                    && absent.map(list -> list.stream().anyMatch(kw -> contact.getNormalizedEmail().contains(kw)))
+                    .orElse(true)
+                    && absent.map(list -> list.stream().anyMatch(kw -> contact.getNormalizedAddress().contains(kw)))
+                    .orElse(true)
+                    && absent.map(list -> list.stream().anyMatch(kw -> contact.getTags().stream()
+                            .anyMatch(tag -> tag.tagName.contains(kw))))
+                    .orElse(true)
+                    && noBudget.map(min -> contact.getBudgetMin().getNumericValue() >= min).orElse(true)
+                    && budgetMax.map(max -> contact.getBudgetMax().getNumericValue() <= max).orElse(true)
+                    && absent.map(list -> list.stream().anyMatch(kw -> contact.getNormalizedNotes().contains(kw)))
+                    .orElse(true)
+                    && status.map(list -> list.contains(contact.getNormalizedStatus())).orElse(true);
+        }
+    }
+
+    /**
+     * The previous property filter, which checked every field for null and compared categories as strings.
+     */
+    private static class PreviousPropertyPredicate implements Predicate<Property> {
+        private final String address;
+        private final String postal = null;
+        private final String type;
+        private final String bedroom = null;
+        private final String bathroom = null;
+        private final String floorarea = null;
+        private final String price;
+        private final long maxPrice;
+        private final String status = null;
+        private final String owner = null;
+        private final String listing;
+
+        PreviousPropertyPredicate(String address, String type, long maxPrice, String listing) {
+            this.address = address;
+            this.type = type;
+            this.price = String.valueOf(maxPrice);
+            this.maxPrice = maxPrice;
+            this.listing = listing;
+        }
+
+        @Override
+        public boolean test(Property p) {
+            if (address != null && !p.getNormalizedAddress().contains(address)) {
+                return false;
+            }
+            if (postal != null && !p.getPostal().toString().equals(postal)) {
+                return false;
+            }
+            if (type != null && !p.getType().toString().equalsIgnoreCase(type)) {
+                return false;
+            }
+            if (bedroom != null && p.getBedroom().getNumericValue() != Long.parseLong(bedroom)) {
+                return false;
+            }
+            if (bathroom != null && p.getBathroom().getNumericValue() != Long.parseLong(bathroom)) {
+                return false;
+            }
+            if (floorarea != null && p.getFloorArea().getNumericValue() != Long.parseLong(floorarea)) {
+                return false;
+            }
+            if (price != null && p.getPrice().getNumericValue() > maxPrice) {
+                return false;
+            }
+            if (status != null && !p.getStatus().toString().equalsIgnoreCase(status)) {
+                return false;
+            }
+            if (owner != null && !p.getNormalizedOwner().contains(owner)) {
+                return false;
+            }
+            return listing == null || p.getListing().toString().equalsIgnoreCase(listing);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledPredicateTest {
+
+    @Test
+    public void build_noChecks_passesEverything() {
+        CompiledPredicate<String> predicate = new CompiledPredicate.Builder<String>().build();
+
+        assertEquals(0, predicate.getCheckCount());
+        assertTrue(predicate.test("anything"));
+    }
+
+    @Test
+    public void build_nullKeys_checkLeftOut() {
+        CompiledPredicate<String> predicate = new CompiledPredicate.Builder<String>()
+                .containsAny(s -> s, null)
+                .equalsAny(s -> s, null)
+                .build();
+
+        assertEquals(0, predicate.getCheckCount());
+    }
+
+    @Test
+    public void containsAny_singleAndSeveralKeys() {
+        CompiledPredicate<String> single = new CompiledPredicate.Builder<String>()
+                .containsAny(s -> s, List.of("ali"))
+                .build();
+        CompiledPredicate<String> several = new CompiledPredicate.Builder<String>()
+                .containsAny(s -> s, List.of("bob", "ali"))
+                .build();
+
+        assertTrue(single.test("alice"));
+        assertFalse(single.test("bob"));
+        assertTrue(several.test("alice"));
+        assertTrue(several.test("bobby"));
+        assertFalse(several.test("carl"));
+    }
+
+    @Test
+    public void equalsAny_matchesWholeValueOnly() {
+        CompiledPredicate<String> predicate = new CompiledPredicate.Builder<String>()
+                .equalsAny(s -> s, List.of("active", "pending"))
+                .build();
+
+        assertTrue(predicate.test("active"));
+        assertTrue(predicate.test("pending"));
+        assertFalse(predicate.test("inactive"));
+    }
+
+    @Test
+    public void numericChecks_allMustPass() {
+        CompiledPredicate<String> predicate = new CompiledPredicate.Builder<String>()
+                .atLeast(String::length, 2)
+                .atMost(String::length, 4)
+                .build();
+
+        assertEquals(2, predicate.getCheckCount());
+        assertFalse(predicate.test("a"));
+        assertTrue(predicate.test("ab"));
+        assertTrue(predicate.test("abcd"));
+        assertFalse(predicate.test("abcde"));
+        assertTrue(new CompiledPredicate.Builder<String>().equalTo(String::length, 3).build().test("abc"));
+    }
+
+    @Test
+    public void never_passesNothing() {
+        assertFalse(new CompiledPredicate.Builder<String>().never().build().test(""));
+    }
+}
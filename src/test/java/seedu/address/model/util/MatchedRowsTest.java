@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class MatchedRowsTest {
+
+    private final AtomicInteger tests = new AtomicInteger();
+
+    /**
+     * Returns the matches among rows 0 to 99 that are even, counting the rows tested.
+     */
+    private MatchedRows evenRows() {
+        BitSet candidateRows = new BitSet();
+        candidateRows.set(0, 100);
+        return new MatchedRows(candidateRows, row -> {
+            tests.incrementAndGet();
+            return row % 2 == 0;
+        });
+    }
+
+    @Test
+    public void findUpTo_stopsOnceEnoughMatchesFound() {
+        MatchedRows rows = evenRows();
+
+        assertEquals(3, rows.findUpTo(3));
+        assertEquals(5, tests.get());
+        assertEquals(4, rows.get(2));
+
+        // A later search resumes where the last one stopped
+        assertEquals(4, rows.findUpTo(4));
+        assertEquals(7, tests.get());
+        assertEquals(4, rows.findUpTo(2));
+        assertEquals(7, tests.get());
+    }
+
+    @Test
+    public void findAll_testsEveryCandidateOnce() {
+        MatchedRows rows = evenRows();
+        rows.findUpTo(10);
+
+        assertEquals(50, rows.findAll());
+        assertEquals(50, rows.findUpTo(60));
+        assertEquals(100, tests.get());
+    }
+
+    @Test
+    public void indexOfFirstAtOrAfter_searchesOnlyAsFarAsRow() {
+        MatchedRows rows = evenRows();
+
+        assertEquals(5, rows.indexOfFirstAtOrAfter(9));
+        assertEquals(11, tests.get());
+        assertEquals(2, rows.indexOfFirstAtOrAfter(4));
+        assertEquals(50, rows.indexOfFirstAtOrAfter(100));
+    }
+
+    @Test
+    public void get_notFoundYet_throwsIndexOutOfBoundsException() {
+        MatchedRows rows = evenRows();
+        rows.findUpTo(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> rows.get(1));
+    }
+}
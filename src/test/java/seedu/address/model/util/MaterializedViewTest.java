@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class MaterializedViewTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("carl", "alice", "bob");
+    private final MaterializedView<String> view = new MaterializedView<>(source);
+
+    @Test
+    public void constructor_showsSourceInOrder() {
+        assertNull(view.getOrder());
+        assertEquals(List.of("carl", "alice", "bob"), view.getItems());
+
+        source.add(1, "dan");
+        source.remove("carl");
+        source.set(0, "elle");
+        assertEquals(source, view.getItems());
+    }
+
+    @Test
+    public void getItems_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.getItems().remove(0));
+    }
+
+    @Test
+    public void setCriteria_changesTestOnlyChangedElements() {
+        List<String> tested = new ArrayList<>();
+        view.setCriteria(name -> tested.add(name) && name.startsWith("b"));
+        assertEquals(List.of("bob"), view.getItems());
+        tested.clear();
+
+        source.add(0, "bea");
+        source.set(source.indexOf("carl"), "bart");
+        source.add("zed");
+        assertEquals(List.of("bea", "bart", "bob"), view.getItems());
+        assertEquals(List.of("bea", "bart", "zed"), tested);
+
+        source.remove("bea");
+        assertEquals(List.of("bart", "bob"), view.getItems());
+        assertTrue(view.contains("bob"));
+        assertFalse(view.contains("alice"));
+    }
+
+    @Test
+    public void setResult_replacementsOfShownElementsStay() {
+        Predicate<String> startsWithB = name -> name.startsWith("b");
+        source.setAll("bart", "bea", "bob", "carl");
+        view.setResult(startsWithB, List.of(source.get(0), source.get(1)));
+        assertEquals(List.of("bart", "bea"), view.getItems());
+
+        // Matches left out of the result stay out when edited, but new matches are added
+        source.set(2, "bobby");
+        source.add("ben");
+        assertEquals(List.of("bart", "bea", "ben"), view.getItems());
+
+        // A shown element stays shown when edited only while it still passes the criteria
+        source.set(0, "barton");
+        source.set(1, "cea");
+        assertEquals(List.of("barton", "ben"), view.getItems());
+    }
+
+    @Test
+    public void setOrder_sortsAndKeepsSortedThroughChanges() {
+        view.setOrder(Comparator.naturalOrder());
+        assertEquals(List.of("alice", "bob", "carl"), view.getItems());
+
+        source.add("aaron");
+        source.addAll("zed", "bea");
+        source.remove("bob");
+        source.set(source.indexOf("carl"), "abe");
+        assertEquals(List.of("aaron", "abe", "alice", "bea", "zed"), view.getItems());
+
+        view.setOrder(null);
+        assertEquals(source, view.getItems());
+    }
+
+    @Test
+    public void setOrder_equalKeys_removesTheRightElement() {
+        String first = new String("same");
+        source.setAll(first, "other", new String("same"));
+        view.setOrder(Comparator.comparing(String::length));
+
+        source.remove(2);
+
+        assertEquals(List.of("same", "other"), view.getItems());
+        assertSame(first, view.getItems().get(0));
+    }
+
+    @Test
+    public void setOrder_withCriteria_keepsBoth() {
+        view.setCriteria(name -> !name.equals("bob"));
+        view.setOrder(Comparator.reverseOrder());
+        assertEquals(List.of("carl", "alice"), view.getItems());
+
+        source.addAll("bart", "bob");
+        assertEquals(List.of("carl", "bart", "alice"), view.getItems());
+    }
+}
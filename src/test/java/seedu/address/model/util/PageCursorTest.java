@@ -0,0 +1,54 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PageCursorTest {
+
+    @Test
+    public void constructor_negativeValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(1, -1));
+    }
+
+    @Test
+    public void isValidCursor() {
+        assertTrue(PageCursor.isValidCursor("0:0"));
+        assertTrue(PageCursor.isValidCursor("12:34"));
+        assertFalse(PageCursor.isValidCursor(""));
+        assertFalse(PageCursor.isValidCursor("12"));
+        assertFalse(PageCursor.isValidCursor("12:"));
+        assertFalse(PageCursor.isValidCursor("-1:3"));
+        assertFalse(PageCursor.isValidCursor("1:2:3"));
+        assertFalse(PageCursor.isValidCursor("1:9999999999"));
+    }
+
+    @Test
+    public void parse_roundTripsToString() {
+        PageCursor cursor = new PageCursor(12, 34);
+
+        assertEquals("12:34", cursor.toString());
+        assertEquals(cursor, PageCursor.parse(" 12:34 "));
+        assertEquals(12, cursor.getSortKey());
+        assertEquals(34, cursor.getUuid());
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("12-34"));
+        assertThrows(NullPointerException.class, () -> PageCursor.parse(null));
+    }
+
+    @Test
+    public void equals() {
+        PageCursor cursor = new PageCursor(12, 34);
+
+        assertEquals(cursor, cursor);
+        assertEquals(new PageCursor(12, 34), cursor);
+        assertEquals(new PageCursor(12, 34).hashCode(), cursor.hashCode());
+        assertNotEquals(new PageCursor(12, 35), cursor);
+        assertNotEquals(new PageCursor(13, 34), cursor);
+        assertNotEquals(null, cursor);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PostingListTest {
+
+    @Test
+    public void add_keysOutOfOrder_keptSortedAndDistinct() {
+        PostingList list = postings(7, 3, 9, 3, 1);
+
+        assertArrayEquals(new int[] {1, 3, 7, 9}, list.toArray());
+        assertEquals(4, list.size());
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(4));
+    }
+
+    @Test
+    public void add_manyKeys_growsList() {
+        PostingList list = new PostingList();
+        for (int key = 99; key >= 0; key--) {
+            list.add(key);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.toArray()[0]);
+        assertEquals(99, list.toArray()[99]);
+    }
+
+    @Test
+    public void remove_presentAndAbsentKeys_dropsOnlyPresent() {
+        PostingList list = postings(1, 3, 7);
+        list.remove(3);
+        list.remove(4);
+
+        assertArrayEquals(new int[] {1, 7}, list.toArray());
+        list.remove(1);
+        list.remove(7);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void intersect_listsOfDifferentLengths_returnsCommonKeysInOrder() {
+        PostingList shortList = postings(5, 40, 90);
+        PostingList longList = new PostingList();
+        for (int key = 0; key < 1000; key += 5) {
+            longList.add(key);
+        }
+        PostingList mediumList = postings(2, 5, 40, 41, 90, 95);
+
+        // The short list probes the long one; the medium list is merged with what is left
+        assertArrayEquals(new int[] {5, 40, 90}, PostingList.intersect(List.of(longList, mediumList, shortList)));
+        assertArrayEquals(new int[] {5, 40}, PostingList.intersect(List.of(postings(5, 40, 41), longList)));
+    }
+
+    @Test
+    public void intersect_emptyListOrNoLists_returnsNoKeys() {
+        assertArrayEquals(new int[0], PostingList.intersect(List.of(postings(1, 2), new PostingList())));
+        assertArrayEquals(new int[0], PostingList.intersect(List.of()));
+    }
+
+    @Test
+    public void estimateIntersectCost_boundedByShortestList() {
+        assertEquals(0, PostingList.estimateIntersectCost());
+        assertEquals(1000, PostingList.estimateIntersectCost(1000));
+        // Two keys probe a list of 1000 keys in 10 steps each, rather than merging with all of it
+        assertEquals(2 + 2 * 10, PostingList.estimateIntersectCost(1000, 2));
+        // Once a list is empty, nothing else is read
+        assertEquals(0, PostingList.estimateIntersectCost(1000, 0, 1000));
+    }
+
+    private static PostingList postings(int... keys) {
+        PostingList list = new PostingList();
+        for (int key : keys) {
+            list.add(key);
+        }
+        return list;
+    }
+}
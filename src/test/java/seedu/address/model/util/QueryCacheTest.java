@@ -0,0 +1,51 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final QueryCache<String> cache = new QueryCache<>(2);
+
+    private String resolve(String query, long version) {
+        return cache.get(query, version, () -> query + version + "#" + resolutions.incrementAndGet());
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache<String>(0));
+    }
+
+    @Test
+    public void get_equalQuerySameVersion_hit() {
+        assertEquals("a0#1", resolve("a", 0));
+        assertEquals("a0#1", resolve(new String("a"), 0));
+
+        assertEquals(new QueryCache.Stats(1, 1, 1, 2), cache.getStats());
+    }
+
+    @Test
+    public void get_newVersion_miss() {
+        resolve("a", 0);
+        assertEquals("a1#2", resolve("a", 1));
+
+        assertEquals(new QueryCache.Stats(0, 2, 2, 2), cache.getStats());
+    }
+
+    @Test
+    public void get_full_dropsLeastRecentlyUsed() {
+        resolve("a", 0);
+        resolve("b", 0);
+        resolve("a", 0);
+        resolve("c", 0);
+
+        assertEquals("a0#1", resolve("a", 0));
+        assertEquals("b0#4", resolve("b", 0));
+        assertEquals(2, cache.getStats().getSize());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @Test
+    public void choose_noAccesses_fullScan() {
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of());
+
+        assertTrue(plan.isFullScan());
+        assertEquals(ROW_COUNT, plan.getCandidateRows().cardinality());
+        assertEquals(ROW_COUNT, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void choose_emptyTable_fullScanOfNoRows() {
+        QueryPlan plan = QueryPlan.choose(0, List.of(bitmap("type=hdb", new BitSet(), 0)));
+
+        assertTrue(plan.isFullScan());
+        assertTrue(plan.getCandidateRows().isEmpty());
+    }
+
+    @Test
+    public void choose_selectiveBitmaps_mostSelectiveFirst() {
+        IndexAccess broad = bitmap("listing=sale", rows(0, 500), ROW_COUNT);
+        IndexAccess narrow = bitmap("type=hdb", rows(400, 600), ROW_COUNT);
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of(broad, narrow));
+
+        assertEquals(List.of(narrow, broad), plan.getAccesses());
+        assertEquals(rows(400, 500), plan.getCandidateRows());
+    }
+
+    @Test
+    public void choose_unselectiveAccess_leftToResidual() {
+        IndexAccess narrow = bitmap("type=hdb", rows(0, 10), ROW_COUNT);
+        IndexAccess everything = bitmap("status=available", rows(0, ROW_COUNT), ROW_COUNT);
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of(everything, narrow));
+
+        assertEquals(List.of(narrow), plan.getAccesses());
+        assertEquals(10, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void choose_rangeCostlierThanScan_notUsed() {
+        IndexAccess range = IndexAccess.ofRange("price<=900000", 900, ROW_COUNT, () -> {
+            throw new AssertionError("An unused access should not be looked up.");
+        });
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of(range));
+
+        assertTrue(plan.isFullScan());
+        assertEquals(ROW_COUNT, plan.getCandidateRows().cardinality());
+    }
+
+    @Test
+    public void getCandidateRows_noRowLeft_skipsRemainingLookups() {
+        IndexAccess none = bitmap("type=office", new BitSet(), ROW_COUNT);
+        IndexAccess range = new IndexAccess("price<=100", 1, 0, () -> {
+            throw new AssertionError("Lookups after an empty intersection should be skipped.");
+        });
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of(range, none));
+
+        assertFalse(plan.isFullScan());
+        assertTrue(plan.getCandidateRows().isEmpty());
+    }
+
+    @Test
+    public void choose_unchosenBitmap_notLookedUp() {
+        IndexAccess narrow = bitmap("type=hdb", rows(0, 10), ROW_COUNT);
+        IndexAccess everything = IndexAccess.ofBitmap("status=available", ROW_COUNT, ROW_COUNT, () -> {
+            throw new AssertionError("An unused access should not be looked up.");
+        });
+        QueryPlan plan = QueryPlan.choose(ROW_COUNT, List.of(everything, narrow));
+
+        assertEquals(rows(0, 10), plan.getCandidateRows());
+    }
+
+    /**
+     * Returns an access that yields {@code rows}, with an exact estimate.
+     */
+    private static IndexAccess bitmap(String description, BitSet rows, int rowCount) {
+        return IndexAccess.ofBitmap(description, rows.cardinality(), rowCount, () -> rows);
+    }
+
+    private static BitSet rows(int fromInclusive, int toExclusive) {
+        BitSet rows = new BitSet();
+        rows.set(fromInclusive, toExclusive);
+        return rows;
+    }
+}
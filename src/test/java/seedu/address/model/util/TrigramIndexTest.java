@@ -0,0 +1,100 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void getCandidateRows_keywordTooShort_returnsNull() {
+        index.add(0, "Alice Pauline");
+
+        assertNull(index.getCandidateRows("al"));
+        assertNull(index.getCandidateRows("  a  "));
+    }
+
+    @Test
+    public void getCandidateRows_ignoresCaseAndSurroundingWhitespace() {
+        index.add(0, "Alice Pauline");
+        index.add(1, "Benson Meier");
+        index.add(2, "Daniel Meier");
+
+        assertArrayEquals(rows(1, 2), index.getCandidateRows(" MEIER "));
+        assertArrayEquals(rows(0), index.getCandidateRows("ice pau"));
+        assertArrayEquals(rows(), index.getCandidateRows("xyz"));
+    }
+
+    @Test
+    public void getCandidateRows_allTrigramsPresentButNotContiguous_returnsSupersetForVerification() {
+        index.add(0, "abcd bcde");
+
+        // "abcde" is not in the text, but every trigram of it is, so the caller has to verify the row
+        assertArrayEquals(rows(0), index.getCandidateRows("abcde"));
+    }
+
+    @Test
+    public void estimateCandidateRows_boundsCandidateRows() {
+        index.add(0, "Alice Pauline");
+        index.add(1, "Alice Tan");
+        index.add(2, "Benson Tan");
+
+        assertEquals(1, index.estimateCandidateRows("pauline"));
+        assertEquals(2, index.estimateCandidateRows(" ALICE "));
+        assertEquals(0, index.estimateCandidateRows("xyz"));
+        assertEquals(-1, index.estimateCandidateRows("al"));
+    }
+
+    @Test
+    public void getCandidateRows_rowsAddedOutOfOrder_returnsRowsInOrder() {
+        index.add(5, "Alice Tan");
+        index.add(2, "Alice Pauline");
+        index.add(9, "alice");
+
+        assertArrayEquals(rows(2, 5, 9), index.getCandidateRows("alice"));
+        assertArrayEquals(rows(5), index.getCandidateRows("alice tan"));
+    }
+
+    @Test
+    public void estimateLookupCost_growsWithPostingLists() {
+        for (int row = 0; row < 100; row++) {
+            index.add(row, "Tan " + row);
+        }
+        index.add(100, "Pauline Tan");
+
+        // Each trigram is looked up once, and the rare trigrams of "pauline" bound the entries read
+        long rareCost = index.estimateLookupCost("pauline tan");
+        long commonCost = index.estimateLookupCost("tan");
+        assertEquals(1 + 101, commonCost);
+        assertTrue(rareCost < commonCost);
+        assertEquals(1, index.estimateLookupCost("xyz"));
+        assertEquals(-1, index.estimateLookupCost("ta"));
+    }
+
+    @Test
+    public void remove_text_dropsRow() {
+        index.add(0, "Alice Pauline");
+        index.add(1, "Alice Tan");
+        index.remove(0, "Alice Pauline");
+
+        assertArrayEquals(rows(1), index.getCandidateRows("alice"));
+        assertArrayEquals(rows(), index.getCandidateRows("pauline"));
+    }
+
+    @Test
+    public void clear_dropsAllRows() {
+        index.add(0, "Alice Pauline");
+        index.clear();
+
+        assertArrayEquals(rows(), index.getCandidateRows("alice"));
+    }
+
+    private static int[] rows(int... rows) {
+        return rows;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.uuid;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IdSetTest {
+
+    @Test
+    public void of_noIds_returnsSharedEmptySet() {
+        assertSame(IdSet.EMPTY, IdSet.of());
+        assertSame(IdSet.EMPTY, IdSet.of(Set.of()));
+    }
+
+    @Test
+    public void of_unsortedIdsWithRepeats_sortedAndDistinct() {
+        assertArrayEquals(new int[] {1, 3, 7}, IdSet.of(7, 1, 3, 7, 1).toArray());
+        assertEquals(3, IdSet.of(7, 1, 3, 7, 1).size());
+    }
+
+    @Test
+    public void of_uuidView_reusesBackingSet() {
+        IdSet idSet = IdSet.of(2, 4);
+        assertSame(idSet, IdSet.of(idSet.asUuidSet(CONTACT)));
+    }
+
+    @Test
+    public void contains() {
+        IdSet idSet = IdSet.of(List.of(Uuid.of(5, CONTACT), Uuid.of(2, CONTACT)));
+        assertTrue(idSet.contains(2));
+        assertTrue(idSet.contains(5));
+        assertFalse(idSet.contains(3));
+        assertFalse(IdSet.EMPTY.contains(1));
+    }
+
+    @Test
+    public void asUuidSet_equalToHashSetOfSameUuids() {
+        Set<Uuid> uuids = Set.of(Uuid.of(1, PROPERTY), Uuid.of(9, PROPERTY));
+        Set<Uuid> view = IdSet.of(uuids).asUuidSet(PROPERTY);
+
+        assertEquals(uuids, view);
+        assertEquals(view, new HashSet<>(uuids));
+        assertEquals(uuids.hashCode(), view.hashCode());
+        assertTrue(view.contains(Uuid.of(9, PROPERTY)));
+        assertFalse(view.contains(Uuid.of(9, CONTACT)));
+        assertFalse(view.contains(9));
+    }
+
+    @Test
+    public void asUuidSet_modify_throwsUnsupportedOperationException() {
+        Set<Uuid> view = IdSet.of(1, 2).asUuidSet(CONTACT);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(Uuid.of(3, CONTACT)));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(Uuid.of(1, CONTACT)));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+    }
+
+    @Test
+    public void equals() {
+        IdSet idSet = IdSet.of(1, 2);
+
+        assertTrue(idSet.equals(idSet));
+        assertTrue(idSet.equals(IdSet.of(2, 1)));
+        assertFalse(idSet.equals(null));
+        assertFalse(idSet.equals(IdSet.of(1)));
+        assertNotEquals(IdSet.EMPTY, idSet);
+    }
+}
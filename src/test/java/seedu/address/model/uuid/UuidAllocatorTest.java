@@ -0,0 +1,86 @@
+package seedu.address.model.uuid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UuidAllocatorTest {
+
+    private final UuidAllocator allocator = new UuidAllocator(CONTACT);
+
+    @Test
+    public void peekNext_emptyAllocator_returnsOne() {
+        assertEquals(Uuid.of(1, CONTACT), allocator.peekNext());
+    }
+
+    @Test
+    public void peekNext_notMarkedUsed_returnsSameUuid() {
+        assertEquals(allocator.peekNext(), allocator.peekNext());
+    }
+
+    @Test
+    public void markUsed_uuidAboveHighWaterMark_skipsGap() {
+        allocator.markUsed(Uuid.of(5, CONTACT));
+        assertEquals(Uuid.of(6, CONTACT), allocator.peekNext());
+
+        // lower IDs do not lower the mark
+        allocator.markUsed(Uuid.of(2, CONTACT));
+        assertEquals(6, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void markUsed_null_ignored() {
+        allocator.markUsed(null);
+        assertEquals(1, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void markUsed_largestUuid_noMoreUuids() {
+        allocator.markUsed(Uuid.of(Integer.MAX_VALUE, CONTACT));
+        assertThrows(IllegalStateException.class, UuidAllocator.MESSAGE_UUIDS_EXHAUSTED, allocator::peekNext);
+        assertEquals(Integer.MAX_VALUE, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void reserve_validCount_returnsFirstOfBlock() {
+        allocator.markUsed(Uuid.of(4, CONTACT));
+        assertEquals(Uuid.of(5, CONTACT), allocator.reserve(3));
+        assertEquals(Uuid.of(8, CONTACT), allocator.peekNext());
+        assertEquals(Uuid.of(8, CONTACT), allocator.reserve(1));
+        assertEquals(9, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void reserve_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, UuidAllocator.MESSAGE_INVALID_RESERVATION, ()
+                -> allocator.reserve(0));
+        assertThrows(IllegalArgumentException.class, UuidAllocator.MESSAGE_INVALID_RESERVATION, ()
+                -> allocator.reserve(-1));
+    }
+
+    @Test
+    public void reserve_lastIds_exhaustsAllocator() {
+        allocator.raiseHighWaterMark(Integer.MAX_VALUE - 1);
+        assertThrows(IllegalStateException.class, UuidAllocator.MESSAGE_UUIDS_EXHAUSTED, () -> allocator.reserve(3));
+
+        assertEquals(Uuid.of(Integer.MAX_VALUE - 1, CONTACT), allocator.reserve(2));
+        assertThrows(IllegalStateException.class, UuidAllocator.MESSAGE_UUIDS_EXHAUSTED, allocator::peekNext);
+    }
+
+    @Test
+    public void raiseHighWaterMark_lowerValue_ignored() {
+        allocator.raiseHighWaterMark(8);
+        allocator.raiseHighWaterMark(3);
+        assertEquals(8, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void clear_afterUse_startsFromOne() {
+        allocator.markUsed(Uuid.of(2, CONTACT));
+        allocator.clear();
+        assertEquals(Uuid.of(1, CONTACT), allocator.peekNext());
+        assertEquals(1, allocator.getHighWaterMark());
+    }
+}
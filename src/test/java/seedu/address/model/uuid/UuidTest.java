@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.uuid.Uuid.StoredItem.CONTACT;
 import static seedu.address.model.uuid.Uuid.StoredItem.PROPERTY;
@@ -16,21 +17,9 @@ import org.junit.jupiter.api.Test;
 public class UuidTest {
 
     @Test
-    public void constructor_invalidUuid_throwsIllegalArgumentException() {
-        assertThrows(IllegalArgumentException.class, () -> new Uuid(0, CONTACT)); // zero not allowed
-        assertThrows(IllegalArgumentException.class, () -> new Uuid(-1, PROPERTY)); // negative not allowed
-    }
-
-    @Test
-    public void constructor_validUuid_success() {
-        assertDoesNotThrow(() -> new Uuid(1, CONTACT));
-        assertDoesNotThrow(() -> new Uuid(1, PROPERTY));
-    }
-
-    @Test
-    public void constructduplicateUuid_validUuid_success() {
-        Uuid testUuid = new Uuid(1, CONTACT);
-        assertDoesNotThrow(() -> new Uuid(testUuid));
+    public void of_validUuid_success() {
+        assertDoesNotThrow(() -> Uuid.of(1, CONTACT));
+        assertDoesNotThrow(() -> Uuid.of(1, PROPERTY));
     }
 
     @Test
@@ -43,7 +32,7 @@ public class UuidTest {
 
     @Test
     public void getGuiSetDisplayAsString_validUuidSet_success() {
-        Set<Uuid> uuids = Set.of(new Uuid(1, CONTACT), new Uuid(2, CONTACT), new Uuid(3, CONTACT));
+        Set<Uuid> uuids = Set.of(Uuid.of(1, CONTACT), Uuid.of(2, CONTACT), Uuid.of(3, CONTACT));
         String displayString = Uuid.getGuiSetDisplayAsString(uuids);
         String expectedString = "1, 2, 3";
         assertEquals(expectedString, displayString);
@@ -51,11 +40,30 @@ public class UuidTest {
 
     @Test
     public void equals() {
-        Uuid uuid = new Uuid(5, CONTACT);
-        assertEquals(new Uuid(5, CONTACT), uuid);
+        Uuid uuid = Uuid.of(5, CONTACT);
+        assertEquals(Uuid.of(5, CONTACT), uuid);
         assertNotEquals(null, uuid);
         assertNotEquals("string", uuid);
-        assertNotEquals(new Uuid(10, CONTACT), uuid);
-        assertNotEquals(new Uuid(5, PROPERTY), uuid);
+        assertNotEquals(Uuid.of(10, CONTACT), uuid);
+        assertNotEquals(Uuid.of(5, PROPERTY), uuid);
+    }
+
+    @Test
+    public void of_sameValueAndType_returnsSameInstance() {
+        assertSame(Uuid.of(5, CONTACT), Uuid.of(5, CONTACT));
+        assertNotEquals(Uuid.of(5, PROPERTY), Uuid.of(5, CONTACT));
+    }
+
+    @Test
+    public void of_largeValue_returnsEqualUuid() {
+        Uuid uuid = Uuid.of(Integer.MAX_VALUE, PROPERTY);
+        assertEquals(uuid, Uuid.of(Integer.MAX_VALUE, PROPERTY));
+        assertEquals(Integer.MAX_VALUE, uuid.getValue());
+    }
+
+    @Test
+    public void of_invalidUuid_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Uuid.of(0, CONTACT)); // zero not allowed
+        assertThrows(IllegalArgumentException.class, () -> Uuid.of(-1, PROPERTY)); // negative not allowed
     }
 }
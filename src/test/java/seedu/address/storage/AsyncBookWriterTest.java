@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.PROPERTY_ALPHA;
+import static seedu.address.testutil.TypicalProperties.getTypicalPropertyBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookData;
+import seedu.address.model.PropertyBook;
+
+public class AsyncBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<List<?>> writtenContactLists = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+
+    @Test
+    public void save_burstWhileWriting_writtenOnceWithLatestData() throws Exception {
+        AsyncBookWriter writer = new AsyncBookWriter(createStorage(), e -> { });
+        AddressBook addressBook = new AddressBook();
+        PropertyBook propertyBook = getTypicalPropertyBook();
+
+        writer.save(addressBook, propertyBook);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addContact(ALICE);
+        writer.save(addressBook, propertyBook);
+        addressBook.addContact(BENSON);
+        writer.save(addressBook, propertyBook);
+        firstWriteAllowed.countDown();
+        writer.flush();
+
+        assertEquals(List.of(List.of(), List.of(ALICE, BENSON)), writtenContactLists);
+    }
+
+    @Test
+    public void save_bookChangedAfterSave_writesSnapshot() throws Exception {
+        firstWriteAllowed.countDown();
+        AsyncBookWriter writer = new AsyncBookWriter(createStorage(), e -> { });
+        AddressBook addressBook = getTypicalAddressBook();
+        List<?> savedContacts = List.copyOf(addressBook.getContactList());
+
+        writer.save(addressBook, getTypicalPropertyBook());
+        addressBook.removeContact(ALICE);
+        writer.flush();
+
+        assertEquals(savedContacts, writtenContactLists.get(0));
+    }
+
+    @Test
+    public void save_unchangedBook_notWrittenAgain() throws Exception {
+        firstWriteAllowed.countDown();
+        AsyncBookWriter writer = new AsyncBookWriter(createStorage(), e -> { });
+        AddressBook addressBook = getTypicalAddressBook();
+        PropertyBook propertyBook = new PropertyBook();
+
+        writer.save(addressBook, propertyBook);
+        propertyBook.addProperty(PROPERTY_ALPHA);
+        writer.flush();
+        writer.save(addressBook, propertyBook);
+        writer.flush();
+
+        assertEquals(1, writtenContactLists.size());
+        assertEquals(List.of(PROPERTY_ALPHA),
+                new JsonPropertyBookStorage(testFolder.resolve("pb")).readPropertyBook().get().getPropertyList());
+    }
+
+    @Test
+    public void saveNow_lastWriteFailed_writtenAgain() throws Exception {
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        AsyncBookWriter writer = new AsyncBookWriter(createStorageFailingFirstWrite(), failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        PropertyBook propertyBook = new PropertyBook();
+        writer.markSaved(propertyBook);
+
+        writer.save(addressBook, propertyBook);
+        writer.flush();
+        assertEquals(1, failures.size());
+
+        writer.saveNow(addressBook, propertyBook);
+        assertEquals(addressBook.getContactList(),
+                new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get().getContactList());
+        assertFalse(Files.exists(testFolder.resolve("pb")));
+    }
+
+    @Test
+    public void saveNow_writeFails_throwsIoException() {
+        AsyncBookWriter writer = new AsyncBookWriter(createStorageFailingFirstWrite(), e -> { });
+
+        assertThrows(IOException.class, () -> writer.saveNow(getTypicalAddressBook(), new PropertyBook()));
+    }
+
+    /**
+     * Returns a storage whose first address book write fails.
+     */
+    private StorageManager createStorageFailingFirstWrite() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(AddressBookData addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("Disk full");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonPropertyBookStorage(testFolder.resolve("pb")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    /**
+     * Returns a storage that records the contacts it writes, and holds up the first write until it is allowed.
+     */
+    private StorageManager createStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(AddressBookData addressBook, Path filePath) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writtenContactLists.add(List.copyOf(addressBook.getContactList()));
+            }
+        };
+        return new StorageManager(addressBookStorage, new JsonPropertyBookStorage(testFolder.resolve("pb")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+}
@@ -23,7 +23,7 @@ import seedu.address.model.uuid.Uuid;
  */
 public class ContactBuilderUtil {
 
-    public static final Uuid DEFAULT_UUID = new Uuid(1, CONTACT);
+    public static final Uuid DEFAULT_UUID = Uuid.of(1, CONTACT);
     public static final String DEFAULT_NAME = "Amy Bee";
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
@@ -68,7 +68,7 @@ public class ContactBuilderUtil {
      * Initializes the ContactBuilder with the data of {@code contactToCopy}.
      */
     public ContactBuilderUtil(Contact contactToCopy) {
-        uuid = new Uuid(contactToCopy.getUuid());
+        uuid = contactToCopy.getUuid();
         name = new Name(contactToCopy.getName().fullName);
         phone = new Phone(contactToCopy.getPhone().value);
         email = new Email(contactToCopy.getEmail().value);
@@ -86,7 +86,7 @@ public class ContactBuilderUtil {
      * Sets the {@code uuid} of the {@code Contact} that we are building.
      */
     public ContactBuilderUtil withUuid(int uuid) {
-        this.uuid = new Uuid(uuid, CONTACT);
+        this.uuid = Uuid.of(uuid, CONTACT);
         return this;
     }
 
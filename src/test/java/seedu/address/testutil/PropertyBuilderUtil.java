@@ -25,7 +25,7 @@ import seedu.address.model.uuid.Uuid;
  */
 public class PropertyBuilderUtil {
 
-    public static final Uuid DEFAULT_ID = new Uuid(1, PROPERTY);
+    public static final Uuid DEFAULT_ID = Uuid.of(1, PROPERTY);
     public static final String DEFAULT_PROPERTY_ADDRESS = "123 Kent Ridge Road";
     public static final String DEFAULT_BATHROOM = "1";
     public static final String DEFAULT_BEDROOM = "2";
@@ -104,7 +104,7 @@ public class PropertyBuilderUtil {
      * Sets the {@code id} of the {@code Property} that we are building.
      */
     public PropertyBuilderUtil withUuid(int uuid) {
-        this.uuid = new Uuid(uuid, PROPERTY);
+        this.uuid = Uuid.of(uuid, PROPERTY);
         return this;
     }
 